@@ -1,9 +1,11 @@
 package com.mb.livedataservice.api.controller;
 
 import com.mb.livedataservice.data.model.Coffee;
-import com.mb.livedataservice.data.repository.CoffeeRepository;
+import com.mb.livedataservice.data.model.CoffeeCatalogSnapshot;
 import com.mb.livedataservice.enums.Size;
+import com.mb.livedataservice.service.CoffeeCatalogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -11,33 +13,46 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * Coffee catalog served from the in-memory snapshot. Every response carries the snapshot's {@code ETag} and
+ * {@code Last-Modified}, so conditional GETs are answered with {@code 304 Not Modified} until the catalog changes.
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/coffee")
 public class CoffeeController {
 
-    private final CoffeeRepository coffeeRepository;
+    private final CoffeeCatalogService coffeeCatalogService;
 
     @GetMapping
-    public List<Coffee> getAllCoffees() {
-        return coffeeRepository.findAll();
+    public ResponseEntity<List<Coffee>> getAllCoffees() {
+        return fromSnapshot(CoffeeCatalogSnapshot::getCoffees);
     }
 
     @GetMapping("/search")
-    public List<Coffee> searchCoffeesByName(@RequestParam String pattern) {
-        return coffeeRepository.findByNameContainingIgnoreCase(pattern);
+    public ResponseEntity<List<Coffee>> searchCoffeesByName(@RequestParam String pattern) {
+        return fromSnapshot(snapshot -> snapshot.findByNameContainingIgnoreCase(pattern));
     }
 
     @GetMapping("/filter")
-    public List<Coffee> getCoffeesBySizeAndPrice(@RequestParam Size size,
-                                                 @RequestParam BigDecimal minPrice) {
-        return coffeeRepository.findBySizeAndPriceGreaterThan(size, minPrice);
+    public ResponseEntity<List<Coffee>> getCoffeesBySizeAndPrice(@RequestParam Size size,
+                                                                 @RequestParam BigDecimal minPrice) {
+        return fromSnapshot(snapshot -> snapshot.findBySizeAndPriceGreaterThan(size, minPrice));
     }
 
     @GetMapping("/affordable")
-    public List<Coffee> getAffordableCoffees(@RequestParam(defaultValue = "LARGE") Size size,
-                                             @RequestParam(defaultValue = "6.00") BigDecimal maxPrice) {
-        return coffeeRepository.findAffordableCoffeesBySize(size.name(), maxPrice);
+    public ResponseEntity<List<Coffee>> getAffordableCoffees(@RequestParam(defaultValue = "LARGE") Size size,
+                                                             @RequestParam(defaultValue = "6.00") BigDecimal maxPrice) {
+        return fromSnapshot(snapshot -> snapshot.findAffordableBySize(size, maxPrice));
+    }
+
+    private ResponseEntity<List<Coffee>> fromSnapshot(Function<CoffeeCatalogSnapshot, List<Coffee>> query) {
+        CoffeeCatalogSnapshot snapshot = coffeeCatalogService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .lastModified(snapshot.getLastModified())
+                .body(query.apply(snapshot));
     }
 }
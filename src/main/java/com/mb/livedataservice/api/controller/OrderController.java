@@ -1,19 +1,41 @@
 package com.mb.livedataservice.api.controller;
 
+import com.mb.livedataservice.api.request.ApiOrderStatusBatchTransitionRequest;
+import com.mb.livedataservice.api.request.ApiOrderStatusTransitionRequest;
+import com.mb.livedataservice.api.response.ApiBatchResponse;
+import com.mb.livedataservice.data.filter.OrderExportFilter;
 import com.mb.livedataservice.data.model.Order;
 import com.mb.livedataservice.data.model.OrderItem;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.data.model.OrderWithItemsPage;
+import com.mb.livedataservice.data.repository.OrderAggregateRepository;
 import com.mb.livedataservice.data.repository.OrderItemRepository;
 import com.mb.livedataservice.data.repository.OrderRepository;
+import com.mb.livedataservice.enums.ExportFormat;
 import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.service.OrderExportService;
+import com.mb.livedataservice.service.OrderStatusService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +44,9 @@ public class OrderController {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderAggregateRepository orderAggregateRepository;
+    private final OrderExportService orderExportService;
+    private final OrderStatusService orderStatusService;
 
     @GetMapping
     public List<Order> getAllOrders() {
@@ -40,12 +65,74 @@ public class OrderController {
     }
 
     @GetMapping("/by-coffee")
-    public List<Order> getOrdersByCoffee(@RequestParam String coffeeName) {
-        return orderRepository.findOrdersByCoffeeName(coffeeName);
+    public List<Order> getOrdersByCoffee(@RequestParam String coffeeName,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return since == null ? orderRepository.findOrdersByCoffeeName(coffeeName) : orderRepository.findOrdersByCoffeeNameSince(coffeeName, since);
+    }
+
+    /**
+     * Moves the order from {@code from} to {@code to}. Fails with {@code 409} when the order is no longer in {@code from}.
+     */
+    @PatchMapping("/{orderId}/status")
+    public OrderStatusTransition transitionStatus(@PathVariable Long orderId, @Valid @RequestBody ApiOrderStatusTransitionRequest request) {
+        return orderStatusService.transition(new OrderStatusTransition(orderId, request.getFrom(), request.getTo()));
+    }
+
+    @PatchMapping("/status/batch")
+    public ApiBatchResponse<OrderStatusTransition> transitionStatuses(@RequestBody List<ApiOrderStatusBatchTransitionRequest> requests) {
+        List<OrderStatusTransition> transitions = requests.stream()
+                .map(request -> new OrderStatusTransition(request.getOrderId(), request.getFrom(), request.getTo()))
+                .toList();
+        return ApiBatchResponse.of(orderStatusService.transitionAll(transitions), Function.identity());
     }
 
     @GetMapping("/{orderId}/items")
     public List<OrderItem> getOrderItems(@PathVariable Long orderId) {
         return orderItemRepository.findOrderItemsWithCoffeeDetails(orderId);
     }
+
+    /**
+     * Orders with their items and coffee details, newest first, so clients don't have to call
+     * {@code /{orderId}/items} once per order. {@code size} is clamped to 1..100.
+     */
+    @GetMapping("/with-items")
+    public OrderWithItemsPage getOrdersWithItems(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterOrderDate,
+                                                 @RequestParam(defaultValue = "0") long afterId,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.clamp(size, 1, 100);
+        List<OrderWithItems> orders = orderAggregateRepository.findOrdersWithItems(afterOrderDate, afterId, pageSize);
+        if (orders.isEmpty() || orders.size() < pageSize) {
+            return new OrderWithItemsPage(orders, null, null);
+        }
+
+        OrderWithItems last = orders.getLast();
+        return new OrderWithItemsPage(orders, last.orderDate(), last.id());
+    }
+
+    /**
+     * Streams the matching orders, optionally with their items, as NDJSON or CSV while they are read from the database,
+     * instead of loading them into one list like {@link #getAllOrders()}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                              @RequestParam(required = false) OrderStatus status,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                              @RequestParam(defaultValue = "false") boolean withItems,
+                                                              @RequestParam(defaultValue = "false") boolean gzip) {
+        OrderExportFilter filter = new OrderExportFilter(status, from, to);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("orders." + format.getFileExtension()).build().toString());
+
+        if (!gzip) {
+            return response.body(outputStream -> orderExportService.export(filter, format, withItems, outputStream));
+        }
+
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(outputStream -> {
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024);
+            orderExportService.export(filter, format, withItems, gzipOutputStream);
+            gzipOutputStream.finish();
+        });
+    }
 }
@@ -0,0 +1,53 @@
+package com.mb.livedataservice.api.controller;
+
+import com.mb.livedataservice.data.model.CoffeeSales;
+import com.mb.livedataservice.data.model.SalesBucket;
+import com.mb.livedataservice.enums.TimeBucket;
+import com.mb.livedataservice.service.SalesRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sales")
+public class SalesController {
+
+    private final SalesRollupService salesRollupService;
+
+    @GetMapping
+    @Operation(summary = "Get revenue and quantity sold per time bucket")
+    public ResponseEntity<List<SalesBucket>> getSales(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                      @RequestParam(defaultValue = "HOUR") TimeBucket bucket) {
+        log.info("Received a request to get sales per time bucket. getSales - From: {}, To: {}, Bucket: {}", from, to, bucket);
+        return ResponseEntity.ok(salesRollupService.getSales(from, to, bucket));
+    }
+
+    @GetMapping("/top-coffees")
+    @Operation(summary = "Get top selling coffees")
+    public ResponseEntity<List<CoffeeSales>> getTopCoffees(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                           @RequestParam(defaultValue = "10") int limit) {
+        log.info("Received a request to get top selling coffees. getTopCoffees - From: {}, To: {}, Limit: {}", from, to, limit);
+        return ResponseEntity.ok(salesRollupService.getTopCoffees(from, to, Math.clamp(limit, 1, 100)));
+    }
+
+    @PostMapping("/rollups/catch-up")
+    @Operation(summary = "Rebuild sales rollups from the watermark")
+    public ResponseEntity<Integer> catchUp() {
+        log.info("Received a request to rebuild sales rollups from the watermark. catchUp.");
+        return ResponseEntity.ok(salesRollupService.catchUp());
+    }
+}
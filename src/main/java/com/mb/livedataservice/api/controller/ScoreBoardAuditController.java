@@ -0,0 +1,40 @@
+package com.mb.livedataservice.api.controller;
+
+import com.mb.livedataservice.api.response.ApiScoreBoardRevisionPageResponse;
+import com.mb.livedataservice.mapper.ScoreBoardMapper;
+import com.mb.livedataservice.service.ScoreBoardAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ScoreBoardAuditController {
+
+    private final ScoreBoardAuditService scoreBoardAuditService;
+    private final ScoreBoardMapper scoreBoardMapper;
+
+    @GetMapping("/score-boards/{id}/revisions")
+    @Operation(summary = "Get revision timeline of score board by id")
+    public ResponseEntity<ApiScoreBoardRevisionPageResponse> getScoreBoardRevisions(@PathVariable Long id,
+                                                                                    @RequestParam(defaultValue = "0") int afterRevision,
+                                                                                    @RequestParam(defaultValue = "50") int size) {
+        log.info("Received a request to get revision timeline of score board. getScoreBoardRevisions - Id: {}, AfterRevision: {}, Size: {}", id, afterRevision, size);
+        return ResponseEntity.ok(scoreBoardMapper.mapRevisionPage(scoreBoardAuditService.getScoreBoardRevisions(id, afterRevision, size)));
+    }
+
+    @GetMapping("/score-boards/revisions")
+    @Operation(summary = "Get score board changes since revision")
+    public ResponseEntity<ApiScoreBoardRevisionPageResponse> getScoreBoardRevisionsAfter(@RequestParam(defaultValue = "0") int afterRevision,
+                                                                                         @RequestParam(defaultValue = "0") long afterId,
+                                                                                         @RequestParam(defaultValue = "50") int size) {
+        log.info("Received a request to get score board changes since revision. getScoreBoardRevisionsAfter - AfterRevision: {}, AfterId: {}, Size: {}", afterRevision, afterId, size);
+        return ResponseEntity.ok(scoreBoardMapper.mapRevisionPage(scoreBoardAuditService.getScoreBoardRevisionsAfter(afterRevision, afterId, size)));
+    }
+}
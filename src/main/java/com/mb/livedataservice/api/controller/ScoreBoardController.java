@@ -1,7 +1,9 @@
 package com.mb.livedataservice.api.controller;
 
+import com.mb.livedataservice.api.request.ApiScoreBoardBatchUpdateRequest;
 import com.mb.livedataservice.api.request.ApiScoreBoardRequest;
 import com.mb.livedataservice.api.request.ApiScoreBoardUpdateRequest;
+import com.mb.livedataservice.api.response.ApiBatchResponse;
 import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
 import com.mb.livedataservice.mapper.ScoreBoardMapper;
 import com.mb.livedataservice.service.ScoreBoardService;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -37,11 +40,32 @@ public class ScoreBoardController {
         return ResponseEntity.ok(scoreBoardMapper.map(scoreBoardService.createScoreBoard(scoreBoardMapper.map(apiScoreBoardRequest))));
     }
 
+    @PostMapping("/score-boards/batch")
+    @Operation(summary = "Create score boards in batch")
+    public ResponseEntity<ApiBatchResponse<ApiScoreBoardResponse>> createScoreBoards(@RequestBody List<ApiScoreBoardRequest> apiScoreBoardRequests) {
+        log.info("Received a request to create score boards in batch. createScoreBoards - Size: {}", apiScoreBoardRequests.size());
+        return ResponseEntity.ok(ApiBatchResponse.of(scoreBoardService.createScoreBoards(scoreBoardMapper.mapRequests(apiScoreBoardRequests)), scoreBoardMapper::map));
+    }
+
+    @PutMapping("/score-boards/batch")
+    @Operation(summary = "Update score boards in batch")
+    public ResponseEntity<ApiBatchResponse<ApiScoreBoardResponse>> updateScoreBoards(@RequestBody List<ApiScoreBoardBatchUpdateRequest> apiScoreBoardBatchUpdateRequests) {
+        log.info("Received a request to update score boards in batch. updateScoreBoards - Size: {}", apiScoreBoardBatchUpdateRequests.size());
+        return ResponseEntity.ok(ApiBatchResponse.of(scoreBoardService.updateScoreBoards(scoreBoardMapper.mapBatchUpdateRequests(apiScoreBoardBatchUpdateRequests)), scoreBoardMapper::map));
+    }
+
+    @GetMapping("/score-boards/batch")
+    @Operation(summary = "Get score boards by ids")
+    public ResponseEntity<ApiBatchResponse<ApiScoreBoardResponse>> getScoreBoardsByIds(@RequestParam List<Long> ids) {
+        log.info("Received a request to get score boards by ids. getScoreBoardsByIds - Ids: {}", ids);
+        return ResponseEntity.ok(ApiBatchResponse.of(scoreBoardService.getScoreBoardsByIds(ids), scoreBoardMapper::map));
+    }
+
     @GetMapping("/score-boards")
     @Operation(summary = "Get all score board by pagination")
     public ResponseEntity<Page<ApiScoreBoardResponse>> getAllScoreBoards(Pageable pageable) {
         log.info("Received a request to get all score board by pagination. getAllScoreBoards - Pageable: {}", pageable);
-        return ResponseEntity.ok(scoreBoardMapper.map(scoreBoardService.getAllScoreBoards(pageable)));
+        return ResponseEntity.ok(scoreBoardService.getAllScoreBoardResponses(pageable));
     }
 
     @GetMapping("/score-boards/{id}")
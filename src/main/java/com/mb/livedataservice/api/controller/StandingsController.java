@@ -0,0 +1,47 @@
+package com.mb.livedataservice.api.controller;
+
+import com.mb.livedataservice.api.response.ApiTeamStandingResponse;
+import com.mb.livedataservice.mapper.TeamStandingMapper;
+import com.mb.livedataservice.service.StandingsService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class StandingsController {
+
+    private final StandingsService standingsService;
+    private final TeamStandingMapper teamStandingMapper;
+
+    @GetMapping("/standings")
+    @Operation(summary = "Get standings by pagination")
+    public ResponseEntity<List<ApiTeamStandingResponse>> getStandings(@RequestParam(defaultValue = "0") int page,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        log.info("Received a request to get standings by pagination. getStandings - Page: {}, Size: {}", page, size);
+        return ResponseEntity.ok(teamStandingMapper.map(standingsService.getStandings(Math.max(page, 0), Math.clamp(size, 1, 100))));
+    }
+
+    @GetMapping("/standings/{teamName}")
+    @Operation(summary = "Get standing of team by name")
+    public ResponseEntity<ApiTeamStandingResponse> getTeamStanding(@PathVariable String teamName) {
+        log.info("Received a request to get standing of team by name. getTeamStanding - TeamName: {}", teamName);
+        return ResponseEntity.ok(teamStandingMapper.map(standingsService.getTeamStanding(teamName)));
+    }
+
+    @PostMapping("/standings/rebuild")
+    @Operation(summary = "Rebuild standings from ended score boards")
+    public ResponseEntity<Integer> rebuildStandings() {
+        log.info("Received a request to rebuild standings. rebuildStandings.");
+        return ResponseEntity.ok(standingsService.rebuildStandings());
+    }
+}
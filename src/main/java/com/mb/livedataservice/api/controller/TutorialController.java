@@ -1,14 +1,19 @@
 package com.mb.livedataservice.api.controller;
 
 import com.mb.livedataservice.api.filter.ApiTutorialFilter;
+import com.mb.livedataservice.api.request.ApiTutorialBatchUpdateRequest;
 import com.mb.livedataservice.api.request.ApiTutorialRequest;
 import com.mb.livedataservice.api.request.ApiTutorialUpdateRequest;
+import com.mb.livedataservice.api.response.ApiBatchResponse;
+import com.mb.livedataservice.api.response.ApiBulkDeleteResponse;
 import com.mb.livedataservice.api.response.ApiTutorialResponse;
 import com.mb.livedataservice.mapper.TutorialMapper;
 import com.mb.livedataservice.service.TutorialService;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,14 +34,33 @@ public class TutorialController {
         return new ResponseEntity<>(tutorialMapper.map(tutorialService.save(tutorialMapper.map(apiTutorialRequest))), HttpStatus.CREATED);
     }
 
+    @PostMapping("/tutorials/batch")
+    public ResponseEntity<ApiBatchResponse<ApiTutorialResponse>> createTutorials(@RequestBody List<ApiTutorialRequest> apiTutorialRequests) {
+        return ResponseEntity.ok(ApiBatchResponse.of(tutorialService.saveAll(tutorialMapper.mapRequests(apiTutorialRequests)), tutorialMapper::map));
+    }
+
+    @PutMapping("/tutorials/batch")
+    public ResponseEntity<ApiBatchResponse<ApiTutorialResponse>> updateTutorials(@RequestBody List<ApiTutorialBatchUpdateRequest> apiTutorialBatchUpdateRequests) {
+        return ResponseEntity.ok(ApiBatchResponse.of(tutorialService.updateAll(tutorialMapper.mapBatchUpdateRequests(apiTutorialBatchUpdateRequests)), tutorialMapper::map));
+    }
+
+    @GetMapping("/tutorials/batch")
+    public ResponseEntity<ApiBatchResponse<ApiTutorialResponse>> getTutorialsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(ApiBatchResponse.of(tutorialService.findAllById(ids), tutorialMapper::map));
+    }
+
     @GetMapping("/tutorials/{id}")
     public ResponseEntity<ApiTutorialResponse> getTutorialById(@PathVariable("id") long id) {
         return ResponseEntity.ok(tutorialMapper.map(tutorialService.findById(id)));
     }
 
     @GetMapping("/tutorials")
-    public ResponseEntity<List<ApiTutorialResponse>> getAllTutorials(@RequestParam(required = false) String title) {
-        return ResponseEntity.ok(tutorialMapper.map(tutorialService.findByTitleContaining(title)));
+    public ResponseEntity<List<ApiTutorialResponse>> getAllTutorials(@RequestParam(required = false) String title, @PageableDefault(size = 20) Pageable pageable) {
+        if (StringUtils.isBlank(title)) {
+            return ResponseEntity.ok(tutorialService.findResponses(pageable));
+        }
+        // ranked full-text search, one page at a time
+        return ResponseEntity.ok(tutorialMapper.map(tutorialService.search(title, pageable)));
     }
 
     @PutMapping("/tutorials/{id}")
@@ -51,18 +75,25 @@ public class TutorialController {
     }
 
     @DeleteMapping("/tutorials")
-    public ResponseEntity<HttpStatus> deleteAllTutorials() {
-        tutorialService.deleteAll();
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public ResponseEntity<ApiBulkDeleteResponse> deleteAllTutorials(@RequestParam(required = false) List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ResponseEntity.ok(new ApiBulkDeleteResponse(tutorialService.deleteAll()));
+        }
+        return ResponseEntity.ok(new ApiBulkDeleteResponse(tutorialService.deleteAllById(ids)));
+    }
+
+    @DeleteMapping("/tutorials/filter")
+    public ResponseEntity<ApiBulkDeleteResponse> deleteAllTutorials(ApiTutorialFilter apiTutorialFilter) {
+        return ResponseEntity.ok(new ApiBulkDeleteResponse(tutorialService.deleteAll(tutorialMapper.map(apiTutorialFilter))));
     }
 
     @GetMapping("/tutorials/published")
     public ResponseEntity<List<ApiTutorialResponse>> findByPublished() {
-        return new ResponseEntity<>(tutorialMapper.map(tutorialService.findByPublished(true)), HttpStatus.OK);
+        return new ResponseEntity<>(tutorialService.findResponsesByPublished(true), HttpStatus.OK);
     }
 
     @GetMapping("/tutorials/filter")
     public ResponseEntity<Page<ApiTutorialResponse>> findAll(ApiTutorialFilter apiTutorialFilter, Pageable pageable) {
-        return new ResponseEntity<>(tutorialService.findAll(tutorialMapper.map(apiTutorialFilter), pageable).map(tutorialMapper::map), HttpStatus.OK);
+        return new ResponseEntity<>(tutorialService.findAllResponses(tutorialMapper.map(apiTutorialFilter), pageable), HttpStatus.OK);
     }
 }
@@ -15,5 +15,5 @@ public class ApiTutorialFilter {
 
     private String description;
 
-    private boolean published;
+    private Boolean published;
 }
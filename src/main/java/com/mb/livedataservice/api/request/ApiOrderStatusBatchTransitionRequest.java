@@ -0,0 +1,24 @@
+package com.mb.livedataservice.api.request;
+
+import com.mb.livedataservice.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiOrderStatusBatchTransitionRequest {
+
+    @Schema(example = "1")
+    private Long orderId;
+
+    @Schema(example = "PENDING")
+    private OrderStatus from;
+
+    @Schema(example = "PREPARING")
+    private OrderStatus to;
+}
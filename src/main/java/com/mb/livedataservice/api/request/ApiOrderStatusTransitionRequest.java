@@ -0,0 +1,24 @@
+package com.mb.livedataservice.api.request;
+
+import com.mb.livedataservice.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiOrderStatusTransitionRequest {
+
+    @NotNull
+    @Schema(example = "PENDING")
+    private OrderStatus from;
+
+    @NotNull
+    @Schema(example = "PREPARING")
+    private OrderStatus to;
+}
@@ -0,0 +1,31 @@
+package com.mb.livedataservice.api.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiScoreBoardBatchUpdateRequest {
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "TURKEY")
+    private String homeTeamName;
+
+    @Schema(example = "IRELAND")
+    private String awayTeamName;
+
+    @Builder.Default
+    @Schema(example = "0")
+    private int homeTeamScore = 0;
+
+    @Builder.Default
+    @Schema(example = "0")
+    private int awayTeamScore = 0;
+}
@@ -0,0 +1,21 @@
+package com.mb.livedataservice.api.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiTutorialBatchUpdateRequest {
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private boolean published;
+}
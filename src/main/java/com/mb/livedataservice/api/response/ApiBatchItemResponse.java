@@ -0,0 +1,24 @@
+package com.mb.livedataservice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiBatchItemResponse<T> {
+
+    @Schema(example = "0")
+    private int index;
+
+    private boolean success;
+
+    private T result;
+
+    @Schema(example = "NOT_FOUND")
+    private String errorCode;
+}
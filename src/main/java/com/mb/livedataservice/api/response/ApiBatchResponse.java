@@ -0,0 +1,37 @@
+package com.mb.livedataservice.api.response;
+
+import com.mb.livedataservice.data.model.BatchItemResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Per item results of a batch request, in request order. Failed items carry an error code and do not
+ * prevent the other items from being applied.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiBatchResponse<T> {
+
+    private int successCount;
+
+    private int failureCount;
+
+    private List<ApiBatchItemResponse<T>> items;
+
+    public static <S, T> ApiBatchResponse<T> of(List<BatchItemResult<S>> results, Function<S, T> mapper) {
+        List<ApiBatchItemResponse<T>> items = results.stream()
+                .map(result -> result.isSuccess()
+                        ? new ApiBatchItemResponse<>(result.index(), true, mapper.apply(result.value()), null)
+                        : new ApiBatchItemResponse<T>(result.index(), false, null, result.errorCode().getCode()))
+                .toList();
+        int successCount = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        return new ApiBatchResponse<>(successCount, results.size() - successCount, items);
+    }
+}
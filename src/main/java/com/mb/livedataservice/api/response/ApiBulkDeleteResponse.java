@@ -0,0 +1,15 @@
+package com.mb.livedataservice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiBulkDeleteResponse {
+
+    @Schema(example = "1000")
+    private long deletedCount;
+}
@@ -0,0 +1,25 @@
+package com.mb.livedataservice.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A keyset page of score board revisions. Pass {@code nextRevision}/{@code nextId} back as
+ * {@code afterRevision}/{@code afterId} to fetch the following page; an empty {@code content} marks the end.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiScoreBoardRevisionPageResponse {
+
+    private List<ApiScoreBoardRevisionResponse> content;
+
+    private Integer nextRevision;
+
+    private Long nextId;
+}
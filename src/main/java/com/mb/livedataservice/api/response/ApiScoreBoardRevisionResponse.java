@@ -0,0 +1,26 @@
+package com.mb.livedataservice.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiScoreBoardRevisionResponse {
+
+    private Long id;
+
+    private Integer revision;
+
+    private String revisionType;
+
+    private OffsetDateTime revisionDateTime;
+
+    private Map<String, Object> changes;
+}
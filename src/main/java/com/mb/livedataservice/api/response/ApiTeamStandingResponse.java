@@ -0,0 +1,36 @@
+package com.mb.livedataservice.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+public class ApiTeamStandingResponse {
+
+    @Schema(example = "1")
+    private long rank;
+
+    @Schema(example = "TURKEY")
+    private String teamName;
+
+    private long played;
+
+    private long won;
+
+    private long drawn;
+
+    private long lost;
+
+    private long goalsFor;
+
+    private long goalsAgainst;
+
+    private long goalDifference;
+
+    private long points;
+}
@@ -0,0 +1,19 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "email.attachment-store")
+public class EmailAttachmentStoreProperties {
+
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "live-data-service", "email-attachments");
+    private DataSize inlineThreshold = DataSize.ofKilobytes(64);
+    private Duration retention = Duration.ofDays(7);
+}
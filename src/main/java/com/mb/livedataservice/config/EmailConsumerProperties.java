@@ -0,0 +1,24 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "email.consumer")
+public class EmailConsumerProperties {
+
+    private String mode = "sequential";
+    private int concurrency = 16;
+    private int domainRateLimit = 10;
+    private Duration domainRateLimitPeriod = Duration.ofSeconds(1);
+    private Map<String, Integer> domainRateLimitOverrides = new HashMap<>();
+    private Duration domainPermitTimeout = Duration.ofSeconds(30);
+    private long domainRateLimiterMaximumSize = 10_000;
+    private Duration domainRateLimiterExpireAfterAccess = Duration.ofMinutes(10);
+}
@@ -0,0 +1,20 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "email.dedupe")
+public class EmailDedupeProperties {
+
+    private boolean enabled = true;
+    private Duration claimTtl = Duration.ofMinutes(2);
+    private Duration sentTtl = Duration.ofDays(7);
+    private boolean localFilterEnabled = false;
+    private int localFilterExpectedInsertions = 1_000_000;
+    private double localFilterFalsePositiveRate = 0.0001;
+}
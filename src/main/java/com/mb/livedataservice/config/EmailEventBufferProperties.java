@@ -0,0 +1,17 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "email.event-buffer")
+public class EmailEventBufferProperties {
+
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private int capacity = 10_000;
+}
@@ -0,0 +1,28 @@
+package com.mb.livedataservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mb.livedataservice.data.model.EmailTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+
+@Configuration
+public class EmailTemplateCacheConfig {
+
+    /**
+     * Active templates by code; an empty value marks a code without an active template.
+     * Local writes evict their codes on commit; the ttl bounds how long writes of other instances stay invisible.
+     */
+    @Bean
+    public Cache<String, Optional<EmailTemplate>> activeEmailTemplateCache(EmailTemplateCacheProperties emailTemplateCacheProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(emailTemplateCacheProperties.getActiveTemplateMaximumSize())
+                .expireAfter(Expiry.<String, Optional<EmailTemplate>>writing((_, emailTemplate) -> emailTemplate.isPresent()
+                        ? emailTemplateCacheProperties.getActiveTemplateTtl()
+                        : emailTemplateCacheProperties.getMissingTemplateTtl()))
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "email.template-cache")
+public class EmailTemplateCacheProperties {
+
+    private long maximumSize = 500;
+    private Duration expireAfterAccess = Duration.ofHours(1);
+    private long activeTemplateMaximumSize = 1000;
+    private Duration activeTemplateTtl = Duration.ofMinutes(10);
+    private Duration missingTemplateTtl = Duration.ofMinutes(1);
+}
@@ -8,12 +8,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListenerConfigurer;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
@@ -21,12 +27,18 @@ import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ExceptionClassifier;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJacksonJsonMessageConverter;
 import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
 import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.util.backoff.ExponentialBackOff;
 import org.springframework.util.backoff.FixedBackOff;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
@@ -41,6 +53,8 @@ import java.util.Map;
 public class KafkaConfig implements KafkaListenerConfigurer {
 
     private final LocalValidatorFactoryBean validator;
+    private final OrderIngestionProperties orderIngestionProperties;
+    private final KafkaProperties kafkaProperties;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
@@ -56,6 +70,35 @@ public class KafkaConfig implements KafkaListenerConfigurer {
 
     @Bean("emailConsumerFactory")
     public ConsumerFactory<String, Object> emailConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(emailConsumerProps());
+    }
+
+    @Bean("emailKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> emailKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(emailConsumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+
+    /**
+     * Listener container of {@code ParallelEmailEventConsumer}. Auto commit is disabled and records are acknowledged when their send completes;
+     * async acks let them complete out of order while the container still commits the offsets of each partition in order.
+     */
+    @Bean("parallelEmailKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> parallelEmailKafkaListenerContainerFactory() {
+        Map<String, Object> props = emailConsumerProps();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.remove(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    private Map<String, Object> emailConsumerProps() {
         Map<String, Object> config = new HashMap<>();
 
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -68,15 +111,7 @@ public class KafkaConfig implements KafkaListenerConfigurer {
         config.put(JacksonJsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         config.put(JacksonJsonDeserializer.TRUSTED_PACKAGES, "*");
 
-        return new DefaultKafkaConsumerFactory<>(config);
-    }
-
-    @Bean("emailKafkaListenerContainerFactory")
-    public ConcurrentKafkaListenerContainerFactory<String, Object> emailKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(emailConsumerFactory());
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
-        return factory;
+        return config;
     }
 
     @Bean
@@ -94,6 +129,61 @@ public class KafkaConfig implements KafkaListenerConfigurer {
         return factory;
     }
 
+    /**
+     * Batch listener container of the orders ingestion pipeline. Auto commit is disabled so the offsets of a batch are
+     * only committed after the listener returned, i.e. after the batch was written, see {@link #ordersErrorHandler}.
+     */
+    @Bean("ordersKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> ordersKafkaListenerContainerFactory() {
+        Map<String, Object> props = consumerProps();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.remove(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, orderIngestionProperties.getMaxPollRecords());
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setConcurrency(orderIngestionProperties.getConcurrency());
+        factory.setBatchListener(true);
+        factory.setBatchMessageConverter(new BatchMessagingMessageConverter(new ByteArrayJacksonJsonMessageConverter()));
+        factory.setCommonErrorHandler(ordersErrorHandler(new DeadLetterPublishingRecoverer(ordersDeadLetterKafkaTemplate()), orderIngestionProperties));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties().setObservationEnabled(true);
+        return factory;
+    }
+
+    /**
+     * Error handler of the orders batch listener. A failed batch, e.g. while the database is unavailable, is retried with an
+     * exponential back off and no attempt limit, so its offsets are not committed before it was written. Only records that can
+     * never be written (conversion, validation and constraint errors) are handed to the recoverer, which publishes them to
+     * {@link Topics#ORDERS_DLT}. A duplicate key is retried, since the next attempt skips the orders a concurrent batch wrote.
+     */
+    static DefaultErrorHandler ordersErrorHandler(ConsumerRecordRecoverer recoverer, OrderIngestionProperties orderIngestionProperties) {
+        ExponentialBackOff backOff = new ExponentialBackOff(orderIngestionProperties.getRetryInitialInterval().toMillis(), ExponentialBackOff.DEFAULT_MULTIPLIER);
+        backOff.setMaxInterval(orderIngestionProperties.getRetryMaxInterval().toMillis());
+
+        Map<Class<? extends Throwable>, Boolean> classifications = new HashMap<>();
+        ExceptionClassifier.defaultFatalExceptionsList().forEach(type -> classifications.put(type, false));
+        classifications.put(NullPointerException.class, false);
+        classifications.put(ValidationException.class, false);
+        classifications.put(MethodArgumentNotValidException.class, false);
+        classifications.put(DataIntegrityViolationException.class, false);
+        classifications.put(DuplicateKeyException.class, true);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.setClassifications(classifications, true);
+        return errorHandler;
+    }
+
+    /**
+     * Publishes dead letter records as they were consumed, i.e. with the raw {@code byte[]} value of the orders consumer.
+     */
+    private KafkaTemplate<String, byte[]> ordersDeadLetterKafkaTemplate() {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
     private Map<String, Object> consumerProps() {
         Map<String, Object> props = new HashMap<>();
 
@@ -125,6 +215,21 @@ public class KafkaConfig implements KafkaListenerConfigurer {
                 .build();
     }
 
+    @Bean
+    public NewTopic ordersDltTopic() {
+        // the dead letter recoverer publishes to the partition the record was consumed from
+        return TopicBuilder.name(Topics.ORDERS_DLT)
+                .partitions(6)
+                .build();
+    }
+
+    @Bean
+    public NewTopic entityChangeEventsTopic() {
+        return TopicBuilder.name(Topics.ENTITY_CHANGE_EVENTS)
+                .partitions(6)
+                .build();
+    }
+
     @Bean
     public NewTopic testTopic() {
         return new NewTopic(Topics.TEST_TOPIC, 3, (short) 1);
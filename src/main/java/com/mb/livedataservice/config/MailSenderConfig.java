@@ -0,0 +1,59 @@
+package com.mb.livedataservice.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.mail.autoconfigure.MailProperties;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
+public class MailSenderConfig {
+
+    /**
+     * Takes the place of the auto-configured mail sender, which opens a new SMTP connection per send, and is configured from the same {@code spring.mail} properties.
+     */
+    @Bean
+    public PooledJavaMailSender pooledJavaMailSender(MailProperties mailProperties, SmtpPoolProperties smtpPoolProperties, ObjectProvider<SslBundles> sslBundles) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(smtpPoolProperties);
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        String protocol = StringUtils.hasLength(mailProperties.getProtocol()) ? mailProperties.getProtocol() : "smtp";
+        MailProperties.Ssl ssl = mailProperties.getSsl();
+        if ((ssl.isEnabled() || StringUtils.hasLength(ssl.getBundle())) && ssl.isVerifyHostname()) {
+            javaMailProperties.setProperty("mail." + protocol + ".ssl.checkserveridentity", "true");
+        }
+        if (ssl.isEnabled()) {
+            javaMailProperties.setProperty("mail." + protocol + ".ssl.enable", "true");
+        }
+        if (StringUtils.hasLength(ssl.getBundle())) {
+            SslBundles bundles = sslBundles.getIfAvailable();
+            Assert.state(bundles != null, "No SSL bundles are configured for spring.mail.ssl.bundle");
+            SslBundle sslBundle = bundles.getBundle(ssl.getBundle());
+            javaMailProperties.put("mail." + protocol + ".ssl.socketFactory", sslBundle.createSslContext().getSocketFactory());
+        }
+        if (!javaMailProperties.isEmpty()) {
+            sender.setJavaMailProperties(javaMailProperties);
+        }
+        return sender;
+    }
+}
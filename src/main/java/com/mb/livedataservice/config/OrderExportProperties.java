@@ -0,0 +1,13 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "order-export")
+public class OrderExportProperties {
+
+    private int fetchSize = 1000;
+}
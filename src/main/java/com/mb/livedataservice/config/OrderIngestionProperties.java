@@ -0,0 +1,18 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "order-ingestion")
+public class OrderIngestionProperties {
+
+    private int concurrency = 6;
+    private int maxPollRecords = 500;
+    private Duration retryInitialInterval = Duration.ofSeconds(1);
+    private Duration retryMaxInterval = Duration.ofSeconds(30);
+}
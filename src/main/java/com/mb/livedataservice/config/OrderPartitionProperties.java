@@ -0,0 +1,14 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "order-partitions")
+public class OrderPartitionProperties {
+
+    private int premakeMonths = 3;
+    private int archiveAfterMonths = 24;
+}
@@ -0,0 +1,18 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    private boolean enabled;
+    private int batchSize = 500;
+    private Duration pollInterval = Duration.ofMillis(500);
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,212 @@
+package com.mb.livedataservice.config;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps SMTP connections open and reuses them, instead of connecting, greeting and authenticating for every send.
+ * <ul>
+ *     <li>at most {@code maxConnections} connections to the host are open at a time; senders wait up to {@code borrowTimeout} for one</li>
+ *     <li>a connection idle for longer than {@code validateAfterIdle} is checked with {@code NOOP} before reuse, one idle for longer than {@code maxIdle} is closed</li>
+ *     <li>a connection is closed after {@code maxMessagesPerConnection} messages, since servers limit the messages of a session</li>
+ *     <li>a message whose send fails because the connection dropped is retried once on a new connection</li>
+ * </ul>
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final SmtpPoolProperties smtpPoolProperties;
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idleTransports = new ConcurrentLinkedDeque<>();
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(SmtpPoolProperties smtpPoolProperties) {
+        this.smtpPoolProperties = smtpPoolProperties;
+        this.permits = new Semaphore(smtpPoolProperties.getMaxConnections(), true);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object @Nullable [] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport transport;
+        try {
+            transport = borrow();
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], e);
+            }
+            throw new MailSendException("Mail server connection failed", e, failedMessages);
+        }
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                try {
+                    transport.send(mimeMessages[i]);
+                } catch (Exception e) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], e);
+                }
+            }
+        } finally {
+            release(transport);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.smtp-pool.eviction-interval:30s}")
+    public void evictIdleConnections() {
+        long maxIdleNanos = smtpPoolProperties.getMaxIdle().toNanos();
+        for (PooledTransport transport : idleTransports) {
+            if (transport.idleNanos() > maxIdleNanos && idleTransports.remove(transport)) {
+                transport.close();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport transport;
+        while ((transport = idleTransports.pollFirst()) != null) {
+            transport.close();
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(smtpPoolProperties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("No SMTP connection became available within " + smtpPoolProperties.getBorrowTimeout());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+
+        try {
+            PooledTransport transport;
+            while ((transport = idleTransports.pollFirst()) != null) {
+                if (isReusable(transport)) {
+                    return transport;
+                }
+                transport.close();
+            }
+            return new PooledTransport(connectTransport());
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Most recently used connections are handed out first, so surplus connections stay idle and get evicted.
+     */
+    private void release(PooledTransport transport) {
+        try {
+            if (closed || transport.broken || transport.sentCount >= smtpPoolProperties.getMaxMessagesPerConnection()) {
+                transport.close();
+            } else {
+                idleTransports.offerFirst(transport);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean isReusable(PooledTransport transport) {
+        long idleNanos = transport.idleNanos();
+        if (idleNanos > smtpPoolProperties.getMaxIdle().toNanos()) {
+            return false;
+        }
+        // isConnected() sends NOOP on SMTP transports, so it is only worth a round trip after the connection sat idle
+        return idleNanos <= smtpPoolProperties.getValidateAfterIdle().toNanos() || transport.transport.isConnected();
+    }
+
+    private final class PooledTransport {
+
+        private Transport transport;
+        private int sentCount;
+        private boolean broken;
+        private long lastUsedNanos = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage mimeMessage) throws MessagingException {
+            if (mimeMessage.getSentDate() == null) {
+                mimeMessage.setSentDate(new Date());
+            }
+            String messageId = mimeMessage.getMessageID();
+            mimeMessage.saveChanges();
+            if (messageId != null) {
+                // preserve an explicitly specified message id, saveChanges() replaces it
+                mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+            }
+            Address[] addresses = mimeMessage.getAllRecipients();
+            Address[] recipients = addresses != null ? addresses : new Address[0];
+
+            try {
+                transport.sendMessage(mimeMessage, recipients);
+            } catch (SendFailedException e) {
+                // rejected recipients, the connection itself is still usable
+                throw e;
+            } catch (MessagingException e) {
+                if (transport.isConnected()) {
+                    throw e;
+                }
+                log.warn("SMTP connection dropped, retrying on a new connection. send - Exception: {}", ExceptionUtils.getMessage(e));
+                close();
+                try {
+                    transport = connectTransport();
+                    sentCount = 0;
+                    transport.sendMessage(mimeMessage, recipients);
+                } catch (MessagingException retryException) {
+                    broken = true;
+                    throw retryException;
+                }
+            } finally {
+                lastUsedNanos = System.nanoTime();
+            }
+            sentCount++;
+        }
+
+        private long idleNanos() {
+            return System.nanoTime() - lastUsedNanos;
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP connection. close - Exception: {}", ExceptionUtils.getMessage(e));
+            }
+        }
+    }
+}
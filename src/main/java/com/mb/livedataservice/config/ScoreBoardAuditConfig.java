@@ -0,0 +1,19 @@
+package com.mb.livedataservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "audit.score-board.mode", havingValue = "async")
+public class ScoreBoardAuditConfig {
+
+    /**
+     * Envers must not write score_board_aud itself while the outbox relay owns it.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer enversListenersDisabledCustomizer() {
+        return hibernateProperties -> hibernateProperties.put("hibernate.envers.autoRegisterListeners", false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "audit.score-board")
+public class ScoreBoardAuditProperties {
+
+    /**
+     * {@code sync} lets Envers write the audit rows in the request transaction,
+     * {@code async} writes them to the outbox and lets the relay flush them in batches.
+     */
+    private String mode = "sync";
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+}
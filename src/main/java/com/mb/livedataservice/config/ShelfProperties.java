@@ -0,0 +1,20 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "shelf")
+public class ShelfProperties {
+
+    private int bulkUpsertChunkSize = 1000;
+    private int stateCheckChunkSize = 1000;
+    private Duration stateCheckLockTtl = Duration.ofMinutes(30);
+    private int stateReadChunkSize = 1000;
+    private long stateCacheMaximumSize = 100_000;
+    private Duration stateCacheTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,22 @@
+package com.mb.livedataservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mb.livedataservice.data.model.ShelfState;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ShelfStateCacheConfig {
+
+    /**
+     * Local writes evict their products on commit; the ttl bounds how long writes of other instances stay invisible.
+     */
+    @Bean
+    public Cache<Long, ShelfState> shelfStateCache(ShelfProperties shelfProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(shelfProperties.getStateCacheMaximumSize())
+                .expireAfterWrite(shelfProperties.getStateCacheTtl())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "email.smtp-pool")
+public class SmtpPoolProperties {
+
+    private int maxConnections = 4;
+    private int maxMessagesPerConnection = 100;
+    private Duration borrowTimeout = Duration.ofSeconds(30);
+    private Duration validateAfterIdle = Duration.ofSeconds(10);
+    private Duration maxIdle = Duration.ofMinutes(1);
+}
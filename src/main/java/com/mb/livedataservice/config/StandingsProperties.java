@@ -0,0 +1,16 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "standings")
+public class StandingsProperties {
+
+    private int rebuildBatchSize = 1000;
+    private Duration rebuildLockTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,13 @@
+package com.mb.livedataservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "tutorial")
+public class TutorialProperties {
+
+    private int bulkDeleteChunkSize = 1000;
+}
@@ -0,0 +1,23 @@
+package com.mb.livedataservice.data.filter;
+
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional criteria of an order export; {@code from} is inclusive and {@code to} exclusive.
+ * <p>
+ * Validated on construction, so an invalid range is rejected before the streamed response is committed.
+ */
+public record OrderExportFilter(OrderStatus status,
+                                LocalDateTime from,
+                                LocalDateTime to) {
+
+    public OrderExportFilter {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BaseException(LiveDataErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
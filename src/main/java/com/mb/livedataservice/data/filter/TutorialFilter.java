@@ -1,14 +1,17 @@
 package com.mb.livedataservice.data.filter;
 
 import com.mb.livedataservice.data.model.QTutorial;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Locale;
+import java.util.Objects;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,19 +22,27 @@ public class TutorialFilter implements Filter {
 
     private String description;
 
-    private boolean published;
+    private Boolean published;
 
+    /**
+     * Text criteria are compared as {@code lower(column) = :value} with the value lowercased up front,
+     * so they match the {@code lower(title)} and {@code lower(description)} expression indexes exactly.
+     */
     @Override
     public Predicate toPredicate() {
         QTutorial qTutorial = QTutorial.tutorial;
-        BooleanExpression predicate = qTutorial.id.isNotNull();
+        BooleanBuilder predicate = new BooleanBuilder();
 
         if (StringUtils.isNotBlank(title)) {
-            predicate = predicate.and(qTutorial.title.equalsIgnoreCase(title));
+            predicate.and(qTutorial.title.lower().eq(title.toLowerCase(Locale.ROOT)));
         }
 
         if (StringUtils.isNotBlank(description)) {
-            predicate = predicate.and(qTutorial.description.equalsIgnoreCase(description));
+            predicate.and(qTutorial.description.lower().eq(description.toLowerCase(Locale.ROOT)));
+        }
+
+        if (Objects.nonNull(published)) {
+            predicate.and(qTutorial.published.eq(published));
         }
 
         return predicate;
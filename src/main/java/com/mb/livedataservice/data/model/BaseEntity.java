@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -27,7 +28,8 @@ public abstract class BaseEntity {
 
     @Id
     @Column(nullable = false)
-    @GeneratedValue(strategy = GenerationType.AUTO, generator = LiveDataConstants.DEFAULT_ID_GENERATOR_NAME)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = LiveDataConstants.DEFAULT_ID_GENERATOR_NAME)
+    @SequenceGenerator(name = LiveDataConstants.DEFAULT_ID_GENERATOR_NAME, sequenceName = LiveDataConstants.DEFAULT_ID_GENERATOR_NAME, allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,25 @@
+package com.mb.livedataservice.data.model;
+
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of one item of a batch operation. {@code index} is the position of the item in the request;
+ * exactly one of {@code value} and {@code errorCode} is set.
+ */
+public record BatchItemResult<T>(int index,
+                                 @Nullable T value,
+                                 @Nullable LiveDataErrorCode errorCode) {
+
+    public static <T> BatchItemResult<T> success(int index, T value) {
+        return new BatchItemResult<>(index, value, null);
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, LiveDataErrorCode errorCode) {
+        return new BatchItemResult<>(index, null, errorCode);
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,131 @@
+package com.mb.livedataservice.data.model;
+
+import com.mb.livedataservice.enums.Size;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable, indexed copy of the {@code coffee} table.
+ * <ul>
+ *     <li>size and price lookups go through a per-size {@link TreeMap} keyed by price, so they cost {@code O(log n + k)}</li>
+ *     <li>name lookups binary search a sorted array of lower-cased name suffixes, so every substring is a prefix of some suffix</li>
+ * </ul>
+ * {@code eTag} is derived from the content, so snapshots reloaded without any change keep serving the same validator.
+ */
+public final class CoffeeCatalogSnapshot {
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final List<Coffee> coffees;
+
+    @Getter
+    private final String eTag;
+
+    @Getter
+    private final Instant lastModified;
+
+    private final Map<Size, NavigableMap<BigDecimal, List<Coffee>>> coffeesBySizeAndPrice;
+    private final List<NameSuffix> nameSuffixes;
+
+    public CoffeeCatalogSnapshot(long version, List<Coffee> coffees, Instant lastModified) {
+        this.version = version;
+        this.coffees = coffees.stream().sorted(Comparator.comparing(Coffee::id)).toList();
+        this.eTag = "\"" + Integer.toHexString(this.coffees.hashCode()) + "\"";
+        this.lastModified = lastModified;
+        this.coffeesBySizeAndPrice = indexBySizeAndPrice(this.coffees);
+        this.nameSuffixes = indexNameSuffixes(this.coffees);
+    }
+
+    /**
+     * Returns a snapshot of {@code version} that keeps this snapshot's {@code lastModified} when {@code coffees} did not change.
+     */
+    public CoffeeCatalogSnapshot next(long version, List<Coffee> coffees, Instant now) {
+        CoffeeCatalogSnapshot next = new CoffeeCatalogSnapshot(version, coffees, now);
+        return next.coffees.equals(this.coffees) ? new CoffeeCatalogSnapshot(version, coffees, lastModified) : next;
+    }
+
+    /**
+     * Coffees whose name contains {@code pattern}, ignoring case, in id order.
+     */
+    public List<Coffee> findByNameContainingIgnoreCase(String pattern) {
+        String normalizedPattern = pattern.toLowerCase(Locale.ROOT);
+        Set<Coffee> matches = new LinkedHashSet<>();
+        for (int i = lowerBound(normalizedPattern); i < nameSuffixes.size() && nameSuffixes.get(i).suffix().startsWith(normalizedPattern); i++) {
+            matches.add(nameSuffixes.get(i).coffee());
+        }
+        return matches.stream().sorted(Comparator.comparing(Coffee::id)).toList();
+    }
+
+    /**
+     * Coffees of {@code size} priced above {@code minPrice}, cheapest first.
+     */
+    public List<Coffee> findBySizeAndPriceGreaterThan(Size size, BigDecimal minPrice) {
+        return flatten(coffeesBySizeAndPrice.get(size).tailMap(minPrice, false));
+    }
+
+    /**
+     * Coffees of {@code size} priced at or below {@code maxPrice}, most expensive first.
+     */
+    public List<Coffee> findAffordableBySize(Size size, BigDecimal maxPrice) {
+        return flatten(coffeesBySizeAndPrice.get(size).headMap(maxPrice, true).descendingMap());
+    }
+
+    private int lowerBound(String pattern) {
+        int low = 0;
+        int high = nameSuffixes.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (nameSuffixes.get(middle).suffix().compareTo(pattern) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Map<Size, NavigableMap<BigDecimal, List<Coffee>>> indexBySizeAndPrice(List<Coffee> coffees) {
+        Map<Size, NavigableMap<BigDecimal, List<Coffee>>> coffeesBySizeAndPrice = new EnumMap<>(Size.class);
+        for (Size size : Size.values()) {
+            coffeesBySizeAndPrice.put(size, new TreeMap<>());
+        }
+        coffees.forEach(coffee -> coffeesBySizeAndPrice.get(coffee.size()).computeIfAbsent(coffee.price(), _ -> new ArrayList<>()).add(coffee));
+        coffeesBySizeAndPrice.replaceAll((_, coffeesByPrice) -> Collections.unmodifiableNavigableMap(coffeesByPrice));
+        return Collections.unmodifiableMap(coffeesBySizeAndPrice);
+    }
+
+    private static List<NameSuffix> indexNameSuffixes(List<Coffee> coffees) {
+        List<NameSuffix> nameSuffixes = new ArrayList<>();
+        for (Coffee coffee : coffees) {
+            String name = coffee.name().toLowerCase(Locale.ROOT);
+            for (int i = 0; i <= name.length(); i++) {
+                nameSuffixes.add(new NameSuffix(name.substring(i), coffee));
+            }
+        }
+        nameSuffixes.sort(Comparator.comparing(NameSuffix::suffix));
+        return List.copyOf(nameSuffixes);
+    }
+
+    private static List<Coffee> flatten(NavigableMap<BigDecimal, List<Coffee>> coffeesByPrice) {
+        return coffeesByPrice.values().stream().flatMap(List::stream).toList();
+    }
+
+    private record NameSuffix(String suffix, Coffee coffee) {
+
+    }
+}
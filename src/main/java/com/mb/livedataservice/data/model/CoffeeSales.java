@@ -0,0 +1,16 @@
+package com.mb.livedataservice.data.model;
+
+import com.mb.livedataservice.enums.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantity and revenue of a single coffee over a time range.
+ */
+public record CoffeeSales(Long coffeeId,
+                          String coffeeName,
+                          Size coffeeSize,
+                          long quantity,
+                          BigDecimal revenue) {
+
+}
@@ -6,6 +6,7 @@ import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Table("orders")
 public record Order(@Id
@@ -14,7 +15,8 @@ public record Order(@Id
                     String customerName,
                     LocalDateTime orderDate,
                     BigDecimal totalAmount,
-                    OrderStatus status) {
+                    OrderStatus status,
+                    UUID orderUuid) {
 
     public Order {
         if (customerName == null || customerName.isBlank()) {
@@ -31,7 +33,11 @@ public record Order(@Id
         }
     }
 
+    public Order(Long id, Long customerId, String customerName, LocalDateTime orderDate, BigDecimal totalAmount, OrderStatus status) {
+        this(id, customerId, customerName, orderDate, totalAmount, status, null);
+    }
+
     public Order(Long customerId, String customerName, LocalDateTime orderDate, BigDecimal totalAmount, OrderStatus status) {
-        this(null, customerId, customerName, orderDate, totalAmount, status);
+        this(null, customerId, customerName, orderDate, totalAmount, status, null);
     }
 }
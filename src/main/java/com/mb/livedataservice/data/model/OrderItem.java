@@ -4,11 +4,13 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Table("order_items")
 public record OrderItem(@Id
                         Long id,
                         Long orderId,
+                        LocalDateTime orderDate,
                         Long coffeeId,
                         Integer quantity,
                         BigDecimal price) {
@@ -17,6 +19,9 @@ public record OrderItem(@Id
         if (orderId == null) {
             throw new IllegalArgumentException("Order ID cannot be null");
         }
+        if (orderDate == null) {
+            throw new IllegalArgumentException("Order date cannot be null");
+        }
         if (coffeeId == null) {
             throw new IllegalArgumentException("Coffee ID cannot be null");
         }
@@ -28,7 +33,7 @@ public record OrderItem(@Id
         }
     }
 
-    public OrderItem(Long orderId, Long coffeeId, Integer quantity, BigDecimal price) {
-        this(null, orderId, coffeeId, quantity, price);
+    public OrderItem(Order order, Long coffeeId, Integer quantity, BigDecimal price) {
+        this(null, order.id(), order.orderDate(), coffeeId, quantity, price);
     }
 }
@@ -0,0 +1,19 @@
+package com.mb.livedataservice.data.model;
+
+import com.mb.livedataservice.enums.OrderStatus;
+
+/**
+ * Moves the order {@code orderId} from the status {@code from} to {@code to}; only applied while the order is still in {@code from}.
+ */
+public record OrderStatusTransition(Long orderId,
+                                    OrderStatus from,
+                                    OrderStatus to) {
+
+    public boolean isComplete() {
+        return orderId != null && from != null && to != null;
+    }
+
+    public boolean isAllowed() {
+        return isComplete() && from.canTransitionTo(to);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mb.livedataservice.data.model;
+
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An {@link Order} together with its items and their coffee details, read with a single items query per page.
+ */
+public record OrderWithItems(Long id,
+                             Long customerId,
+                             String customerName,
+                             LocalDateTime orderDate,
+                             BigDecimal totalAmount,
+                             OrderStatus status,
+                             List<Item> items) {
+
+    public OrderWithItems(Order order, List<Item> items) {
+        this(order.id(), order.customerId(), order.customerName(), order.orderDate(), order.totalAmount(), order.status(), items);
+    }
+
+    public record Item(Long id,
+                       Long coffeeId,
+                       String coffeeName,
+                       Size coffeeSize,
+                       Integer quantity,
+                       BigDecimal price) {
+
+    }
+}
@@ -0,0 +1,14 @@
+package com.mb.livedataservice.data.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A keyset page of orders with their items, newest first. Pass {@code nextOrderDate}/{@code nextId} back as
+ * {@code afterOrderDate}/{@code afterId} to fetch the following page; both are {@code null} on the last page.
+ */
+public record OrderWithItemsPage(List<OrderWithItems> content,
+                                 LocalDateTime nextOrderDate,
+                                 Long nextId) {
+
+}
@@ -0,0 +1,15 @@
+package com.mb.livedataservice.data.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pending row of {@code outbox_event}; {@code payload} is the serialized Kafka message value.
+ */
+public record OutboxEvent(Long id,
+                          String aggregateType,
+                          String aggregateId,
+                          String eventType,
+                          String payload,
+                          LocalDateTime createdAt) {
+
+}
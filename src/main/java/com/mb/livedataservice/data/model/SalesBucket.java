@@ -0,0 +1,13 @@
+package com.mb.livedataservice.data.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Quantity and revenue of all coffees sold within the bucket starting at {@code bucketStart}.
+ */
+public record SalesBucket(LocalDateTime bucketStart,
+                          long quantity,
+                          BigDecimal revenue) {
+
+}
@@ -0,0 +1,19 @@
+package com.mb.livedataservice.data.model;
+
+import org.hibernate.envers.RevisionType;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * A single row of {@code score_board_aud} joined with its {@code revinfo} entry.
+ * <p>
+ * {@code changes} only holds the properties whose {@code _mod} flag is set for this revision.
+ */
+public record ScoreBoardRevision(Long id,
+                                 Integer revision,
+                                 RevisionType revisionType,
+                                 OffsetDateTime revisionDateTime,
+                                 Map<String, Object> changes) {
+
+}
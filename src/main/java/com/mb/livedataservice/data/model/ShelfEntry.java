@@ -33,7 +33,7 @@ public class ShelfEntry {
     @Id
     @Column(nullable = false)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_shelf_entry")
-    @SequenceGenerator(name = "seq_shelf_entry", sequenceName = "seq_shelf_entry", allocationSize = 1)
+    @SequenceGenerator(name = "seq_shelf_entry", sequenceName = "seq_shelf_entry", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,9 @@
+package com.mb.livedataservice.data.model;
+
+import java.time.LocalDate;
+
+/**
+ * Latest shelf entry of a product, as kept in {@code shelf_state}.
+ */
+public record ShelfState(Long productId, LocalDate startDate, boolean active) {
+}
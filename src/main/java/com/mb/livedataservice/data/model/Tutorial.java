@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.util.Objects;
@@ -19,6 +21,8 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "tutorials")
+@SQLRestriction("deleted = false")
+@SQLDelete(sql = "UPDATE tutorials SET deleted=true WHERE id=?")
 public class Tutorial extends BaseEntity {
 
     @Column(name = "title", nullable = false)
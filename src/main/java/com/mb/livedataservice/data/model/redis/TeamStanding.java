@@ -0,0 +1,16 @@
+package com.mb.livedataservice.data.model.redis;
+
+public record TeamStanding(long rank,
+                           String teamName,
+                           long played,
+                           long won,
+                           long drawn,
+                           long lost,
+                           long goalsFor,
+                           long goalsAgainst,
+                           long points) {
+
+    public long goalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+}
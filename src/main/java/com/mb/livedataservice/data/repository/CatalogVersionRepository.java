@@ -0,0 +1,25 @@
+package com.mb.livedataservice.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Objects;
+
+/**
+ * Version counters of {@code catalog_version}, bumped by a trigger on every write to the catalog table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRepository {
+
+    public static final String COFFEE = "coffee";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public long findVersion(String name) {
+        return Objects.requireNonNull(namedParameterJdbcTemplate.queryForObject("SELECT version FROM catalog_version WHERE name = :name",
+                new MapSqlParameterSource("name", name), Long.class));
+    }
+}
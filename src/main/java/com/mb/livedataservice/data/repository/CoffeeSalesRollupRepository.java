@@ -0,0 +1,159 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.CoffeeSales;
+import com.mb.livedataservice.data.model.SalesBucket;
+import com.mb.livedataservice.enums.Size;
+import com.mb.livedataservice.enums.TimeBucket;
+import com.mb.livedataservice.util.DatabaseUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-coffee, per-hour sales rollup of {@code orders}/{@code order_items} kept in {@code coffee_sales_hourly}.
+ * <p>
+ * Reads only touch the rollup, so their cost depends on the number of buckets in the range, not on the number of orders.
+ * On PostgreSQL deltas are applied with {@code INSERT ... ON CONFLICT}, which is safe under concurrent writers;
+ * elsewhere (H2) with the equivalent {@code MERGE}.
+ */
+@Repository
+public class CoffeeSalesRollupRepository {
+
+    private static final String WATERMARK_NAME = "coffee_sales_hourly";
+
+    private static final String SELECT_ORDER_DELTAS = """
+            SELECT oi.coffee_id, date_trunc('hour', o.order_date) AS bucket_start, :sign * SUM(oi.quantity) AS quantity, :sign * SUM(oi.quantity * oi.price) AS revenue
+            FROM orders o
+            INNER JOIN order_items oi ON oi.order_id = o.id AND oi.order_date = o.order_date
+            WHERE o.id IN (:orderIds)
+            GROUP BY oi.coffee_id, date_trunc('hour', o.order_date)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final boolean postgreSQL;
+
+    public CoffeeSalesRollupRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, DataSource dataSource) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.postgreSQL = DatabaseUtils.isPostgreSQL(dataSource);
+    }
+
+    /**
+     * Adds ({@code sign = 1}) or removes ({@code sign = -1}) the items of the given orders to/from their hourly buckets.
+     */
+    public int addOrders(Collection<Long> orderIds, int sign) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orderIds)
+                .addValue("sign", sign);
+
+        if (postgreSQL) {
+            return namedParameterJdbcTemplate.update("INSERT INTO coffee_sales_hourly (coffee_id, bucket_start, quantity, revenue)\n" + SELECT_ORDER_DELTAS + """
+                    ON CONFLICT (coffee_id, bucket_start)
+                    DO UPDATE SET quantity = coffee_sales_hourly.quantity + EXCLUDED.quantity,
+                                  revenue  = coffee_sales_hourly.revenue + EXCLUDED.revenue
+                    """, parameters);
+        }
+
+        return namedParameterJdbcTemplate.update("MERGE INTO coffee_sales_hourly h USING (\n" + SELECT_ORDER_DELTAS + """
+                ) d ON h.coffee_id = d.coffee_id AND h.bucket_start = d.bucket_start
+                WHEN MATCHED THEN UPDATE SET quantity = h.quantity + d.quantity, revenue = h.revenue + d.revenue
+                WHEN NOT MATCHED THEN INSERT (coffee_id, bucket_start, quantity, revenue) VALUES (d.coffee_id, d.bucket_start, d.quantity, d.revenue)
+                """, parameters);
+    }
+
+    /**
+     * Locks the watermark and, on PostgreSQL, blocks incremental writers until the calling transaction ends, then returns the watermark.
+     * Orders committed before the lock are seen by {@link #rebuildFrom(LocalDateTime)}; later ones are added on top of the rebuilt rows.
+     */
+    public LocalDateTime lockWatermark() {
+        if (postgreSQL) {
+            namedParameterJdbcTemplate.getJdbcTemplate().execute("LOCK TABLE coffee_sales_hourly IN SHARE ROW EXCLUSIVE MODE");
+        }
+        return namedParameterJdbcTemplate.queryForObject("""
+                SELECT watermark FROM rollup_watermark
+                WHERE name = :name
+                FOR UPDATE
+                """, new MapSqlParameterSource("name", WATERMARK_NAME), LocalDateTime.class);
+    }
+
+    public void updateWatermark(LocalDateTime watermark) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("name", WATERMARK_NAME)
+                .addValue("watermark", watermark);
+
+        namedParameterJdbcTemplate.update("UPDATE rollup_watermark SET watermark = :watermark WHERE name = :name", parameters);
+    }
+
+    /**
+     * Replaces every bucket starting at or after {@code from} with a fresh aggregate of the non-cancelled orders and returns the number of buckets written.
+     */
+    public int rebuildFrom(LocalDateTime from) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("from", from);
+
+        namedParameterJdbcTemplate.update("DELETE FROM coffee_sales_hourly WHERE bucket_start >= :from", parameters);
+        return namedParameterJdbcTemplate.update("""
+                INSERT INTO coffee_sales_hourly (coffee_id, bucket_start, quantity, revenue)
+                SELECT oi.coffee_id, date_trunc('hour', o.order_date), SUM(oi.quantity), SUM(oi.quantity * oi.price)
+                FROM orders o
+                INNER JOIN order_items oi ON oi.order_id = o.id AND oi.order_date = o.order_date
+                WHERE o.order_date >= :from
+                AND oi.order_date >= :from
+                AND o.status <> 'CANCELLED'
+                GROUP BY oi.coffee_id, date_trunc('hour', o.order_date)
+                """, parameters);
+    }
+
+    /**
+     * Returns the sales of all coffees in {@code [from, to)} grouped into buckets of the given size, oldest first. Empty buckets are omitted.
+     */
+    public List<SalesBucket> findSales(LocalDateTime from, LocalDateTime to, TimeBucket timeBucket) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return namedParameterJdbcTemplate.query("""
+                SELECT date_trunc('%1$s', bucket_start) AS bucket, SUM(quantity) AS quantity, SUM(revenue) AS revenue
+                FROM coffee_sales_hourly
+                WHERE bucket_start >= :from
+                AND bucket_start < :to
+                GROUP BY date_trunc('%1$s', bucket_start)
+                ORDER BY bucket
+                """.formatted(timeBucket.name().toLowerCase(Locale.ROOT)), parameters, (resultSet, _) -> new SalesBucket(
+                resultSet.getObject("bucket", LocalDateTime.class),
+                resultSet.getLong("quantity"),
+                resultSet.getBigDecimal("revenue")
+        ));
+    }
+
+    /**
+     * Returns the {@code limit} coffees with the highest quantity sold in {@code [from, to)}.
+     */
+    public List<CoffeeSales> findTopCoffees(LocalDateTime from, LocalDateTime to, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query("""
+                SELECT s.coffee_id, c.name, c.size, SUM(s.quantity) AS quantity, SUM(s.revenue) AS revenue
+                FROM coffee_sales_hourly s
+                INNER JOIN coffee c ON c.id = s.coffee_id
+                WHERE s.bucket_start >= :from
+                AND s.bucket_start < :to
+                GROUP BY s.coffee_id, c.name, c.size
+                ORDER BY quantity DESC, s.coffee_id
+                LIMIT :limit
+                """, parameters, (resultSet, _) -> new CoffeeSales(
+                resultSet.getLong("coffee_id"),
+                resultSet.getString("name"),
+                Size.valueOf(resultSet.getString("size")),
+                resultSet.getLong("quantity"),
+                resultSet.getBigDecimal("revenue")
+        ));
+    }
+}
@@ -0,0 +1,17 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.EmailEvent;
+
+import java.util.List;
+
+/**
+ * Batched email event writes, one JDBC batch per flush instead of one transaction per consumed message.
+ */
+public interface EmailEventBulkRepository {
+
+    /**
+     * Inserts the given events as a single JDBC batch without the select that {@code save} issues for an assigned id.
+     * Events whose id already exists, e.g. from a redelivered message, are skipped.
+     */
+    void insertAll(List<EmailEvent> emailEvents);
+}
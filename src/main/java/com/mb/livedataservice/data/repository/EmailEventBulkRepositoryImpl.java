@@ -0,0 +1,46 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.EmailEvent;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class EmailEventBulkRepositoryImpl implements EmailEventBulkRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public EmailEventBulkRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<EmailEvent> emailEvents) {
+        if (emailEvents.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] parameters = emailEvents.stream()
+                .map(emailEvent -> new MapSqlParameterSource()
+                        .addValue("id", emailEvent.getId())
+                        .addValue("subject", emailEvent.getSubject())
+                        .addValue("body", emailEvent.getBody())
+                        .addValue("to", emailEvent.getTo())
+                        .addValue("cc", emailEvent.getCc())
+                        .addValue("bcc", emailEvent.getBcc())
+                        .addValue("status", emailEvent.getStatus().name())
+                        .addValue("retryCount", emailEvent.getRetryCount())
+                        .addValue("createdAt", now)
+                        .addValue("updatedAt", now))
+                .toArray(SqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO email_event (id, subject, body, to_addresses, cc_addresses, bcc_addresses, status, retry_count, created_at, updated_at)
+                VALUES (:id, :subject, :body, :to, :cc, :bcc, :status, :retryCount, :createdAt, :updatedAt)
+                ON CONFLICT DO NOTHING
+                """, parameters);
+    }
+}
@@ -7,6 +7,6 @@ import org.springframework.stereotype.Repository;
 import java.util.UUID;
 
 @Repository
-public interface EmailEventRepository extends JpaRepository<EmailEvent, UUID> {
+public interface EmailEventRepository extends JpaRepository<EmailEvent, UUID>, EmailEventBulkRepository {
 
 }
@@ -4,6 +4,7 @@ import com.mb.livedataservice.data.model.EmailTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,6 +12,8 @@ public interface EmailTemplateRepository extends JpaRepository<EmailTemplate, Lo
 
     Optional<EmailTemplate> findByCodeAndActiveTrue(String code);
 
+    List<EmailTemplate> findAllByActiveTrue();
+
     Optional<EmailTemplate> findByCode(String code);
 
     boolean existsByCode(String code);
@@ -0,0 +1,102 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads orders together with their items and coffee details.
+ * <p>
+ * A page costs exactly two queries regardless of its size: a keyset scan over {@code (order_date, id)} for the orders
+ * and a single {@code IN (...)} JOIN for the items of all of them, instead of one items query per order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderAggregateRepository {
+
+    private static final String SELECT_ORDERS = """
+            SELECT o.id, o.customer_id, o.customer_name, o.order_date, o.total_amount, o.status
+            FROM orders o
+            """;
+
+    private static final String ORDER_BY_ORDERS = """
+            ORDER BY o.order_date DESC, o.id DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Returns up to {@code limit} orders positioned after {@code (afterOrderDate, afterId)}, newest first.
+     * Passing a {@code null} {@code afterOrderDate} starts from the newest order.
+     */
+    public List<OrderWithItems> findOrdersWithItems(LocalDateTime afterOrderDate, long afterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterOrderDate", afterOrderDate)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        String sql = afterOrderDate == null
+                ? SELECT_ORDERS + ORDER_BY_ORDERS
+                : SELECT_ORDERS + "WHERE (o.order_date, o.id) < (:afterOrderDate, :afterId)\n" + ORDER_BY_ORDERS;
+
+        List<Order> orders = namedParameterJdbcTemplate.query(sql, parameters, (resultSet, _) -> new Order(
+                resultSet.getLong("id"),
+                resultSet.getObject("customer_id", Long.class),
+                resultSet.getString("customer_name"),
+                resultSet.getObject("order_date", LocalDateTime.class),
+                resultSet.getBigDecimal("total_amount"),
+                OrderStatus.valueOf(resultSet.getString("status"))
+        ));
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<OrderWithItems.Item>> itemsByOrderId = findItemsByOrders(orders);
+        return orders.stream()
+                .map(order -> new OrderWithItems(order, itemsByOrderId.getOrDefault(order.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * The items are also bounded by the date range of the page, so on PostgreSQL only the partitions of those dates are scanned.
+     */
+    private Map<Long, List<OrderWithItems.Item>> findItemsByOrders(List<Order> orders) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderIds", orders.stream().map(Order::id).toList())
+                .addValue("fromOrderDate", orders.stream().map(Order::orderDate).min(Comparator.naturalOrder()).orElseThrow())
+                .addValue("toOrderDate", orders.stream().map(Order::orderDate).max(Comparator.naturalOrder()).orElseThrow());
+
+        Map<Long, List<OrderWithItems.Item>> itemsByOrderId = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                SELECT oi.id, oi.order_id, oi.coffee_id, c.name AS coffee_name, c.size AS coffee_size, oi.quantity, oi.price
+                FROM order_items oi
+                INNER JOIN coffee c ON oi.coffee_id = c.id
+                WHERE oi.order_id IN (:orderIds)
+                AND oi.order_date BETWEEN :fromOrderDate AND :toOrderDate
+                ORDER BY oi.order_id, c.name
+                """, parameters, resultSet -> {
+            itemsByOrderId.computeIfAbsent(resultSet.getLong("order_id"), _ -> new ArrayList<>()).add(new OrderWithItems.Item(
+                    resultSet.getLong("id"),
+                    resultSet.getLong("coffee_id"),
+                    resultSet.getString("coffee_name"),
+                    Size.valueOf(resultSet.getString("coffee_size")),
+                    resultSet.getInt("quantity"),
+                    resultSet.getBigDecimal("price")
+            ));
+        });
+        return itemsByOrderId;
+    }
+}
@@ -0,0 +1,149 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.config.OrderExportProperties;
+import com.mb.livedataservice.data.filter.OrderExportFilter;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.Size;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streams orders matching an {@link OrderExportFilter} in {@code (order_date, id)} order, one row at a time.
+ * <p>
+ * Rows are read through a cursor of {@code fetchSize} rows and handed to the consumer as they arrive, so memory use does not
+ * depend on the number of orders. PostgreSQL only honours the fetch size inside a transaction, so callers must hold one.
+ */
+@Repository
+public class OrderExportRepository {
+
+    private static final String SELECT_ORDERS = """
+            SELECT o.id, o.customer_id, o.customer_name, o.order_date, o.total_amount, o.status, o.order_uuid
+            FROM orders o
+            """;
+
+    private static final String SELECT_ORDERS_WITH_ITEMS = """
+            SELECT o.id, o.customer_id, o.customer_name, o.order_date, o.total_amount, o.status, o.order_uuid,
+                   oi.id AS item_id, oi.coffee_id, c.name AS coffee_name, c.size AS coffee_size, oi.quantity, oi.price
+            FROM orders o
+            LEFT JOIN order_items oi ON oi.order_id = o.id AND oi.order_date = o.order_date%s
+            LEFT JOIN coffee c ON c.id = oi.coffee_id
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public OrderExportRepository(DataSource dataSource, OrderExportProperties orderExportProperties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(orderExportProperties.getFetchSize());
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void forEachOrder(OrderExportFilter filter, Consumer<Order> consumer) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        namedParameterJdbcTemplate.query(SELECT_ORDERS + where(conditions(filter, "o", parameters)) + "ORDER BY o.order_date, o.id", parameters,
+                resultSet -> {
+                    consumer.accept(mapOrder(resultSet));
+                });
+    }
+
+    /**
+     * Items arrive joined to their order, so an order is handed to the consumer once the first row of the next order is read.
+     * The date range is applied to the items as well, so on PostgreSQL both tables only scan the partitions of that range.
+     */
+    public void forEachOrderWithItems(OrderExportFilter filter, Consumer<OrderWithItems> consumer) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        OrderAccumulator orderAccumulator = new OrderAccumulator(consumer);
+        List<String> itemConditions = conditions(new OrderExportFilter(null, filter.from(), filter.to()), "oi", parameters);
+        String selectOrdersWithItems = SELECT_ORDERS_WITH_ITEMS.formatted(itemConditions.stream().map(condition -> " AND " + condition).collect(Collectors.joining()));
+        namedParameterJdbcTemplate.query(selectOrdersWithItems + where(conditions(filter, "o", parameters)) + "ORDER BY o.order_date, o.id, oi.id", parameters,
+                orderAccumulator::add);
+        orderAccumulator.flush();
+    }
+
+    private static List<String> conditions(OrderExportFilter filter, String alias, MapSqlParameterSource parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.status() != null) {
+            conditions.add(alias + ".status = :status");
+            parameters.addValue("status", filter.status().name());
+        }
+        if (filter.from() != null) {
+            conditions.add(alias + ".order_date >= :from");
+            parameters.addValue("from", filter.from());
+        }
+        if (filter.to() != null) {
+            conditions.add(alias + ".order_date < :to");
+            parameters.addValue("to", filter.to());
+        }
+        return conditions;
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n";
+    }
+
+    private static Order mapOrder(ResultSet resultSet) throws SQLException {
+        return new Order(
+                resultSet.getLong("id"),
+                resultSet.getObject("customer_id", Long.class),
+                resultSet.getString("customer_name"),
+                resultSet.getObject("order_date", LocalDateTime.class),
+                resultSet.getBigDecimal("total_amount"),
+                OrderStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("order_uuid", UUID.class)
+        );
+    }
+
+    private static final class OrderAccumulator {
+
+        private final Consumer<OrderWithItems> consumer;
+        private Order order;
+        private List<OrderWithItems.Item> items = new ArrayList<>();
+
+        private OrderAccumulator(Consumer<OrderWithItems> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void add(ResultSet resultSet) throws SQLException {
+            long orderId = resultSet.getLong("id");
+            if (order != null && order.id() != orderId) {
+                flush();
+            }
+            if (order == null) {
+                order = mapOrder(resultSet);
+            }
+
+            long itemId = resultSet.getLong("item_id");
+            if (!resultSet.wasNull()) {
+                items.add(new OrderWithItems.Item(
+                        itemId,
+                        resultSet.getLong("coffee_id"),
+                        resultSet.getString("coffee_name"),
+                        Size.valueOf(resultSet.getString("coffee_size")),
+                        resultSet.getInt("quantity"),
+                        resultSet.getBigDecimal("price")
+                ));
+            }
+        }
+
+        private void flush() {
+            if (order != null) {
+                consumer.accept(new OrderWithItems(order, items));
+                order = null;
+                items = new ArrayList<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.Coffee;
+import com.mb.livedataservice.enums.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based lookups of the order ingestion pipeline, one query per consumed batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderIngestionRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Returns the given order UUIDs that are already stored.
+     */
+    public Set<UUID> findExistingOrderUuids(Collection<UUID> orderUuids) {
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList("SELECT order_uuid FROM orders WHERE order_uuid IN (:orderUuids)",
+                new MapSqlParameterSource("orderUuids", orderUuids), UUID.class));
+    }
+
+    /**
+     * Returns the coffees of the given article ids, keyed by article id. Unknown article ids are missing from the result.
+     */
+    public Map<UUID, Coffee> findCoffeesByArticleIds(Collection<UUID> articleIds) {
+        Map<UUID, Coffee> coffeesByArticleId = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT id, name, description, price, size, article_id FROM coffee WHERE article_id IN (:articleIds)",
+                new MapSqlParameterSource("articleIds", articleIds), resultSet -> {
+                    coffeesByArticleId.put(resultSet.getObject("article_id", UUID.class), new Coffee(
+                            resultSet.getLong("id"),
+                            resultSet.getString("name"),
+                            resultSet.getString("description"),
+                            resultSet.getBigDecimal("price"),
+                            Size.valueOf(resultSet.getString("size"))
+                    ));
+                });
+        return coffeesByArticleId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.util.DatabaseUtils;
+import lombok.Getter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of {@code orders} and {@code order_items} through the functions of the PostgreSQL
+ * partitioning migration. Other databases (H2) store both tables unpartitioned, see {@link #isPartitioned()}.
+ */
+@Repository
+public class OrderPartitionRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Getter
+    private final boolean partitioned;
+
+    public OrderPartitionRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, DataSource dataSource) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.partitioned = DatabaseUtils.isPostgreSQL(dataSource);
+    }
+
+    /**
+     * Creates the missing partitions of every month from {@code fromMonth} to {@code toMonth} and returns how many months were added.
+     */
+    public int createPartitions(LocalDate fromMonth, LocalDate toMonth) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("fromMonth", fromMonth)
+                .addValue("toMonth", toMonth);
+
+        return namedParameterJdbcTemplate.queryForObject("SELECT create_order_partitions(:fromMonth, :toMonth)", parameters, Integer.class);
+    }
+
+    /**
+     * Detaches the partitions of the months before {@code beforeMonth} into the {@code mb_archive} schema and returns the archived {@code orders} partitions.
+     */
+    public List<String> archivePartitions(LocalDate beforeMonth) {
+        return namedParameterJdbcTemplate.queryForList("SELECT archive_order_partitions(:beforeMonth)",
+                new MapSqlParameterSource("beforeMonth", beforeMonth), String.class);
+    }
+}
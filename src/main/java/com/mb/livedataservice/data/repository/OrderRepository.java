@@ -33,6 +33,7 @@ public interface OrderRepository extends ListCrudRepository<Order, Long> {
      * <p>
      * Benefit: Complex date/time queries are validated at build time. Wrong
      * date types or field names fail compilation, preventing production bugs.
+     * On PostgreSQL the order_date bound also prunes the monthly partitions before the date.
      */
     List<Order> findByStatusAndOrderDateAfter(OrderStatus status, LocalDateTime date);
 
@@ -49,10 +50,27 @@ public interface OrderRepository extends ListCrudRepository<Order, Long> {
      */
     @Query("""
             SELECT DISTINCT o.* FROM orders o
-            INNER JOIN order_items oi ON o.id = oi.order_id
+            INNER JOIN order_items oi ON o.id = oi.order_id AND o.order_date = oi.order_date
             INNER JOIN coffee c ON oi.coffee_id = c.id
             WHERE c.name = :coffeeName
             ORDER BY o.order_date DESC
             """)
     List<Order> findOrdersByCoffeeName(@Param("coffeeName") String coffeeName);
+
+    /**
+     * Same as {@link #findOrdersByCoffeeName(String)}, limited to orders placed at or after {@code since}.
+     * <p>
+     * Both tables are bounded by {@code order_date} explicitly, since the planner does not carry a range
+     * across the join, so on PostgreSQL only the partitions from {@code since} on are scanned.
+     */
+    @Query("""
+            SELECT DISTINCT o.* FROM orders o
+            INNER JOIN order_items oi ON o.id = oi.order_id AND o.order_date = oi.order_date
+            INNER JOIN coffee c ON oi.coffee_id = c.id
+            WHERE c.name = :coffeeName
+            AND o.order_date >= :since
+            AND oi.order_date >= :since
+            ORDER BY o.order_date DESC
+            """)
+    List<Order> findOrdersByCoffeeNameSince(@Param("coffeeName") String coffeeName, @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,61 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Status transitions as compare-and-set updates: a transition only matches while the order is still in its {@code from}
+ * status, so concurrent writers of the same order cannot overwrite each other without any explicit lock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusRepository {
+
+    private static final String UPDATE_STATUS = "UPDATE orders SET status = :to WHERE id = :orderId AND status = :from";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Returns whether the transition was applied.
+     */
+    public boolean updateStatus(OrderStatusTransition transition) {
+        return namedParameterJdbcTemplate.update(UPDATE_STATUS, parameters(transition)) > 0;
+    }
+
+    /**
+     * Applies the transitions as one JDBC batch and returns the updated row count of each, in order.
+     */
+    public int[] updateStatuses(List<OrderStatusTransition> transitions) {
+        return namedParameterJdbcTemplate.batchUpdate(UPDATE_STATUS, transitions.stream()
+                .map(OrderStatusRepository::parameters)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Returns the current status of the given orders, keyed by order id. Unknown ids are missing from the result.
+     */
+    public Map<Long, OrderStatus> findStatuses(Collection<Long> orderIds) {
+        Map<Long, OrderStatus> statusesByOrderId = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT id, status FROM orders WHERE id IN (:orderIds)", new MapSqlParameterSource("orderIds", orderIds), resultSet -> {
+            statusesByOrderId.put(resultSet.getLong("id"), OrderStatus.valueOf(resultSet.getString("status")));
+        });
+        return statusesByOrderId;
+    }
+
+    private static SqlParameterSource parameters(OrderStatusTransition transition) {
+        return new MapSqlParameterSource()
+                .addValue("orderId", transition.orderId())
+                .addValue("from", transition.from().name())
+                .addValue("to", transition.to().name());
+    }
+}
@@ -0,0 +1,86 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepository {
+
+    private static final RowMapper<OutboxEvent> OUTBOX_EVENT_ROW_MAPPER = (resultSet, rowNum) -> new OutboxEvent(
+            resultSet.getLong("id"),
+            resultSet.getString("aggregate_type"),
+            resultSet.getString("aggregate_id"),
+            resultSet.getString("event_type"),
+            resultSet.getString("payload"),
+            resultSet.getObject("created_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void save(String aggregateType, String aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+        namedParameterJdbcTemplate.update("""
+                INSERT INTO outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at)
+                VALUES (:aggregateType, :aggregateId, :eventType, :payload, :createdAt)
+                """, new MapSqlParameterSource()
+                .addValue("aggregateType", aggregateType)
+                .addValue("aggregateId", aggregateId)
+                .addValue("eventType", eventType)
+                .addValue("payload", payload)
+                .addValue("createdAt", createdAt));
+    }
+
+    /**
+     * Inserts one event per entry of {@code payloadByAggregateId} as a single JDBC batch.
+     */
+    public void saveAll(String aggregateType, String eventType, Map<String, String> payloadByAggregateId, LocalDateTime createdAt) {
+        SqlParameterSource[] parameters = payloadByAggregateId.entrySet()
+                .stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("aggregateType", aggregateType)
+                        .addValue("aggregateId", entry.getKey())
+                        .addValue("eventType", eventType)
+                        .addValue("payload", entry.getValue())
+                        .addValue("createdAt", createdAt))
+                .toArray(SqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at)
+                VALUES (:aggregateType, :aggregateId, :eventType, :payload, :createdAt)
+                """, parameters);
+    }
+
+    /**
+     * Locks the oldest pending events. Rows already locked by another relay are skipped instead of waited on.
+     */
+    public List<OutboxEvent> lockOldest(int limit) {
+        return namedParameterJdbcTemplate.query("""
+                SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at
+                FROM outbox_event
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """, Map.of("limit", limit), OUTBOX_EVENT_ROW_MAPPER);
+    }
+
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        return namedParameterJdbcTemplate.queryForList("SELECT created_at FROM outbox_event ORDER BY id LIMIT 1", Map.of(), LocalDateTime.class)
+                .stream()
+                .findFirst();
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.update("DELETE FROM outbox_event WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+}
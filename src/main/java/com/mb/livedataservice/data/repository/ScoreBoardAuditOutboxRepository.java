@@ -0,0 +1,119 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.ScoreBoard;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.envers.RevisionType;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC access to {@code score_board_audit_outbox} and the batched writes that move its rows into the Envers tables.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScoreBoardAuditOutboxRepository {
+
+    private static final String AUDITED_COLUMNS = """
+            deleted, deleted_mod,
+            created_date_time, created_date_time_mod,
+            modified_date_time, modified_date_time_mod,
+            home_team_name, home_team_name_mod,
+            away_team_name, away_team_name_mod,
+            home_team_score, home_team_score_mod,
+            away_team_score, away_team_score_mod""";
+
+    private static final String AUDITED_PARAMETERS = """
+            :deleted, :deleted_mod,
+            :created_date_time, :created_date_time_mod,
+            :modified_date_time, :modified_date_time_mod,
+            :home_team_name, :home_team_name_mod,
+            :away_team_name, :away_team_name_mod,
+            :home_team_score, :home_team_score_mod,
+            :away_team_score, :away_team_score_mod""";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Buffers one audit entry. {@code modifiedColumns} holds the column names whose {@code _mod} flag is set;
+     * the data columns of a {@link RevisionType#DEL} entry are left empty, as Envers does.
+     */
+    public void save(ScoreBoard scoreBoard, RevisionType revisionType, Set<String> modifiedColumns) {
+        boolean deleted = revisionType == RevisionType.DEL;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("score_board_id", scoreBoard.getId())
+                .addValue("revtype", revisionType.getRepresentation())
+                .addValue("revtstmp", System.currentTimeMillis())
+                .addValue("deleted", deleted ? null : scoreBoard.isDeleted())
+                .addValue("created_date_time", deleted ? null : toTimestamp(scoreBoard.getCreatedDateTime()))
+                .addValue("modified_date_time", deleted ? null : toTimestamp(scoreBoard.getModifiedDateTime()))
+                .addValue("home_team_name", deleted ? null : scoreBoard.getHomeTeamName())
+                .addValue("away_team_name", deleted ? null : scoreBoard.getAwayTeamName())
+                .addValue("home_team_score", deleted ? null : scoreBoard.getHomeTeamScore())
+                .addValue("away_team_score", deleted ? null : scoreBoard.getAwayTeamScore());
+        for (String column : List.of("deleted", "created_date_time", "modified_date_time", "home_team_name", "away_team_name", "home_team_score", "away_team_score")) {
+            parameters.addValue(column + "_mod", modifiedColumns.contains(column));
+        }
+
+        namedParameterJdbcTemplate.update("INSERT INTO score_board_audit_outbox (score_board_id, revtype, revtstmp, " + AUDITED_COLUMNS + ") " +
+                                          "VALUES (:score_board_id, :revtype, :revtstmp, " + AUDITED_PARAMETERS + ")", parameters);
+    }
+
+    /**
+     * Locks the oldest outbox rows. Rows already locked by another relay are skipped instead of waited on.
+     */
+    public List<Map<String, Object>> lockOldest(int limit) {
+        return namedParameterJdbcTemplate.queryForList("""
+                SELECT * FROM score_board_audit_outbox
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """, Map.of("limit", limit));
+    }
+
+    /**
+     * Inserts one revinfo row per outbox row in a single batch and returns the generated revision numbers in the same order.
+     */
+    public List<Integer> insertRevisions(List<Map<String, Object>> outboxRows) {
+        SqlParameterSource[] parameters = outboxRows.stream()
+                .map(row -> new MapSqlParameterSource("revtstmp", row.get("revtstmp")))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        namedParameterJdbcTemplate.batchUpdate("INSERT INTO revinfo (revtstmp) VALUES (:revtstmp)", parameters, keyHolder, new String[]{"rev"});
+
+        return keyHolder.getKeyList()
+                .stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).intValue())
+                .toList();
+    }
+
+    public void insertAuditRows(List<Map<String, Object>> outboxRows, List<Integer> revisions) {
+        SqlParameterSource[] parameters = new SqlParameterSource[outboxRows.size()];
+        for (int i = 0; i < outboxRows.size(); i++) {
+            parameters[i] = new MapSqlParameterSource(outboxRows.get(i)).addValue("rev", revisions.get(i));
+        }
+
+        namedParameterJdbcTemplate.batchUpdate("INSERT INTO score_board_aud (id, rev, revtype, " + AUDITED_COLUMNS + ") " +
+                                               "VALUES (:score_board_id, :rev, :revtype, " + AUDITED_PARAMETERS + ")", parameters);
+    }
+
+    public void deleteByIds(Collection<Long> ids) {
+        namedParameterJdbcTemplate.update("DELETE FROM score_board_audit_outbox WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+
+    private static @Nullable Object toTimestamp(@Nullable OffsetDateTime offsetDateTime) {
+        return offsetDateTime == null ? null : offsetDateTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
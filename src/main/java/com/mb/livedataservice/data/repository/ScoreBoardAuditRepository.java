@@ -0,0 +1,118 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.ScoreBoardRevision;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.envers.RevisionType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read side of the Envers audit tables of {@code score_board}.
+ * <p>
+ * All queries are keyset paginated over {@code (rev, id)}, so each page costs an index range scan
+ * regardless of how many revisions precede it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScoreBoardAuditRepository {
+
+    private static final List<AuditedColumn> AUDITED_COLUMNS = List.of(
+            new AuditedColumn("deleted", "deleted"),
+            new AuditedColumn("created_date_time", "createdDateTime"),
+            new AuditedColumn("modified_date_time", "modifiedDateTime"),
+            new AuditedColumn("home_team_name", "homeTeamName"),
+            new AuditedColumn("away_team_name", "awayTeamName"),
+            new AuditedColumn("home_team_score", "homeTeamScore"),
+            new AuditedColumn("away_team_score", "awayTeamScore")
+    );
+
+    private static final String SELECT_REVISIONS = """
+            SELECT a.id, a.rev, a.revtype, r.revtstmp,
+                   a.deleted, a.deleted_mod,
+                   a.created_date_time, a.created_date_time_mod,
+                   a.modified_date_time, a.modified_date_time_mod,
+                   a.home_team_name, a.home_team_name_mod,
+                   a.away_team_name, a.away_team_name_mod,
+                   a.home_team_score, a.home_team_score_mod,
+                   a.away_team_score, a.away_team_score_mod
+            FROM score_board_aud a
+            INNER JOIN revinfo r ON r.rev = a.rev
+            """;
+
+    private static final RowMapper<ScoreBoardRevision> REVISION_ROW_MAPPER = ScoreBoardAuditRepository::mapRevision;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Returns the revisions of the given board that are newer than {@code afterRevision}, oldest first.
+     */
+    public List<ScoreBoardRevision> findRevisionsById(Long id, int afterRevision, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("afterRevision", afterRevision)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(SELECT_REVISIONS + """
+                WHERE a.id = :id
+                AND a.rev > :afterRevision
+                ORDER BY a.rev
+                LIMIT :limit
+                """, parameters, REVISION_ROW_MAPPER);
+    }
+
+    /**
+     * Returns the revisions of all boards positioned after {@code (afterRevision, afterId)}, ordered by {@code (rev, id)}.
+     */
+    public List<ScoreBoardRevision> findRevisionsAfter(int afterRevision, long afterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterRevision", afterRevision)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(SELECT_REVISIONS + """
+                WHERE (a.rev, a.id) > (:afterRevision, :afterId)
+                ORDER BY a.rev, a.id
+                LIMIT :limit
+                """, parameters, REVISION_ROW_MAPPER);
+    }
+
+    private static ScoreBoardRevision mapRevision(ResultSet resultSet, int rowNum) throws SQLException {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (AuditedColumn auditedColumn : AUDITED_COLUMNS) {
+            if (resultSet.getBoolean(auditedColumn.column() + "_mod")) {
+                changes.put(auditedColumn.property(), readValue(resultSet, auditedColumn.column()));
+            }
+        }
+
+        Long revisionTimestamp = resultSet.getObject("revtstmp", Long.class);
+        return new ScoreBoardRevision(
+                resultSet.getLong("id"),
+                resultSet.getInt("rev"),
+                RevisionType.fromRepresentation(resultSet.getByte("revtype")),
+                revisionTimestamp == null ? null : Instant.ofEpochMilli(revisionTimestamp).atOffset(ZoneOffset.UTC),
+                changes
+        );
+    }
+
+    private static Object readValue(ResultSet resultSet, String column) throws SQLException {
+        return switch (column) {
+            case "created_date_time", "modified_date_time" -> resultSet.getObject(column, LocalDateTime.class);
+            default -> resultSet.getObject(column);
+        };
+    }
+
+    private record AuditedColumn(String column, String property) {
+
+    }
+}
@@ -0,0 +1,13 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Read paths of {@code score_board} that select straight into {@link ApiScoreBoardResponse} instead of managed entities.
+ */
+public interface ScoreBoardProjectionRepository {
+
+    Page<ApiScoreBoardResponse> findAllResponsesByDeletedIsFalse(Pageable pageable);
+}
@@ -0,0 +1,51 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
+import com.mb.livedataservice.data.model.QScoreBoard;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class ScoreBoardProjectionRepositoryImpl implements ScoreBoardProjectionRepository {
+
+    private static final QScoreBoard SCORE_BOARD = QScoreBoard.scoreBoard;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final Querydsl querydsl;
+
+    public ScoreBoardProjectionRepositoryImpl(EntityManager entityManager) {
+        this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.querydsl = new Querydsl(entityManager, new PathBuilder<>(SCORE_BOARD.getType(), SCORE_BOARD.getMetadata()));
+    }
+
+    @Override
+    public Page<ApiScoreBoardResponse> findAllResponsesByDeletedIsFalse(Pageable pageable) {
+        JPAQuery<ApiScoreBoardResponse> query = jpaQueryFactory.select(Projections.constructor(ApiScoreBoardResponse.class,
+                        SCORE_BOARD.id,
+                        SCORE_BOARD.createdDateTime,
+                        SCORE_BOARD.modifiedDateTime,
+                        SCORE_BOARD.homeTeamName,
+                        SCORE_BOARD.awayTeamName,
+                        SCORE_BOARD.homeTeamScore,
+                        SCORE_BOARD.awayTeamScore))
+                .from(SCORE_BOARD)
+                .where(SCORE_BOARD.deleted.isFalse());
+        List<ApiScoreBoardResponse> content = querydsl.applyPagination(pageable, query).fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(SCORE_BOARD.count())
+                .from(SCORE_BOARD)
+                .where(SCORE_BOARD.deleted.isFalse());
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long count = countQuery.fetchOne();
+            return count == null ? 0 : count;
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.ShelfEntry;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based shelf writes for syncs of many products, one statement per chunk instead of one per product.
+ */
+public interface ShelfBulkRepository {
+
+    /**
+     * Returns the latest start_date of each given product that has a shelf entry, keyed by product id.
+     */
+    Map<Long, LocalDate> findMaxStartDatesByProductIdIn(Collection<Long> productIds);
+
+    /**
+     * Upserts the given entries on {@code (product_id, start_date)} with a single multi-row statement and returns the number of rows written.
+     * Entries must not repeat a {@code (product_id, start_date)} pair. Ids of new rows come from blocks of {@code seq_shelf_entry}
+     * reserved like the pooled optimizer of {@link ShelfEntry} does, so they never collide with ids handed out by Hibernate.
+     */
+    int insertOrUpdateAllOnConflict(List<ShelfEntry> entries);
+}
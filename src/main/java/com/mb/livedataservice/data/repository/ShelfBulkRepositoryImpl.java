@@ -0,0 +1,95 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.ShelfEntry;
+import com.mb.livedataservice.util.DatabaseUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ShelfBulkRepositoryImpl implements ShelfBulkRepository {
+
+    /**
+     * Increment of {@code seq_shelf_entry}, equal to the allocation size of {@link ShelfEntry}.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final boolean postgreSQL;
+
+    public ShelfBulkRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate, DataSource dataSource) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.postgreSQL = DatabaseUtils.isPostgreSQL(dataSource);
+    }
+
+    @Override
+    public Map<Long, LocalDate> findMaxStartDatesByProductIdIn(Collection<Long> productIds) {
+        Map<Long, LocalDate> maxStartDatesByProductId = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                SELECT product_id, MAX(start_date) AS start_date
+                FROM shelf_entry
+                WHERE product_id IN (:productIds)
+                GROUP BY product_id
+                """, new MapSqlParameterSource("productIds", productIds), resultSet -> {
+            maxStartDatesByProductId.put(resultSet.getLong("product_id"), resultSet.getObject("start_date", LocalDate.class));
+        });
+        return maxStartDatesByProductId;
+    }
+
+    @Override
+    public int insertOrUpdateAllOnConflict(List<ShelfEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = reserveIds(entries.size());
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            ShelfEntry entry = entries.get(i);
+            rows.add(new Object[]{ids.get(i), entry.getProductId(), entry.getStartDate(), entry.isActive()});
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource("rows", rows);
+
+        if (postgreSQL) {
+            return namedParameterJdbcTemplate.update("""
+                    INSERT INTO shelf_entry (id, product_id, start_date, active)
+                    VALUES :rows
+                    ON CONFLICT (product_id, start_date)
+                    DO UPDATE SET active = EXCLUDED.active
+                    """, parameters);
+        }
+
+        return namedParameterJdbcTemplate.update("""
+                MERGE INTO shelf_entry s USING (VALUES :rows) AS r (id, product_id, start_date, active)
+                ON s.product_id = r.product_id AND s.start_date = r.start_date
+                WHEN MATCHED THEN UPDATE SET active = r.active
+                WHEN NOT MATCHED THEN INSERT (id, product_id, start_date, active) VALUES (r.id, r.product_id, r.start_date, r.active)
+                """, parameters);
+    }
+
+    /**
+     * Reserves {@code count} ids with one {@code nextval} per {@value #ID_BLOCK_SIZE} ids; each returned value {@code v}
+     * owns {@code (v - ID_BLOCK_SIZE, v]}, minus the non-positive ids of the very first value of a fresh sequence.
+     * Ids of rows that end up as updates are simply left unused.
+     */
+    private List<Long> reserveIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blockCount = (count - ids.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            List<Long> blockEnds = namedParameterJdbcTemplate.queryForList("SELECT nextval('seq_shelf_entry') FROM generate_series(1, :blockCount)",
+                    new MapSqlParameterSource("blockCount", blockCount), Long.class);
+            for (long blockEnd : blockEnds) {
+                for (long id = Math.max(blockEnd - ID_BLOCK_SIZE + 1, 1); id <= blockEnd && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-public interface ShelfRepository extends JpaRepository<ShelfEntry, Long> {
+public interface ShelfRepository extends JpaRepository<ShelfEntry, Long>, ShelfBulkRepository {
 
     /**
      * Returns the record with the latest start_date for the given product.
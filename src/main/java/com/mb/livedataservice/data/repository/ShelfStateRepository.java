@@ -0,0 +1,132 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.ShelfState;
+import com.mb.livedataservice.util.DatabaseUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code shelf_state}: the latest {@code shelf_entry} of every product, keyed by product id.
+ * <p>
+ * Upserts never move a product back to an older start date, so writers committing out of order still leave the latest entry in place.
+ */
+@Repository
+public class ShelfStateRepository {
+
+    private static final String SELECT_LATEST_ENTRIES = """
+            SELECT e.product_id, e.start_date, e.active
+            FROM shelf_entry e
+            WHERE e.start_date = (SELECT MAX(e2.start_date) FROM shelf_entry e2 WHERE e2.product_id = e.product_id)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final boolean postgreSQL;
+
+    public ShelfStateRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, DataSource dataSource) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.postgreSQL = DatabaseUtils.isPostgreSQL(dataSource);
+    }
+
+    /**
+     * Returns the state of each given product that has one, keyed by product id.
+     */
+    public Map<Long, ShelfState> findAllByProductIdIn(Collection<Long> productIds) {
+        Map<Long, ShelfState> statesByProductId = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT product_id, start_date, active FROM shelf_state WHERE product_id IN (:productIds)",
+                new MapSqlParameterSource("productIds", productIds), resultSet -> {
+                    long productId = resultSet.getLong("product_id");
+                    statesByProductId.put(productId, new ShelfState(productId, resultSet.getObject("start_date", LocalDate.class), resultSet.getBoolean("active")));
+                });
+        return statesByProductId;
+    }
+
+    public int upsertAll(Collection<ShelfState> states) {
+        if (states.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = states.stream()
+                .map(state -> new Object[]{state.productId(), state.startDate(), state.active()})
+                .toList();
+        MapSqlParameterSource parameters = new MapSqlParameterSource("rows", rows);
+
+        if (postgreSQL) {
+            return namedParameterJdbcTemplate.update("""
+                    INSERT INTO shelf_state (product_id, start_date, active)
+                    VALUES :rows
+                    ON CONFLICT (product_id)
+                    DO UPDATE SET start_date = EXCLUDED.start_date, active = EXCLUDED.active
+                    WHERE shelf_state.start_date <= EXCLUDED.start_date
+                    """, parameters);
+        }
+
+        return namedParameterJdbcTemplate.update("""
+                MERGE INTO shelf_state s USING (VALUES :rows) AS r (product_id, start_date, active)
+                ON s.product_id = r.product_id
+                WHEN MATCHED AND s.start_date <= r.start_date THEN UPDATE SET start_date = r.start_date, active = r.active
+                WHEN NOT MATCHED THEN INSERT (product_id, start_date, active) VALUES (r.product_id, r.start_date, r.active)
+                """, parameters);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct product ids of {@code shelf_entry} greater than {@code afterProductId}, in order.
+     */
+    public List<Long> findEntryProductIdsAfter(long afterProductId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterProductId", afterProductId)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.queryForList("""
+                SELECT DISTINCT product_id
+                FROM shelf_entry
+                WHERE product_id > :afterProductId
+                ORDER BY product_id
+                LIMIT :limit
+                """, parameters, Long.class);
+    }
+
+    /**
+     * Returns the product ids in {@code (afterProductId, upToProductId]} whose state is missing, differs from their latest entry, or has no entry at all.
+     */
+    public List<Long> findDriftedProductIds(long afterProductId, long upToProductId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterProductId", afterProductId)
+                .addValue("upToProductId", upToProductId);
+
+        return namedParameterJdbcTemplate.queryForList("SELECT l.product_id FROM (\n" + SELECT_LATEST_ENTRIES + """
+                AND e.product_id > :afterProductId
+                AND e.product_id <= :upToProductId
+                ) l
+                LEFT JOIN shelf_state s ON s.product_id = l.product_id
+                WHERE s.product_id IS NULL
+                OR s.start_date <> l.start_date
+                OR s.active <> l.active
+                UNION
+                SELECT s.product_id
+                FROM shelf_state s
+                WHERE s.product_id > :afterProductId
+                AND s.product_id <= :upToProductId
+                AND NOT EXISTS (SELECT 1 FROM shelf_entry e WHERE e.product_id = s.product_id)
+                """, parameters, Long.class);
+    }
+
+    /**
+     * Replaces the state of the given products with their latest entry and returns the number of states written.
+     */
+    public int rebuildAllByProductIdIn(Collection<Long> productIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("productIds", productIds);
+
+        namedParameterJdbcTemplate.update("DELETE FROM shelf_state WHERE product_id IN (:productIds)", parameters);
+        return namedParameterJdbcTemplate.update("INSERT INTO shelf_state (product_id, start_date, active)\n" + SELECT_LATEST_ENTRIES + """
+                AND e.product_id IN (:productIds)
+                """, parameters);
+    }
+}
@@ -0,0 +1,23 @@
+package com.mb.livedataservice.data.repository;
+
+import com.querydsl.core.types.Predicate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based soft deletes of {@code tutorials}, meant to be driven chunk by chunk so no statement holds row locks for long.
+ * Already deleted rows are skipped by the {@code deleted = false} restriction of {@link com.mb.livedataservice.data.model.Tutorial}.
+ */
+public interface TutorialBulkRepository {
+
+    /**
+     * Returns up to {@code limit} ids of tutorials that are not deleted yet, match the predicate and are greater than {@code afterId}, in id order.
+     */
+    List<Long> findIdsAfter(Predicate predicate, long afterId, int limit);
+
+    /**
+     * Marks the given tutorials as deleted with a single {@code UPDATE} and returns the number of rows that changed.
+     */
+    long softDeleteAllByIdIn(Collection<Long> ids);
+}
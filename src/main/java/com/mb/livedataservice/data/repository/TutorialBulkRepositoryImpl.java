@@ -0,0 +1,40 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.QTutorial;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TutorialBulkRepositoryImpl implements TutorialBulkRepository {
+
+    private static final QTutorial TUTORIAL = QTutorial.tutorial;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public TutorialBulkRepositoryImpl(EntityManager entityManager) {
+        this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Predicate predicate, long afterId, int limit) {
+        return jpaQueryFactory.select(TUTORIAL.id)
+                .from(TUTORIAL)
+                .where(predicate, TUTORIAL.id.gt(afterId))
+                .orderBy(TUTORIAL.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long softDeleteAllByIdIn(Collection<Long> ids) {
+        return jpaQueryFactory.update(TUTORIAL)
+                .set(TUTORIAL.deleted, true)
+                .set(TUTORIAL.modifiedDateTime, OffsetDateTime.now())
+                .where(TUTORIAL.id.in(ids))
+                .execute();
+    }
+}
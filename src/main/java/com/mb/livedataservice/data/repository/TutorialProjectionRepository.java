@@ -0,0 +1,18 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.api.response.ApiTutorialResponse;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Read paths of {@code tutorials} that select straight into {@link ApiTutorialResponse} instead of managed entities.
+ */
+public interface TutorialProjectionRepository {
+
+    List<ApiTutorialResponse> findAllResponses(Predicate predicate);
+
+    Page<ApiTutorialResponse> findAllResponses(Predicate predicate, Pageable pageable);
+}
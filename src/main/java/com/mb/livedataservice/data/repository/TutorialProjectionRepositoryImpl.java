@@ -0,0 +1,57 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.api.response.ApiTutorialResponse;
+import com.mb.livedataservice.data.model.QTutorial;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class TutorialProjectionRepositoryImpl implements TutorialProjectionRepository {
+
+    private static final QTutorial TUTORIAL = QTutorial.tutorial;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final Querydsl querydsl;
+
+    public TutorialProjectionRepositoryImpl(EntityManager entityManager) {
+        this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+        this.querydsl = new Querydsl(entityManager, new PathBuilder<>(TUTORIAL.getType(), TUTORIAL.getMetadata()));
+    }
+
+    @Override
+    public List<ApiTutorialResponse> findAllResponses(Predicate predicate) {
+        return selectResponses(predicate).fetch();
+    }
+
+    @Override
+    public Page<ApiTutorialResponse> findAllResponses(Predicate predicate, Pageable pageable) {
+        List<ApiTutorialResponse> content = querydsl.applyPagination(pageable, selectResponses(predicate)).fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(TUTORIAL.count())
+                .from(TUTORIAL)
+                .where(predicate);
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long count = countQuery.fetchOne();
+            return count == null ? 0 : count;
+        });
+    }
+
+    private JPAQuery<ApiTutorialResponse> selectResponses(Predicate predicate) {
+        return jpaQueryFactory.select(Projections.constructor(ApiTutorialResponse.class,
+                        TUTORIAL.id,
+                        TUTORIAL.title,
+                        TUTORIAL.description,
+                        TUTORIAL.published))
+                .from(TUTORIAL)
+                .where(predicate);
+    }
+}
@@ -4,11 +4,6 @@ import com.mb.livedataservice.data.model.Tutorial;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
-import java.util.List;
+public interface TutorialRepository extends JpaRepository<Tutorial, Long>, QuerydslPredicateExecutor<Tutorial>, TutorialProjectionRepository, TutorialBulkRepository {
 
-public interface TutorialRepository extends JpaRepository<Tutorial, Long>, QuerydslPredicateExecutor<Tutorial> {
-
-    List<Tutorial> findByPublished(boolean published);
-
-    List<Tutorial> findByTitleContaining(String title);
 }
@@ -0,0 +1,85 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.Tutorial;
+import com.mb.livedataservice.util.DatabaseUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked tutorial search. On PostgreSQL it matches the GIN indexed {@code search_vector} column with a prefix
+ * {@code tsquery} and orders by {@code ts_rank}; elsewhere (H2) it falls back to a LIKE scan that, like the
+ * {@code tsquery}, requires every term, and ranks tutorials whose title has all terms first.
+ */
+@Repository
+public class TutorialSearchRepository {
+
+    private static final String SELECT_COLUMNS = "SELECT t.id, t.deleted, t.created_date_time, t.modified_date_time, t.title, t.description, t.published ";
+
+    private static final RowMapper<Tutorial> TUTORIAL_ROW_MAPPER = (resultSet, rowNum) -> {
+        Tutorial tutorial = new Tutorial(resultSet.getString("title"), resultSet.getString("description"), resultSet.getBoolean("published"));
+        tutorial.setId(resultSet.getLong("id"));
+        tutorial.setDeleted(resultSet.getBoolean("deleted"));
+        tutorial.setCreatedDateTime(resultSet.getObject("created_date_time", LocalDateTime.class).atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        tutorial.setModifiedDateTime(resultSet.getObject("modified_date_time", LocalDateTime.class).atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        return tutorial;
+    };
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final boolean fullTextSearchSupported;
+
+    public TutorialSearchRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, DataSource dataSource) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.fullTextSearchSupported = DatabaseUtils.isPostgreSQL(dataSource);
+    }
+
+    public List<Tutorial> search(String text, Pageable pageable) {
+        List<String> terms = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        if (fullTextSearchSupported) {
+            parameters.addValue("query", terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+            return namedParameterJdbcTemplate.query(SELECT_COLUMNS + """
+                    FROM tutorials t, to_tsquery('simple', :query) q
+                    WHERE t.search_vector @@ q
+                    AND t.deleted = false
+                    ORDER BY ts_rank(t.search_vector, q) DESC, t.id
+                    LIMIT :limit OFFSET :offset
+                    """, parameters, TUTORIAL_ROW_MAPPER);
+        }
+
+        List<String> titleMatches = new ArrayList<>(terms.size());
+        List<String> textMatches = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            parameters.addValue("pattern" + i, "%" + terms.get(i) + "%");
+            titleMatches.add("LOWER(t.title) LIKE :pattern" + i);
+            textMatches.add("(LOWER(t.title) LIKE :pattern%d OR LOWER(t.description) LIKE :pattern%d)".formatted(i, i));
+        }
+        return namedParameterJdbcTemplate.query(SELECT_COLUMNS + """
+                FROM tutorials t
+                WHERE %s
+                AND t.deleted = false
+                ORDER BY CASE WHEN %s THEN 0 ELSE 1 END, t.id
+                LIMIT :limit OFFSET :offset
+                """.formatted(String.join(" AND ", textMatches), String.join(" AND ", titleMatches)), parameters, TUTORIAL_ROW_MAPPER);
+    }
+}
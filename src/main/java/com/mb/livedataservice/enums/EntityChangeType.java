@@ -0,0 +1,10 @@
+package com.mb.livedataservice.enums;
+
+public enum EntityChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    BULK_DELETED,
+    ALL_DELETED
+}
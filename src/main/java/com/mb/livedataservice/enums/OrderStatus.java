@@ -5,5 +5,17 @@ public enum OrderStatus {
     PREPARING,
     READY,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Orders advance PENDING -> PREPARING -> READY -> DELIVERED and can be cancelled until they are delivered.
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return switch (this) {
+            case PENDING -> target == PREPARING || target == CANCELLED;
+            case PREPARING -> target == READY || target == CANCELLED;
+            case READY -> target == DELIVERED || target == CANCELLED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
 }
@@ -0,0 +1,6 @@
+package com.mb.livedataservice.enums;
+
+public enum TimeBucket {
+    HOUR,
+    DAY
+}
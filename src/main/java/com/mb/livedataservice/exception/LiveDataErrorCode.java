@@ -12,8 +12,13 @@ public enum LiveDataErrorCode implements Serializable, ErrorCode {
     UNKNOWN_ERROR(HttpStatus.BAD_REQUEST),
     INVALID_VALUE(HttpStatus.BAD_REQUEST),
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST),
+    BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST),
+    FILTER_REQUIRED(HttpStatus.BAD_REQUEST),
     SCORE_BOARD_NOT_FOUND(HttpStatus.NOT_FOUND),
     SCORE_BOARD_HAS_NOT_ENDED(HttpStatus.BAD_REQUEST),
+    TEAM_STANDING_NOT_FOUND(HttpStatus.NOT_FOUND),
+    ORDER_STATUS_TRANSITION_NOT_ALLOWED(HttpStatus.BAD_REQUEST),
+    ORDER_STATUS_CONFLICT(HttpStatus.CONFLICT),
     CANNOT_MAP_RESPONSE(HttpStatus.BAD_REQUEST),
     NOT_FOUND(HttpStatus.NOT_FOUND),
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS),
@@ -1,13 +1,19 @@
 package com.mb.livedataservice.mapper;
 
+import com.mb.livedataservice.api.request.ApiScoreBoardBatchUpdateRequest;
 import com.mb.livedataservice.api.request.ApiScoreBoardRequest;
 import com.mb.livedataservice.api.request.ApiScoreBoardUpdateRequest;
 import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
+import com.mb.livedataservice.api.response.ApiScoreBoardRevisionPageResponse;
+import com.mb.livedataservice.api.response.ApiScoreBoardRevisionResponse;
 import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.data.model.ScoreBoardRevision;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface ScoreBoardMapper {
 
@@ -25,7 +31,31 @@ public interface ScoreBoardMapper {
     @Mapping(target = "modifiedDateTime", ignore = true)
     ScoreBoard map(ApiScoreBoardUpdateRequest apiScoreBoardUpdateRequest);
 
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "createdDateTime", ignore = true)
+    @Mapping(target = "modifiedDateTime", ignore = true)
+    ScoreBoard map(ApiScoreBoardBatchUpdateRequest apiScoreBoardBatchUpdateRequest);
+
+    List<ScoreBoard> mapRequests(List<ApiScoreBoardRequest> apiScoreBoardRequests);
+
+    List<ScoreBoard> mapBatchUpdateRequests(List<ApiScoreBoardBatchUpdateRequest> apiScoreBoardBatchUpdateRequests);
+
     default Page<ApiScoreBoardResponse> map(Page<ScoreBoard> scoreBoards) {
         return scoreBoards.map(this::map);
     }
+
+    ApiScoreBoardRevisionResponse map(ScoreBoardRevision scoreBoardRevision);
+
+    List<ApiScoreBoardRevisionResponse> mapRevisions(List<ScoreBoardRevision> scoreBoardRevisions);
+
+    default ApiScoreBoardRevisionPageResponse mapRevisionPage(List<ScoreBoardRevision> scoreBoardRevisions) {
+        ApiScoreBoardRevisionPageResponse response = new ApiScoreBoardRevisionPageResponse();
+        response.setContent(mapRevisions(scoreBoardRevisions));
+        if (!scoreBoardRevisions.isEmpty()) {
+            ScoreBoardRevision last = scoreBoardRevisions.getLast();
+            response.setNextRevision(last.revision());
+            response.setNextId(last.id());
+        }
+        return response;
+    }
 }
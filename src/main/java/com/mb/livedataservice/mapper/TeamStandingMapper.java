@@ -0,0 +1,15 @@
+package com.mb.livedataservice.mapper;
+
+import com.mb.livedataservice.api.response.ApiTeamStandingResponse;
+import com.mb.livedataservice.data.model.redis.TeamStanding;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TeamStandingMapper {
+
+    ApiTeamStandingResponse map(TeamStanding teamStanding);
+
+    List<ApiTeamStandingResponse> map(List<TeamStanding> teamStandings);
+}
@@ -1,6 +1,7 @@
 package com.mb.livedataservice.mapper;
 
 import com.mb.livedataservice.api.filter.ApiTutorialFilter;
+import com.mb.livedataservice.api.request.ApiTutorialBatchUpdateRequest;
 import com.mb.livedataservice.api.request.ApiTutorialRequest;
 import com.mb.livedataservice.api.request.ApiTutorialUpdateRequest;
 import com.mb.livedataservice.api.response.ApiTutorialResponse;
@@ -26,6 +27,15 @@ public interface TutorialMapper {
     @Mapping(target = "modifiedDateTime", ignore = true)
     Tutorial map(ApiTutorialUpdateRequest apiTutorialRequest);
 
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "createdDateTime", ignore = true)
+    @Mapping(target = "modifiedDateTime", ignore = true)
+    Tutorial map(ApiTutorialBatchUpdateRequest apiTutorialBatchUpdateRequest);
+
+    List<Tutorial> mapRequests(List<ApiTutorialRequest> apiTutorialRequests);
+
+    List<Tutorial> mapBatchUpdateRequests(List<ApiTutorialBatchUpdateRequest> apiTutorialBatchUpdateRequests);
+
     ApiTutorialResponse map(Tutorial tutorial);
 
     List<ApiTutorialResponse> map(List<Tutorial> tutorial);
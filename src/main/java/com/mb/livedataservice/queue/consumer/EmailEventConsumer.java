@@ -1,14 +1,17 @@
 package com.mb.livedataservice.queue.consumer;
 
 import com.mb.livedataservice.data.model.EmailEvent;
-import com.mb.livedataservice.data.repository.EmailEventRepository;
 import com.mb.livedataservice.enums.EmailStatus;
 import com.mb.livedataservice.mapper.EmailEventDtoMapper;
 import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailDeliveryDeduplicator;
+import com.mb.livedataservice.service.EmailEventRecorder;
+import com.mb.livedataservice.service.EmailRateLimiter;
 import com.mb.livedataservice.service.EmailSender;
 import com.mb.livedataservice.util.Topics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.BackOff;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -18,13 +21,20 @@ import org.springframework.mail.MailException;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
+/**
+ * Default consumer: sends each email on the listener thread, one after the other. {@link ParallelEmailEventConsumer} takes over with
+ * {@code email.consumer.mode=parallel}.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "email.consumer.mode", havingValue = "sequential", matchIfMissing = true)
 public class EmailEventConsumer {
 
     private final EmailSender emailSender;
-    private final EmailEventRepository emailEventRepository;
+    private final EmailRateLimiter emailRateLimiter;
+    private final EmailDeliveryDeduplicator emailDeliveryDeduplicator;
+    private final EmailEventRecorder emailEventRecorder;
     private final EmailEventDtoMapper emailEventDtoMapper;
 
     @RetryableTopic(
@@ -40,9 +50,14 @@ public class EmailEventConsumer {
     public void listen(EmailEventDto eventDto) {
         log.info("Message consumed id: {}", eventDto.getId());
 
-        emailSender.send(eventDto);
+        boolean delivered = emailDeliveryDeduplicator.deliverOnce(eventDto.getId(), () -> {
+            emailRateLimiter.acquire(eventDto);
+            emailSender.send(eventDto);
+        });
 
-        emailEventRepository.save(emailEventDtoMapper.toEntity(eventDto));
+        if (delivered) {
+            emailEventRecorder.record(emailEventDtoMapper.toEntity(eventDto));
+        }
     }
 
     @DltHandler
@@ -52,6 +67,6 @@ public class EmailEventConsumer {
         EmailEvent emailEvent = emailEventDtoMapper.toEntity(eventDto);
         emailEvent.setStatus(EmailStatus.FAILED);
         emailEvent.setRetryCount(1);
-        emailEventRepository.save(emailEvent);
+        emailEventRecorder.record(emailEvent);
     }
 }
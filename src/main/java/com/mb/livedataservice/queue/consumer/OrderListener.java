@@ -1,19 +1,33 @@
 package com.mb.livedataservice.queue.consumer;
 
 import com.mb.livedataservice.queue.dto.consumer.Order;
+import com.mb.livedataservice.service.OrderIngestionService;
 import com.mb.livedataservice.util.Topics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.annotation.Validated;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class OrderListener {
 
-    @KafkaListener(topics = Topics.ORDERS, groupId = "${spring.kafka.consumer.group-id}")
-    void listen(@Payload @Validated Order order) {
-        log.info("Received an order message. listen - order: {}.", order);
+    private final OrderIngestionService orderIngestionService;
+
+    @KafkaListener(topics = Topics.ORDERS, groupId = "${spring.kafka.consumer.group-id}", containerFactory = "ordersKafkaListenerContainerFactory")
+    void listen(@Payload List<Order> orders, @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        log.debug("Received an order batch. listen - Size: {}.", orders.size());
+        orderIngestionService.ingest(orders, timestamps.stream()
+                .map(timestamp -> LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()))
+                .toList());
     }
 }
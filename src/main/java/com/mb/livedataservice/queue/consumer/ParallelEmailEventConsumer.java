@@ -0,0 +1,131 @@
+package com.mb.livedataservice.queue.consumer;
+
+import com.mb.livedataservice.config.EmailConsumerProperties;
+import com.mb.livedataservice.data.model.EmailEvent;
+import com.mb.livedataservice.enums.EmailStatus;
+import com.mb.livedataservice.mapper.EmailEventDtoMapper;
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailDeliveryDeduplicator;
+import com.mb.livedataservice.service.EmailEventRecorder;
+import com.mb.livedataservice.service.EmailRateLimiter;
+import com.mb.livedataservice.service.EmailSender;
+import com.mb.livedataservice.util.Topics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.BackOff;
+import org.springframework.kafka.annotation.DltHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.mail.MailException;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends emails on virtual threads, so the listener thread keeps handing out records while SMTP calls are in flight.
+ * <ul>
+ *     <li>at most {@code email.consumer.concurrency} emails are in flight; the listener thread waits for a slot before taking the next record</li>
+ *     <li>the returned future acknowledges the record once it completes; the container commits the offsets of a partition in order, up to the
+ *     first record still in flight, so a restart redelivers unfinished emails instead of skipping them</li>
+ *     <li>a failed future goes through the same retry topics and dead letter topic as a failure of {@link EmailEventConsumer}</li>
+ * </ul>
+ * Emails of one partition may complete out of order.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "email.consumer.mode", havingValue = "parallel")
+public class ParallelEmailEventConsumer {
+
+    private final EmailSender emailSender;
+    private final EmailRateLimiter emailRateLimiter;
+    private final EmailDeliveryDeduplicator emailDeliveryDeduplicator;
+    private final EmailEventRecorder emailEventRecorder;
+    private final EmailEventDtoMapper emailEventDtoMapper;
+    private final Semaphore inFlight;
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ParallelEmailEventConsumer(EmailSender emailSender,
+                                      EmailRateLimiter emailRateLimiter,
+                                      EmailDeliveryDeduplicator emailDeliveryDeduplicator,
+                                      EmailEventRecorder emailEventRecorder,
+                                      EmailEventDtoMapper emailEventDtoMapper,
+                                      EmailConsumerProperties emailConsumerProperties) {
+        this.emailSender = emailSender;
+        this.emailRateLimiter = emailRateLimiter;
+        this.emailDeliveryDeduplicator = emailDeliveryDeduplicator;
+        this.emailEventRecorder = emailEventRecorder;
+        this.emailEventDtoMapper = emailEventDtoMapper;
+        this.inFlight = new Semaphore(emailConsumerProperties.getConcurrency());
+    }
+
+    @RetryableTopic(
+            attempts = "5",
+            backOff = @BackOff(delayString = "${email.retry.backoff-delay:300000}"),
+            include = MailException.class
+    )
+    @KafkaListener(
+            groupId = "email-group",
+            topics = Topics.EMAIL_TOPIC,
+            containerFactory = "parallelEmailKafkaListenerContainerFactory"
+    )
+    public CompletableFuture<Void> listen(EmailEventDto eventDto) {
+        log.info("Message consumed id: {}", eventDto.getId());
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to send email " + eventDto.getId(), e);
+        }
+
+        try {
+            return CompletableFuture.runAsync(() -> send(eventDto), executorService)
+                    .whenComplete((_, _) -> inFlight.release());
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * The retry and dead letter endpoints share the manual, async ack container of {@link #listen}, so the record is acknowledged explicitly;
+     * otherwise its offset would never be committed and the container would wait for the pending ack.
+     */
+    @DltHandler
+    public void listenDLT(EmailEventDto eventDto, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Header(KafkaHeaders.OFFSET) long offset, Acknowledgment acknowledgment) {
+        log.error("DLT message consumed from topic: {}, offset: {}, eventId: {}", topic, offset, eventDto.getId());
+
+        EmailEvent emailEvent = emailEventDtoMapper.toEntity(eventDto);
+        emailEvent.setStatus(EmailStatus.FAILED);
+        emailEvent.setRetryCount(1);
+        emailEventRecorder.record(emailEvent);
+
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Runs after the listener containers stopped, and waits for the emails still in flight.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.close();
+    }
+
+    private void send(EmailEventDto eventDto) {
+        boolean delivered = emailDeliveryDeduplicator.deliverOnce(eventDto.getId(), () -> {
+            emailRateLimiter.acquire(eventDto);
+            emailSender.send(eventDto);
+        });
+
+        if (delivered) {
+            emailEventRecorder.record(emailEventDtoMapper.toEntity(eventDto));
+        }
+    }
+}
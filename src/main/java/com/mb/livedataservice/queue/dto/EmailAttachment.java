@@ -25,10 +25,15 @@ public class EmailAttachment {
     private String fileName;
 
     /**
-     * The content of the attachment as a byte array
+     * The content of the attachment as a byte array, or null when it was moved to the attachment store
      */
     private byte[] content;
 
+    /**
+     * The SHA-256 hex digest under which the content was put in the attachment store, when it was too large to travel inline
+     */
+    private String contentRef;
+
     /**
      * The MIME type of the attachment (e.g., "application/pdf", "text/csv")
      * If not provided, it will be auto-detected based on the file extension
@@ -0,0 +1,19 @@
+package com.mb.livedataservice.queue.dto;
+
+import com.mb.livedataservice.enums.EntityChangeType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Message published to {@link com.mb.livedataservice.util.Topics#ENTITY_CHANGE_EVENTS}, keyed by {@code aggregateType:aggregateId}.
+ * Delivery is at-least-once, consumers should deduplicate by {@code eventId}.
+ */
+public record EntityChangeEvent(UUID eventId,
+                                String aggregateType,
+                                String aggregateId,
+                                EntityChangeType eventType,
+                                OffsetDateTime occurredAt,
+                                Object payload) {
+
+}
@@ -0,0 +1,154 @@
+package com.mb.livedataservice.queue.producer;
+
+import com.mb.livedataservice.config.OutboxRelayProperties;
+import com.mb.livedataservice.data.model.OutboxEvent;
+import com.mb.livedataservice.data.repository.OutboxEventRepository;
+import com.mb.livedataservice.util.Topics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes {@code outbox_event} rows to {@link Topics#ENTITY_CHANGE_EVENTS}.
+ * <p>
+ * Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, sent without waiting per record so the producer can
+ * batch and compress them, and deleted in one statement after every send was acknowledged. A failed batch is
+ * rolled back and retried on the next poll, so delivery is at-least-once.
+ * <p>
+ * The relay owns its producer instead of declaring a {@link KafkaTemplate} bean, which would replace the
+ * auto-configured template used by the other producers.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxEventRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayProperties outboxRelayProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final DefaultKafkaProducerFactory<String, String> changeEventProducerFactory;
+    private final KafkaTemplate<String, String> changeEventKafkaTemplate;
+
+    private final Counter publishedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer publishTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxEventRelay(OutboxEventRepository outboxEventRepository,
+                            OutboxRelayProperties outboxRelayProperties,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            KafkaProperties kafkaProperties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxRelayProperties = outboxRelayProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.changeEventProducerFactory = new DefaultKafkaProducerFactory<>(producerConfig(kafkaProperties));
+        this.changeEventKafkaTemplate = new KafkaTemplate<>(changeEventProducerFactory);
+        this.changeEventKafkaTemplate.setObservationEnabled(true);
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .description("Outbox events published to Kafka")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("Outbox events published per batch")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("outbox.relay.publish")
+                .description("Time to publish and remove one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest pending outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:500ms}")
+    public void relay() {
+        int batchSize = outboxRelayProperties.getBatchSize();
+        int published;
+        do {
+            published = Objects.requireNonNull(transactionTemplate.execute(status -> publishBatch(batchSize)));
+        } while (published == batchSize);
+
+        lagMillis.set(outboxEventRepository.findOldestCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L));
+    }
+
+    int publishBatch(int batchSize) {
+        List<OutboxEvent> outboxEvents = outboxEventRepository.lockOldest(batchSize);
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        return publishTimer.record(() -> {
+            CompletableFuture<?>[] sends = outboxEvents.stream()
+                    .map(outboxEvent -> changeEventKafkaTemplate.send(Topics.ENTITY_CHANGE_EVENTS, outboxEvent.aggregateType() + ":" + outboxEvent.aggregateId(), outboxEvent.payload()))
+                    .toArray(CompletableFuture[]::new);
+            awaitAcknowledgements(sends);
+
+            outboxEventRepository.deleteByIds(outboxEvents.stream().map(OutboxEvent::id).toList());
+            publishedCounter.increment(outboxEvents.size());
+            batchSizeSummary.record(outboxEvents.size());
+            log.debug("Published outbox events. publishBatch - Size: {}", outboxEvents.size());
+            return outboxEvents.size();
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        changeEventProducerFactory.destroy();
+    }
+
+    /**
+     * Starts from the {@code spring.kafka.producer} settings, so connection, security and client settings apply here too.
+     * Payloads are already serialized JSON. Records linger briefly so a batch goes out as a few compressed requests.
+     */
+    static Map<String, Object> producerConfig(KafkaProperties kafkaProperties) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildProducerProperties());
+
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, 128 * 1024);
+
+        return config;
+    }
+
+    private void awaitAcknowledgements(CompletableFuture<?>[] sends) {
+        try {
+            CompletableFuture.allOf(sends).get(outboxRelayProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Outbox events could not be published, the batch will be retried", e);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.mb.livedataservice.queue.producer.impl;
 
+import com.mb.livedataservice.config.EmailAttachmentStoreProperties;
+import com.mb.livedataservice.queue.dto.EmailAttachment;
 import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailAttachmentStore;
 import com.mb.livedataservice.util.EmailUtils;
 import com.mb.livedataservice.util.Topics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
 
 @Slf4j
 @Component
@@ -14,6 +18,8 @@ import org.springframework.stereotype.Component;
 public class EmailEventProducer {
 
     private final KafkaTemplate<String, EmailEventDto> kafkaTemplate;
+    private final EmailAttachmentStore emailAttachmentStore;
+    private final EmailAttachmentStoreProperties emailAttachmentStoreProperties;
 
     public void produce(EmailEventDto emailEventDto) {
         if (!EmailUtils.isValid(emailEventDto)) {
@@ -21,7 +27,25 @@ public class EmailEventProducer {
             return;
         }
 
+        storeLargeAttachments(emailEventDto);
         kafkaTemplate.send(Topics.EMAIL_TOPIC, emailEventDto);
         log.info("Message produced id: {}", emailEventDto.getId());
     }
+
+    /**
+     * Replaces the content of attachments above the inline threshold with a reference into the attachment store, keeping them out of the email topics.
+     */
+    private void storeLargeAttachments(EmailEventDto emailEventDto) {
+        if (CollectionUtils.isEmpty(emailEventDto.getAttachments())) {
+            return;
+        }
+
+        long inlineThreshold = emailAttachmentStoreProperties.getInlineThreshold().toBytes();
+        for (EmailAttachment attachment : emailEventDto.getAttachments()) {
+            if (attachment.getContent() != null && attachment.getContent().length > inlineThreshold) {
+                attachment.setContentRef(emailAttachmentStore.store(attachment.getContent()));
+                attachment.setContent(null);
+            }
+        }
+    }
 }
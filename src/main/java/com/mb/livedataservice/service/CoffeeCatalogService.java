@@ -0,0 +1,10 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.CoffeeCatalogSnapshot;
+
+public interface CoffeeCatalogService {
+
+    CoffeeCatalogSnapshot getSnapshot();
+
+    void refresh();
+}
@@ -0,0 +1,30 @@
+package com.mb.livedataservice.service;
+
+import jakarta.activation.DataSource;
+
+public interface EmailAttachmentStore {
+
+    /**
+     * Stores attachment content under its SHA-256 hex digest, so identical content is stored only once.
+     *
+     * @param content the attachment content
+     * @return the reference to pass to {@link #open(String, String)}
+     */
+    String store(byte[] content);
+
+    /**
+     * Opens stored attachment content without loading it into memory.
+     *
+     * @param contentRef  the reference returned by {@link #store(byte[])}
+     * @param contentType the MIME type reported by the returned data source
+     * @return a data source streaming the stored content
+     */
+    DataSource open(String contentRef, String contentType);
+
+    /**
+     * Removes content that was not stored again within the retention period.
+     *
+     * @return the number of removed attachments
+     */
+    int purgeExpired();
+}
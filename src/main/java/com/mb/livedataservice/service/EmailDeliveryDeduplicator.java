@@ -0,0 +1,18 @@
+package com.mb.livedataservice.service;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+public interface EmailDeliveryDeduplicator {
+
+    /**
+     * Runs the delivery of an email event unless it was already delivered, and marks it as delivered once the delivery returned.
+     *
+     * @param eventId  the id of the email event, events without id are always delivered
+     * @param delivery sends the email
+     * @return {@code true} if the email was delivered, {@code false} if it was suppressed as a duplicate
+     * @throws org.springframework.mail.MailSendException if the event is being delivered by another consumer right now
+     */
+    boolean deliverOnce(@Nullable UUID eventId, Runnable delivery);
+}
@@ -0,0 +1,18 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.EmailEvent;
+
+public interface EmailEventRecorder {
+
+    /**
+     * Records a sent or failed email event. It is persisted with a later batch, at the latest on shutdown.
+     *
+     * @param emailEvent the email event to persist
+     */
+    void record(EmailEvent emailEvent);
+
+    /**
+     * Persists the buffered email events and returns how many were written.
+     */
+    int flush();
+}
@@ -0,0 +1,14 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+
+public interface EmailRateLimiter {
+
+    /**
+     * Waits until the email may be sent to the domains of all its recipients.
+     *
+     * @param eventDto the email about to be sent
+     * @throws org.springframework.mail.MailSendException if a domain gives no permit within the configured timeout
+     */
+    void acquire(EmailEventDto eventDto);
+}
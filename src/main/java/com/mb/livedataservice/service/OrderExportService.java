@@ -0,0 +1,12 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.filter.OrderExportFilter;
+import com.mb.livedataservice.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface OrderExportService {
+
+    long export(OrderExportFilter filter, ExportFormat format, boolean withItems, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.queue.dto.consumer.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderIngestionService {
+
+    int ingest(List<Order> orders, List<LocalDateTime> orderDates);
+}
@@ -0,0 +1,6 @@
+package com.mb.livedataservice.service;
+
+public interface OrderPartitionService {
+
+    void maintainPartitions();
+}
@@ -0,0 +1,13 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.BatchItemResult;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+
+import java.util.List;
+
+public interface OrderStatusService {
+
+    OrderStatusTransition transition(OrderStatusTransition transition);
+
+    List<BatchItemResult<OrderStatusTransition>> transitionAll(List<OrderStatusTransition> transitions);
+}
@@ -0,0 +1,18 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.enums.EntityChangeType;
+
+import java.util.Map;
+
+public interface OutboxEventService {
+
+    /**
+     * Appends a change event to the outbox. Must join the transaction that performs the change.
+     */
+    void append(String aggregateType, Object aggregateId, EntityChangeType eventType, Object payload);
+
+    /**
+     * Appends one change event per entry of {@code payloadByAggregateId} in a single batch. Must join the transaction that performs the changes.
+     */
+    void appendAll(String aggregateType, EntityChangeType eventType, Map<?, ?> payloadByAggregateId);
+}
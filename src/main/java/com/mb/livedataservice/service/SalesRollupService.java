@@ -0,0 +1,23 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.CoffeeSales;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.model.SalesBucket;
+import com.mb.livedataservice.enums.TimeBucket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupService {
+
+    void recordOrdersCreated(List<Order> orders);
+
+    void recordOrderStatusesChanged(List<OrderStatusTransition> transitions);
+
+    List<SalesBucket> getSales(LocalDateTime from, LocalDateTime to, TimeBucket timeBucket);
+
+    List<CoffeeSales> getTopCoffees(LocalDateTime from, LocalDateTime to, int limit);
+
+    int catchUp();
+}
@@ -0,0 +1,15 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.ScoreBoard;
+
+/**
+ * Records score board changes for the audit history. Must be called inside the transaction that performs the change.
+ */
+public interface ScoreBoardAuditRecorder {
+
+    void recordCreated(ScoreBoard scoreBoard);
+
+    void recordUpdated(ScoreBoard previous, ScoreBoard current);
+
+    void recordRemoved(ScoreBoard scoreBoard);
+}
@@ -0,0 +1,12 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.ScoreBoardRevision;
+
+import java.util.List;
+
+public interface ScoreBoardAuditService {
+
+    List<ScoreBoardRevision> getScoreBoardRevisions(Long id, int afterRevision, int size);
+
+    List<ScoreBoardRevision> getScoreBoardRevisionsAfter(int afterRevision, long afterId, int size);
+}
@@ -1,5 +1,7 @@
 package com.mb.livedataservice.service;
 
+import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
+import com.mb.livedataservice.data.model.BatchItemResult;
 import com.mb.livedataservice.data.model.ScoreBoard;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,7 +12,7 @@ public interface ScoreBoardService {
 
     ScoreBoard createScoreBoard(ScoreBoard scoreBoard);
 
-    Page<ScoreBoard> getAllScoreBoards(Pageable pageable);
+    Page<ApiScoreBoardResponse> getAllScoreBoardResponses(Pageable pageable);
 
     ScoreBoard getScoreBoardById(Long id);
 
@@ -18,5 +20,11 @@ public interface ScoreBoardService {
 
     void removeScoreBoardById(Long id);
 
+    List<BatchItemResult<ScoreBoard>> createScoreBoards(List<ScoreBoard> scoreBoards);
+
+    List<BatchItemResult<ScoreBoard>> updateScoreBoards(List<ScoreBoard> scoreBoards);
+
+    List<BatchItemResult<ScoreBoard>> getScoreBoardsByIds(List<Long> ids);
+
     List<String> getAllScoreBoardsInAscendingOrderByModifiedDateTime();
 }
\ No newline at end of file
@@ -1,8 +1,32 @@
 package com.mb.livedataservice.service;
 
+import com.mb.livedataservice.data.model.ShelfState;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
 public interface ShelfService {
 
     void saveOrUpdate(Long productId, boolean active);
 
     void insertOrUpdateOnConflictAsAtomic(Long productId, boolean active);
+
+    /**
+     * Bulk variant of {@link #insertOrUpdateOnConflictAsAtomic(Long, boolean)}, written {@code shelf.bulk-upsert-chunk-size} products per transaction.
+     * Returns the number of shelf entries written.
+     */
+    long insertOrUpdateAllOnConflictAsAtomic(Map<Long, Boolean> activeByProductId);
+
+    Optional<ShelfState> findCurrentState(Long productId);
+
+    /**
+     * Returns the current state of each given product that has a shelf entry, keyed by product id, one indexed lookup per uncached chunk of products.
+     */
+    Map<Long, ShelfState> findCurrentStates(Collection<Long> productIds);
+
+    /**
+     * Rebuilds the current states that no longer match {@code shelf_entry} and returns how many were repaired.
+     */
+    long checkCurrentStates();
 }
@@ -0,0 +1,17 @@
+package com.mb.livedataservice.service;
+
+import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.data.model.redis.TeamStanding;
+
+import java.util.List;
+
+public interface StandingsService {
+
+    void recordMatchEnded(ScoreBoard scoreBoard);
+
+    List<TeamStanding> getStandings(int page, int size);
+
+    TeamStanding getTeamStanding(String teamName);
+
+    int rebuildStandings();
+}
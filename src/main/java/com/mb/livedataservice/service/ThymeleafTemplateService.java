@@ -1,5 +1,7 @@
 package com.mb.livedataservice.service;
 
+import com.mb.livedataservice.data.model.EmailTemplate;
+
 import java.util.Map;
 
 public interface ThymeleafTemplateService {
@@ -12,4 +14,29 @@ public interface ThymeleafTemplateService {
      * @return the processed template as a string
      */
     String processTemplate(String templateContent, Map<String, Object> variables);
+
+    /**
+     * Processes the subject of an email template, compiling it once per template code and version.
+     *
+     * @param emailTemplate the email template whose subject is processed
+     * @param variables     the context variables to be used in the template
+     * @return the processed subject
+     */
+    String processSubject(EmailTemplate emailTemplate, Map<String, Object> variables);
+
+    /**
+     * Processes the body of an email template, compiling it once per template code and version.
+     *
+     * @param emailTemplate the email template whose body is processed
+     * @param variables     the context variables to be used in the template
+     * @return the processed body
+     */
+    String processBody(EmailTemplate emailTemplate, Map<String, Object> variables);
+
+    /**
+     * Removes every compiled version of the template with the given code.
+     *
+     * @param templateCode the email template code
+     */
+    void evictTemplate(String templateCode);
 }
@@ -1,6 +1,8 @@
 package com.mb.livedataservice.service;
 
+import com.mb.livedataservice.api.response.ApiTutorialResponse;
 import com.mb.livedataservice.data.filter.TutorialFilter;
+import com.mb.livedataservice.data.model.BatchItemResult;
 import com.mb.livedataservice.data.model.Tutorial;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,7 +11,7 @@ import java.util.List;
 
 public interface TutorialService {
 
-    List<Tutorial> findByTitleContaining(String title);
+    List<Tutorial> search(String text, Pageable pageable);
 
     Tutorial findById(long id);
 
@@ -17,11 +19,23 @@ public interface TutorialService {
 
     Tutorial update(long id, Tutorial tutorial);
 
+    List<BatchItemResult<Tutorial>> saveAll(List<Tutorial> tutorials);
+
+    List<BatchItemResult<Tutorial>> updateAll(List<Tutorial> tutorials);
+
+    List<BatchItemResult<Tutorial>> findAllById(List<Long> ids);
+
     void deleteById(long id);
 
-    void deleteAll();
+    long deleteAll();
+
+    long deleteAll(TutorialFilter filter);
+
+    long deleteAllById(List<Long> ids);
+
+    List<ApiTutorialResponse> findResponses(Pageable pageable);
 
-    List<Tutorial> findByPublished(boolean b);
+    List<ApiTutorialResponse> findResponsesByPublished(boolean published);
 
-    Page<Tutorial> findAll(TutorialFilter filter, Pageable pageable);
+    Page<ApiTutorialResponse> findAllResponses(TutorialFilter filter, Pageable pageable);
 }
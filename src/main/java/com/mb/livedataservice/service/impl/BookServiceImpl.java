@@ -3,17 +3,21 @@ package com.mb.livedataservice.service.impl;
 import com.mb.livedataservice.data.model.Author;
 import com.mb.livedataservice.data.model.Book;
 import com.mb.livedataservice.data.repository.BookGraphQLRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
 import com.mb.livedataservice.service.AuthorService;
 import com.mb.livedataservice.service.BookService;
+import com.mb.livedataservice.service.OutboxEventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ public class BookServiceImpl implements BookService {
 
     private final BookGraphQLRepository bookGraphQlRepository;
     private final AuthorService authorService;
+    private final OutboxEventService outboxEventService;
 
     @Override
     public List<Book> findAll() {
@@ -44,7 +49,7 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional
     public Book save(Book book) {
-        return bookGraphQlRepository.save(book);
+        return appendChange(bookGraphQlRepository.save(book), EntityChangeType.CREATED);
     }
 
     @Override
@@ -55,7 +60,7 @@ public class BookServiceImpl implements BookService {
                     existingBook.setTitle(book.getTitle());
                     existingBook.setAuthor(book.getAuthor());
                     existingBook.setPublishedYear(book.getPublishedYear());
-                    return bookGraphQlRepository.save(existingBook);
+                    return appendChange(bookGraphQlRepository.save(existingBook), EntityChangeType.UPDATED);
                 })
                 .orElseThrow(() -> new BaseException(LiveDataErrorCode.NOT_FOUND));
     }
@@ -65,6 +70,7 @@ public class BookServiceImpl implements BookService {
     public boolean deleteById(Long id) {
         if (bookGraphQlRepository.existsById(id)) {
             bookGraphQlRepository.deleteById(id);
+            outboxEventService.append(Book.class.getSimpleName(), id, EntityChangeType.DELETED, Map.of("id", id));
             return true;
         }
         return false;
@@ -75,7 +81,7 @@ public class BookServiceImpl implements BookService {
     public Book createBook(String title, Long authorId, Integer publishedYear) {
         Author author = authorService.findById(authorId);
         Book book = new Book(title, author, publishedYear);
-        return bookGraphQlRepository.save(book);
+        return appendChange(bookGraphQlRepository.save(book), EntityChangeType.CREATED);
     }
 
     @Override
@@ -87,6 +93,17 @@ public class BookServiceImpl implements BookService {
         existingBook.setTitle(title);
         existingBook.setAuthor(author);
         existingBook.setPublishedYear(publishedYear);
-        return bookGraphQlRepository.save(existingBook);
+        return appendChange(bookGraphQlRepository.save(existingBook), EntityChangeType.UPDATED);
+    }
+
+    private Book appendChange(Book book, EntityChangeType eventType) {
+        // author is lazy, so only its id goes into the payload
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", book.getId());
+        payload.put("title", book.getTitle());
+        payload.put("publishedYear", book.getPublishedYear());
+        payload.put("authorId", book.getAuthor() == null ? null : book.getAuthor().getId());
+        outboxEventService.append(Book.class.getSimpleName(), book.getId(), eventType, payload);
+        return book;
     }
 }
@@ -0,0 +1,147 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailEventBufferProperties;
+import com.mb.livedataservice.data.model.EmailEvent;
+import com.mb.livedataservice.data.repository.EmailEventRepository;
+import com.mb.livedataservice.service.EmailEventRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers email events in memory and inserts them in JDBC batches, once {@code batchSize} events are waiting or every {@code flushInterval}.
+ * <ul>
+ *     <li>a full buffer blocks the recording consumer until a flush makes room</li>
+ *     <li>a batch rejected by a constraint is retried row by row, so one invalid event does not hold back the others</li>
+ *     <li>a batch failing for any other reason goes back to the head of the buffer and is retried by the next flush</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BufferedEmailEventRecorder implements EmailEventRecorder {
+
+    private final EmailEventRepository emailEventRepository;
+    private final EmailEventBufferProperties emailEventBufferProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingDeque<EmailEvent> buffer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public BufferedEmailEventRecorder(EmailEventRepository emailEventRepository,
+                                      EmailEventBufferProperties emailEventBufferProperties,
+                                      TransactionTemplate transactionTemplate,
+                                      MeterRegistry meterRegistry) {
+        this.emailEventRepository = emailEventRepository;
+        this.emailEventBufferProperties = emailEventBufferProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new LinkedBlockingDeque<>(emailEventBufferProperties.getCapacity());
+        Gauge.builder("email.event.buffer.depth", buffer, BlockingDeque::size)
+                .description("Email events waiting to be persisted")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("email.event.flush")
+                .description("Time to insert one batch of email events")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("email.event.flush.batch.size")
+                .description("Email events inserted per batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(EmailEvent emailEvent) {
+        try {
+            buffer.putLast(emailEvent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while buffering email event " + emailEvent.getId(), e);
+        }
+
+        // the consumer that fills a batch flushes it, unless a flush is already running
+        if (buffer.size() >= emailEventBufferProperties.getBatchSize() && flushLock.tryLock()) {
+            try {
+                flushBuffer();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${email.event-buffer.flush-interval:1s}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushBuffer();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        int flushedCount = flush();
+        log.info("Flushed buffered email events on shutdown. destroy - Count: {}, Remaining: {}", flushedCount, buffer.size());
+    }
+
+    private int flushBuffer() {
+        int batchSize = emailEventBufferProperties.getBatchSize();
+        int flushedCount = 0;
+        while (!buffer.isEmpty()) {
+            List<EmailEvent> batch = new ArrayList<>(batchSize);
+            buffer.drainTo(batch, batchSize);
+            if (!insert(batch)) {
+                break;
+            }
+            flushedCount += batch.size();
+        }
+        return flushedCount;
+    }
+
+    private boolean insert(List<EmailEvent> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(_ -> emailEventRepository.insertAll(batch)));
+            batchSizeSummary.record(batch.size());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Email event batch rejected, inserting one by one. insert - Size: {}, Exception: {}", batch.size(), ExceptionUtils.getMessage(e));
+            batch.forEach(this::insertOne);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to insert email events, retrying with the next flush. insert - Size: {}, Exception: {}", batch.size(), ExceptionUtils.getMessage(e));
+            requeue(batch);
+            return false;
+        }
+    }
+
+    private void insertOne(EmailEvent emailEvent) {
+        try {
+            transactionTemplate.executeWithoutResult(_ -> emailEventRepository.insertAll(List.of(emailEvent)));
+        } catch (RuntimeException e) {
+            log.error("Failed to insert email event, dropping it. insertOne - Id: {}, Exception: {}", emailEvent.getId(), ExceptionUtils.getMessage(e));
+        }
+    }
+
+    private void requeue(List<EmailEvent> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            EmailEvent emailEvent = batch.get(i);
+            if (!buffer.offerFirst(emailEvent)) {
+                log.error("Email event buffer is full, dropping event. requeue - Id: {}", emailEvent.getId());
+            }
+        }
+    }
+}
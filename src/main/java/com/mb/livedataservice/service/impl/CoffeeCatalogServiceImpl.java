@@ -0,0 +1,80 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.Coffee;
+import com.mb.livedataservice.data.model.CoffeeCatalogSnapshot;
+import com.mb.livedataservice.data.repository.CatalogVersionRepository;
+import com.mb.livedataservice.data.repository.CoffeeRepository;
+import com.mb.livedataservice.service.CoffeeCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.relational.core.mapping.event.RelationalEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Serves the coffee catalog from an in-memory {@link CoffeeCatalogSnapshot}.
+ * <p>
+ * The snapshot is replaced as a whole, so readers never see a partially loaded catalog. It is reloaded
+ * <ul>
+ *     <li>after a coffee saved or deleted through {@link CoffeeRepository} is committed on this instance</li>
+ *     <li>when polling finds that {@code catalog_version} moved, which covers other instances and writes outside the application</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoffeeCatalogServiceImpl implements CoffeeCatalogService {
+
+    private final CoffeeRepository coffeeRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    private volatile CoffeeCatalogSnapshot snapshot;
+
+    @Override
+    public CoffeeCatalogSnapshot getSnapshot() {
+        CoffeeCatalogSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            refresh();
+            currentSnapshot = snapshot;
+        }
+        return currentSnapshot;
+    }
+
+    /**
+     * Reads the version before the rows, so a concurrent write can at worst cause one redundant reload, never a missed one.
+     */
+    @Override
+    public synchronized void refresh() {
+        long version = catalogVersionRepository.findVersion(CatalogVersionRepository.COFFEE);
+        CoffeeCatalogSnapshot currentSnapshot = snapshot;
+        snapshot = currentSnapshot == null
+                ? new CoffeeCatalogSnapshot(version, coffeeRepository.findAll(), Instant.now())
+                : currentSnapshot.next(version, coffeeRepository.findAll(), Instant.now());
+        log.info("Reloaded coffee catalog. refresh - Version: {}, Coffees: {}", version, snapshot.getCoffees().size());
+    }
+
+    @Scheduled(fixedDelayString = "${coffee-catalog.poll-interval:5s}")
+    public void pollVersion() {
+        try {
+            CoffeeCatalogSnapshot currentSnapshot = snapshot;
+            if (currentSnapshot != null && catalogVersionRepository.findVersion(CatalogVersionRepository.COFFEE) != currentSnapshot.getVersion()) {
+                refresh();
+            }
+        } catch (Exception e) {
+            log.error("Exception occurred while polling coffee catalog version, serving the current snapshot. pollVersion - Exception: {}", ExceptionUtils.getStackTrace(e));
+        }
+    }
+
+    @TransactionalEventListener(classes = {AfterSaveEvent.class, AfterDeleteEvent.class}, fallbackExecution = true)
+    public void onCoffeeChanged(RelationalEvent<?> event) {
+        if (event.getType() == Coffee.class && snapshot != null) {
+            refresh();
+        }
+    }
+}
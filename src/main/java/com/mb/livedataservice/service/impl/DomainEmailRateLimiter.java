@@ -0,0 +1,128 @@
+package com.mb.livedataservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mb.livedataservice.config.EmailConsumerProperties;
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailRateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Limits the emails sent to each recipient domain to {@code domainRateLimit} per {@code domainRateLimitPeriod}, or to the limit configured for
+ * the domain in {@code domainRateLimitOverrides}, so that large providers do not start deferring or rejecting our mail.
+ * <p>
+ * An email takes one permit of every distinct domain among its recipients. Failing to get one within {@code domainPermitTimeout} is reported as a
+ * {@link MailSendException}, so the email goes through the same retry topics as a failed send.
+ * <p>
+ * Waiting for a permit blocks the calling thread: a virtual thread in parallel mode, the listener thread in sequential mode.
+ * <p>
+ * Rate limiters are kept for at most {@code domainRateLimiterMaximumSize} domains and dropped once unused for
+ * {@code domainRateLimiterExpireAfterAccess}, but never before a full {@code domainRateLimitPeriod}, after which a dropped
+ * limiter would have had all its permits back anyway.
+ */
+@Slf4j
+@Service
+public class DomainEmailRateLimiter implements EmailRateLimiter {
+
+    private static final String RATE_LIMITER_PREFIX = "email-domain-";
+    private static final long PERMIT_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final EmailConsumerProperties emailConsumerProperties;
+    private final Cache<String, RateLimiter> rateLimitersByDomain;
+
+    public DomainEmailRateLimiter(EmailConsumerProperties emailConsumerProperties) {
+        this.emailConsumerProperties = emailConsumerProperties;
+        this.rateLimitersByDomain = Caffeine.newBuilder()
+                .maximumSize(emailConsumerProperties.getDomainRateLimiterMaximumSize())
+                .expireAfterAccess(maxDuration(emailConsumerProperties.getDomainRateLimiterExpireAfterAccess(), emailConsumerProperties.getDomainRateLimitPeriod()))
+                .build();
+    }
+
+    @Override
+    public void acquire(EmailEventDto eventDto) {
+        // sorted, so concurrent emails to the same domains take their permits in the same order
+        List<Map.Entry<String, RateLimiter>> rateLimiters = getDomains(eventDto).stream()
+                .map(domain -> Map.entry(domain, rateLimitersByDomain.get(domain, _ -> RateLimiter.of(RATE_LIMITER_PREFIX + domain, getConfig(domain)))))
+                .toList();
+
+        if (rateLimiters.size() > 1) {
+            awaitPermits(eventDto, rateLimiters);
+        }
+
+        for (Map.Entry<String, RateLimiter> rateLimiter : rateLimiters) {
+            if (!rateLimiter.getValue().acquirePermission()) {
+                throw permitTimeout(eventDto, rateLimiter.getKey());
+            }
+        }
+    }
+
+    /**
+     * Waits until every domain of the email has a permit before any is taken, so that a domain running out does not use up the permits of the
+     * other domains while nothing is sent. Emails competing for the same domains can still take a permit in between.
+     */
+    private void awaitPermits(EmailEventDto eventDto, List<Map.Entry<String, RateLimiter>> rateLimiters) {
+        long deadline = System.nanoTime() + emailConsumerProperties.getDomainPermitTimeout().toNanos();
+        for (Map.Entry<String, RateLimiter> rateLimiter : rateLimiters) {
+            while (rateLimiter.getValue().getMetrics().getAvailablePermissions() < 1) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw permitTimeout(eventDto, rateLimiter.getKey());
+                }
+                LockSupport.parkNanos(Math.min(remainingNanos, PERMIT_POLL_INTERVAL_NANOS));
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new MailSendException("Interrupted while waiting for a send permit for domain " + rateLimiter.getKey());
+                }
+            }
+        }
+    }
+
+    private MailSendException permitTimeout(EmailEventDto eventDto, String domain) {
+        log.warn("Email rate limit of domain exceeded. acquire - domain: {}, eventId: {}", domain, eventDto.getId());
+        return new MailSendException("No send permit for domain " + domain + " within " + emailConsumerProperties.getDomainPermitTimeout());
+    }
+
+    private RateLimiterConfig getConfig(String domain) {
+        int limit = emailConsumerProperties.getDomainRateLimitOverrides().entrySet().stream()
+                .filter(override -> override.getKey().equalsIgnoreCase(domain))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(emailConsumerProperties.getDomainRateLimit());
+
+        return RateLimiterConfig.custom()
+                .limitForPeriod(limit)
+                .limitRefreshPeriod(emailConsumerProperties.getDomainRateLimitPeriod())
+                .timeoutDuration(emailConsumerProperties.getDomainPermitTimeout())
+                .build();
+    }
+
+    private static Duration maxDuration(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private static Set<String> getDomains(EmailEventDto eventDto) {
+        Set<String> domains = new TreeSet<>();
+        Stream.of(eventDto.getTo(), eventDto.getCc(), eventDto.getBcc())
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(address -> address.substring(address.lastIndexOf('@') + 1).trim().toLowerCase(Locale.ROOT))
+                .filter(domain -> !domain.isEmpty())
+                .forEach(domains::add);
+        return domains;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mb.livedataservice.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.mb.livedataservice.api.request.EmailTemplateRequest;
 import com.mb.livedataservice.api.response.EmailTemplateResponse;
 import com.mb.livedataservice.data.model.EmailTemplate;
@@ -8,12 +9,23 @@ import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
 import com.mb.livedataservice.mapper.EmailTemplateMapper;
 import com.mb.livedataservice.service.EmailTemplateService;
+import com.mb.livedataservice.service.ThymeleafTemplateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,6 +34,8 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
 
     private final EmailTemplateRepository emailTemplateRepository;
     private final EmailTemplateMapper emailTemplateMapper;
+    private final ThymeleafTemplateService thymeleafTemplateService;
+    private final Cache<String, Optional<EmailTemplate>> activeEmailTemplateCache;
 
     @Override
     @Transactional
@@ -32,6 +46,7 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
 
         EmailTemplate template = emailTemplateMapper.toEntity(request);
         EmailTemplate savedTemplate = emailTemplateRepository.save(template);
+        evictTemplatesAfterCommit(List.of(savedTemplate.getCode()));
         log.info("Email template created with id: {}", savedTemplate.getId());
         return emailTemplateMapper.toResponse(savedTemplate);
     }
@@ -47,8 +62,10 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
             throw new BaseException(LiveDataErrorCode.INVALID_VALUE);
         }
 
+        String previousCode = template.getCode();
         emailTemplateMapper.updateEntity(template, request);
         EmailTemplate updatedTemplate = emailTemplateRepository.save(template);
+        evictTemplatesAfterCommit(List.of(previousCode, updatedTemplate.getCode()));
         log.info("Email template updated with id: {}", updatedTemplate.getId());
         return emailTemplateMapper.toResponse(updatedTemplate);
     }
@@ -79,16 +96,50 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!emailTemplateRepository.existsById(id)) {
-            throw new BaseException(LiveDataErrorCode.NOT_FOUND);
-        }
-        emailTemplateRepository.deleteById(id);
+        EmailTemplate template = emailTemplateRepository.findById(id)
+                .orElseThrow(() -> new BaseException(LiveDataErrorCode.NOT_FOUND));
+        emailTemplateRepository.delete(template);
+        evictTemplatesAfterCommit(List.of(template.getCode()));
         log.info("Email template deleted with id: {}", id);
     }
 
+    /**
+     * Served from the local cache, which is preloaded at startup and also remembers codes without an active template.
+     */
     @Override
     public EmailTemplate findActiveByCode(String code) {
-        return emailTemplateRepository.findByCodeAndActiveTrue(code)
+        return activeEmailTemplateCache.get(code, emailTemplateRepository::findByCodeAndActiveTrue)
                 .orElseThrow(() -> new BaseException(LiveDataErrorCode.NOT_FOUND));
     }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadActiveTemplates() {
+        try {
+            Map<String, Optional<EmailTemplate>> activeTemplates = emailTemplateRepository.findAllByActiveTrue()
+                    .stream()
+                    .collect(Collectors.toMap(EmailTemplate::getCode, Optional::of));
+            activeEmailTemplateCache.putAll(activeTemplates);
+            log.info("Preloaded active email templates. preloadActiveTemplates - Count: {}", activeTemplates.size());
+        } catch (Exception e) {
+            log.warn("Failed to preload active email templates. preloadActiveTemplates - Exception: {}", ExceptionUtils.getMessage(e));
+        }
+    }
+
+    private void evictTemplatesAfterCommit(List<String> templateCodes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictTemplates(templateCodes);
+                }
+            });
+        } else {
+            evictTemplates(templateCodes);
+        }
+    }
+
+    private void evictTemplates(List<String> templateCodes) {
+        activeEmailTemplateCache.invalidateAll(templateCodes);
+        templateCodes.forEach(thymeleafTemplateService::evictTemplate);
+    }
 }
@@ -0,0 +1,29 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.service.ScoreBoardAuditRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default recorder: Envers listeners already write revinfo and score_board_aud on flush, so nothing is left to do.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.score-board.mode", havingValue = "sync", matchIfMissing = true)
+public class EnversScoreBoardAuditRecorder implements ScoreBoardAuditRecorder {
+
+    @Override
+    public void recordCreated(ScoreBoard scoreBoard) {
+        // written by Envers
+    }
+
+    @Override
+    public void recordUpdated(ScoreBoard previous, ScoreBoard current) {
+        // written by Envers
+    }
+
+    @Override
+    public void recordRemoved(ScoreBoard scoreBoard) {
+        // written by Envers
+    }
+}
@@ -0,0 +1,134 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailAttachmentStoreProperties;
+import com.mb.livedataservice.service.EmailAttachmentStore;
+import jakarta.activation.DataSource;
+import jakarta.activation.FileDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed attachment store on a directory shared by producers and consumers, laid out as {@code <directory>/<first two hex digits>/<sha-256 hex>}.
+ * <p>
+ * Storing existing content only refreshes its modification time, which is what {@link #purgeExpired()} measures the retention from.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileSystemEmailAttachmentStore implements EmailAttachmentStore {
+
+    private static final Pattern CONTENT_REF_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final EmailAttachmentStoreProperties emailAttachmentStoreProperties;
+
+    @Override
+    public String store(byte[] content) {
+        String contentRef = HexFormat.of().formatHex(sha256(content));
+        Path path = resolve(contentRef);
+        try {
+            if (Files.exists(path)) {
+                Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+                return contentRef;
+            }
+
+            Files.createDirectories(path.getParent());
+            Path tempFile = Files.createTempFile(path.getParent(), contentRef, ".tmp");
+            try {
+                Files.write(tempFile, content);
+                // concurrent writers of the same content race harmlessly, the rename is atomic and the content identical
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            return contentRef;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store email attachment " + contentRef, e);
+        }
+    }
+
+    @Override
+    public DataSource open(String contentRef, String contentType) {
+        Path path = resolve(contentRef);
+        if (!Files.isRegularFile(path)) {
+            throw new UncheckedIOException(new FileNotFoundException("Email attachment not found: " + contentRef));
+        }
+
+        return new FileDataSource(path.toFile()) {
+            @Override
+            public String getContentType() {
+                return contentType;
+            }
+        };
+    }
+
+    @Override
+    @Scheduled(cron = "${email.attachment-store.purge-cron:0 30 3 * * *}")
+    public int purgeExpired() {
+        Path directory = emailAttachmentStoreProperties.getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        FileTime expiredBefore = FileTime.from(Instant.now().minus(emailAttachmentStoreProperties.getRetention()));
+        List<Path> expiredFiles;
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            expiredFiles = files.filter(file -> isExpired(file, expiredBefore)).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list email attachments", e);
+        }
+
+        int purgedCount = 0;
+        for (Path expiredFile : expiredFiles) {
+            try {
+                if (Files.deleteIfExists(expiredFile)) {
+                    purgedCount++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to purge email attachment. purgeExpired - Path: {}, Exception: {}", expiredFile, ExceptionUtils.getMessage(e));
+            }
+        }
+        log.info("Purged expired email attachments. purgeExpired - Count: {}", purgedCount);
+        return purgedCount;
+    }
+
+    private Path resolve(String contentRef) {
+        if (contentRef == null || !CONTENT_REF_PATTERN.matcher(contentRef).matches()) {
+            throw new IllegalArgumentException("Invalid email attachment reference: " + contentRef);
+        }
+        return emailAttachmentStoreProperties.getDirectory().resolve(contentRef.substring(0, 2)).resolve(contentRef);
+    }
+
+    private static boolean isExpired(Path file, FileTime expiredBefore) {
+        try {
+            return Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(expiredBefore) < 0;
+        } catch (IOException _) {
+            return false;
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
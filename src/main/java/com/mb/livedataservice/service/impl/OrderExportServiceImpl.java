@@ -0,0 +1,122 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.filter.OrderExportFilter;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.data.repository.OrderExportRepository;
+import com.mb.livedataservice.enums.ExportFormat;
+import com.mb.livedataservice.service.OrderExportService;
+import com.mb.livedataservice.util.JsonUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes orders to the output stream while they are read, through a fixed size buffer, so an export of any size needs constant memory.
+ * <p>
+ * NDJSON writes one order per line, with its items nested when requested. CSV writes one line per item, repeating the
+ * order columns, or a single line with empty item columns for orders without items.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String ORDER_CSV_HEADER = "id,customer_id,customer_name,order_date,total_amount,status";
+    private static final String ITEM_CSV_HEADER = ",item_id,coffee_id,coffee_name,coffee_size,quantity,price";
+
+    private final OrderExportRepository orderExportRepository;
+
+    /**
+     * Leaves {@code outputStream} open; it is only flushed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(OrderExportFilter filter, ExportFormat format, boolean withItems, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long[] exportedCount = {0};
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(withItems ? ORDER_CSV_HEADER + ITEM_CSV_HEADER + "\n" : ORDER_CSV_HEADER + "\n");
+            }
+
+            if (withItems) {
+                orderExportRepository.forEachOrderWithItems(filter, order -> {
+                    write(writer, format == ExportFormat.CSV ? toCsv(order) : toJson(order));
+                    exportedCount[0]++;
+                });
+            } else {
+                orderExportRepository.forEachOrder(filter, order -> {
+                    write(writer, format == ExportFormat.CSV ? toCsv(order) + "\n" : toJson(order));
+                    exportedCount[0]++;
+                });
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("Exported orders. export - Filter: {}, Format: {}, WithItems: {}, Exported: {}", filter, format, withItems, exportedCount[0]);
+        return exportedCount[0];
+    }
+
+    private static void write(Writer writer, String content) {
+        try {
+            writer.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toJson(Object order) {
+        return JsonUtils.serialize(order) + "\n";
+    }
+
+    private static String toCsv(Order order) {
+        return csvLine(order.id(), order.customerId(), order.customerName(), order.orderDate(), order.totalAmount(), order.status());
+    }
+
+    private static String toCsv(OrderWithItems order) {
+        String orderColumns = csvLine(order.id(), order.customerId(), order.customerName(), order.orderDate(), order.totalAmount(), order.status());
+        if (order.items().isEmpty()) {
+            return orderColumns + ",,,,,,\n";
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (OrderWithItems.Item item : order.items()) {
+            lines.append(orderColumns).append(',')
+                    .append(csvLine(item.id(), item.coffeeId(), item.coffeeName(), item.coffeeSize(), item.quantity(), item.price()))
+                    .append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static String csvLine(Object... values) {
+        return Stream.of(values)
+                .map(value -> Objects.toString(value, ""))
+                .map(OrderExportServiceImpl::escapeCsv)
+                .collect(Collectors.joining(","));
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,109 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.Coffee;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderItem;
+import com.mb.livedataservice.data.repository.OrderIngestionRepository;
+import com.mb.livedataservice.data.repository.OrderItemRepository;
+import com.mb.livedataservice.data.repository.OrderRepository;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.service.OrderIngestionService;
+import com.mb.livedataservice.service.SalesRollupService;
+import com.mb.livedataservice.util.LiveDataConstants;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes a consumed batch of order messages in one transaction: each message becomes a {@code PENDING} order with a single item.
+ * <p>
+ * Messages are deduplicated by order UUID, within the batch and against stored orders, so redelivered batches are
+ * written once. Invalid messages and messages of unknown articles are logged and skipped, since retrying them cannot succeed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIngestionServiceImpl implements OrderIngestionService {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderIngestionRepository orderIngestionRepository;
+    private final SalesRollupService salesRollupService;
+    private final Validator validator;
+
+    /**
+     * {@code orderDates.get(i)} is the date of {@code orders.get(i)}, taken from the record timestamp.
+     */
+    @Override
+    @Transactional
+    public int ingest(List<com.mb.livedataservice.queue.dto.consumer.Order> orders, List<LocalDateTime> orderDates) {
+        Map<UUID, Integer> indexByOrderUuid = new LinkedHashMap<>();
+        for (int i = 0; i < orders.size(); i++) {
+            var order = orders.get(i);
+            if (order == null || !validator.validate(order).isEmpty()) {
+                log.warn("Skipping invalid order message. ingest - Order: {}", order);
+                continue;
+            }
+            indexByOrderUuid.putIfAbsent(order.orderId(), i);
+        }
+        if (indexByOrderUuid.isEmpty()) {
+            return 0;
+        }
+
+        indexByOrderUuid.keySet().removeAll(orderIngestionRepository.findExistingOrderUuids(indexByOrderUuid.keySet()));
+        if (indexByOrderUuid.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Coffee> coffeesByArticleId = orderIngestionRepository.findCoffeesByArticleIds(indexByOrderUuid.values().stream()
+                .map(index -> orders.get(index).articleId())
+                .distinct()
+                .toList());
+
+        List<PendingOrder> pendingOrders = new ArrayList<>(indexByOrderUuid.size());
+        for (int index : indexByOrderUuid.values()) {
+            var order = orders.get(index);
+            Coffee coffee = coffeesByArticleId.get(order.articleId());
+            if (coffee == null) {
+                log.warn("Skipping order message of unknown article. ingest - Order: {}", order);
+                continue;
+            }
+
+            BigDecimal totalAmount = coffee.price().multiply(BigDecimal.valueOf(order.amount()));
+            pendingOrders.add(new PendingOrder(
+                    new Order(null, null, LiveDataConstants.ANONYMOUS_CUSTOMER_NAME, orderDates.get(index), totalAmount, OrderStatus.PENDING, order.orderId()),
+                    coffee,
+                    order.amount()
+            ));
+        }
+        if (pendingOrders.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(pendingOrders.stream().map(PendingOrder::order).toList());
+        List<OrderItem> orderItems = new ArrayList<>(savedOrders.size());
+        for (int i = 0; i < savedOrders.size(); i++) {
+            PendingOrder pendingOrder = pendingOrders.get(i);
+            orderItems.add(new OrderItem(savedOrders.get(i), pendingOrder.coffee().id(), pendingOrder.quantity(), pendingOrder.coffee().price()));
+        }
+        orderItemRepository.saveAll(orderItems);
+        salesRollupService.recordOrdersCreated(savedOrders);
+
+        log.info("Ingested order batch. ingest - Received: {}, Ingested: {}", orders.size(), savedOrders.size());
+        return savedOrders.size();
+    }
+
+    private record PendingOrder(Order order, Coffee coffee, int quantity) {
+
+    }
+}
@@ -0,0 +1,46 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.OrderPartitionProperties;
+import com.mb.livedataservice.data.repository.OrderPartitionRepository;
+import com.mb.livedataservice.service.OrderPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps {@code premakeMonths} months of empty partitions ahead of the current month, so new orders never land in the
+ * default partition, and archives the partitions older than {@code archiveAfterMonths} months ({@code 0} keeps them attached).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderPartitionServiceImpl implements OrderPartitionService {
+
+    private final OrderPartitionRepository orderPartitionRepository;
+    private final OrderPartitionProperties orderPartitionProperties;
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${order-partitions.maintenance-cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        if (!orderPartitionRepository.isPartitioned()) {
+            log.debug("Orders are not partitioned on this database. maintainPartitions.");
+            return;
+        }
+
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        int createdCount = orderPartitionRepository.createPartitions(currentMonth, currentMonth.plusMonths(orderPartitionProperties.getPremakeMonths()));
+
+        List<String> archivedPartitions = List.of();
+        if (orderPartitionProperties.getArchiveAfterMonths() > 0) {
+            archivedPartitions = orderPartitionRepository.archivePartitions(currentMonth.minusMonths(orderPartitionProperties.getArchiveAfterMonths()));
+        }
+
+        log.info("Maintained order partitions. maintainPartitions - Created: {}, Archived: {}", createdCount, archivedPartitions);
+    }
+}
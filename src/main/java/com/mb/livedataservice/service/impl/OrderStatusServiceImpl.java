@@ -0,0 +1,121 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.BatchItemResult;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.repository.OrderStatusRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.OrderStatusService;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.mb.livedataservice.service.SalesRollupService;
+import com.mb.livedataservice.util.BatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies order status transitions as conditional updates and, in the same transaction, records a {@code STATUS_CHANGED}
+ * outbox event and the sales rollup change of every applied transition.
+ * <p>
+ * A transition that no longer matches because another writer moved the order first fails with {@code ORDER_STATUS_CONFLICT};
+ * the caller decides whether to retry from the new status.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatusServiceImpl implements OrderStatusService {
+
+    private final OrderStatusRepository orderStatusRepository;
+    private final OutboxEventService outboxEventService;
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    @Transactional
+    public OrderStatusTransition transition(OrderStatusTransition transition) {
+        if (!transition.isComplete()) {
+            throw new BaseException(LiveDataErrorCode.VALIDATION_ERROR);
+        }
+        if (!transition.isAllowed()) {
+            throw new BaseException(LiveDataErrorCode.ORDER_STATUS_TRANSITION_NOT_ALLOWED);
+        }
+
+        if (!orderStatusRepository.updateStatus(transition)) {
+            boolean exists = orderStatusRepository.findStatuses(List.of(transition.orderId())).containsKey(transition.orderId());
+            throw new BaseException(exists ? LiveDataErrorCode.ORDER_STATUS_CONFLICT : LiveDataErrorCode.NOT_FOUND);
+        }
+
+        recordTransitions(List.of(transition));
+        return transition;
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResult<OrderStatusTransition>> transitionAll(List<OrderStatusTransition> transitions) {
+        BatchUtils.validateBatchSize(transitions.size());
+
+        List<BatchItemResult<OrderStatusTransition>> results = new ArrayList<>(transitions.size());
+        Map<Integer, OrderStatusTransition> validTransitionsByIndex = new LinkedHashMap<>();
+        Set<Long> orderIds = new HashSet<>();
+        for (int index = 0; index < transitions.size(); index++) {
+            OrderStatusTransition transition = transitions.get(index);
+            if (!transition.isComplete() || !orderIds.add(transition.orderId())) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.VALIDATION_ERROR));
+                continue;
+            }
+            if (!transition.isAllowed()) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.ORDER_STATUS_TRANSITION_NOT_ALLOWED));
+                continue;
+            }
+            validTransitionsByIndex.put(index, transition);
+            results.add(null);
+        }
+        if (validTransitionsByIndex.isEmpty()) {
+            return results;
+        }
+
+        int[] updatedCounts = orderStatusRepository.updateStatuses(List.copyOf(validTransitionsByIndex.values()));
+
+        List<OrderStatusTransition> appliedTransitions = new ArrayList<>();
+        List<Integer> rejectedIndexes = new ArrayList<>();
+        int batchIndex = 0;
+        for (Map.Entry<Integer, OrderStatusTransition> entry : validTransitionsByIndex.entrySet()) {
+            if (updatedCounts[batchIndex++] > 0) {
+                appliedTransitions.add(entry.getValue());
+                results.set(entry.getKey(), BatchItemResult.success(entry.getKey(), entry.getValue()));
+            } else {
+                rejectedIndexes.add(entry.getKey());
+            }
+        }
+
+        if (!rejectedIndexes.isEmpty()) {
+            Map<Long, OrderStatus> statusesByOrderId = orderStatusRepository.findStatuses(rejectedIndexes.stream().map(index -> transitions.get(index).orderId()).toList());
+            rejectedIndexes.forEach(index -> results.set(index, BatchItemResult.failure(index, statusesByOrderId.containsKey(transitions.get(index).orderId())
+                    ? LiveDataErrorCode.ORDER_STATUS_CONFLICT
+                    : LiveDataErrorCode.NOT_FOUND)));
+        }
+
+        recordTransitions(appliedTransitions);
+        log.info("Applied order status transitions. transitionAll - Requested: {}, Applied: {}", transitions.size(), appliedTransitions.size());
+        return results;
+    }
+
+    private void recordTransitions(List<OrderStatusTransition> transitions) {
+        Map<Long, OrderStatusTransition> transitionsByOrderId = new LinkedHashMap<>();
+        for (OrderStatusTransition transition : transitions) {
+            transitionsByOrderId.put(transition.orderId(), transition);
+        }
+        salesRollupService.recordOrderStatusesChanged(transitions);
+        outboxEventService.appendAll(Order.class.getSimpleName(), EntityChangeType.STATUS_CHANGED, transitionsByOrderId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.repository.OutboxEventRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.queue.dto.EntityChangeEvent;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.mb.livedataservice.util.JsonUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventServiceImpl implements OutboxEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, EntityChangeType eventType, Object payload) {
+        OffsetDateTime occurredAt = OffsetDateTime.now();
+        String id = String.valueOf(aggregateId);
+        String message = JsonUtils.serialize(new EntityChangeEvent(UUID.randomUUID(), aggregateType, id, eventType, occurredAt, payload));
+
+        outboxEventRepository.save(aggregateType, id, eventType.name(), message, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(String aggregateType, EntityChangeType eventType, Map<?, ?> payloadByAggregateId) {
+        if (payloadByAggregateId.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime occurredAt = OffsetDateTime.now();
+        Map<String, String> messageByAggregateId = new LinkedHashMap<>();
+        payloadByAggregateId.forEach((aggregateId, payload) -> {
+            String id = String.valueOf(aggregateId);
+            messageByAggregateId.put(id, JsonUtils.serialize(new EntityChangeEvent(UUID.randomUUID(), aggregateType, id, eventType, occurredAt, payload)));
+        });
+
+        outboxEventRepository.saveAll(aggregateType, eventType.name(), messageByAggregateId, LocalDateTime.now());
+    }
+}
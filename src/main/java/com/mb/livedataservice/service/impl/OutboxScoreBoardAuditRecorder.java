@@ -0,0 +1,60 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.data.repository.ScoreBoardAuditOutboxRepository;
+import com.mb.livedataservice.service.ScoreBoardAuditRecorder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.envers.RevisionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Writes a single outbox row in the caller's transaction; {@link ScoreBoardAuditOutboxRelay} turns it into
+ * revinfo and score_board_aud rows later, so the entry is durable as soon as the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "audit.score-board.mode", havingValue = "async")
+public class OutboxScoreBoardAuditRecorder implements ScoreBoardAuditRecorder {
+
+    private static final Set<String> ALL_COLUMNS = Set.of("deleted", "created_date_time", "modified_date_time", "home_team_name", "away_team_name", "home_team_score", "away_team_score");
+
+    private final ScoreBoardAuditOutboxRepository scoreBoardAuditOutboxRepository;
+
+    @Override
+    public void recordCreated(ScoreBoard scoreBoard) {
+        scoreBoardAuditOutboxRepository.save(scoreBoard, RevisionType.ADD, ALL_COLUMNS);
+    }
+
+    @Override
+    public void recordUpdated(ScoreBoard previous, ScoreBoard current) {
+        // modifiedDateTime is only refreshed by @PreUpdate on flush, which happens after this call
+        current.setModifiedDateTime(OffsetDateTime.now());
+
+        Set<String> modifiedColumns = new HashSet<>();
+        modifiedColumns.add("modified_date_time");
+        if (!Objects.equals(previous.getHomeTeamName(), current.getHomeTeamName())) {
+            modifiedColumns.add("home_team_name");
+        }
+        if (!Objects.equals(previous.getAwayTeamName(), current.getAwayTeamName())) {
+            modifiedColumns.add("away_team_name");
+        }
+        if (previous.getHomeTeamScore() != current.getHomeTeamScore()) {
+            modifiedColumns.add("home_team_score");
+        }
+        if (previous.getAwayTeamScore() != current.getAwayTeamScore()) {
+            modifiedColumns.add("away_team_score");
+        }
+        scoreBoardAuditOutboxRepository.save(current, RevisionType.MOD, modifiedColumns);
+    }
+
+    @Override
+    public void recordRemoved(ScoreBoard scoreBoard) {
+        scoreBoardAuditOutboxRepository.save(scoreBoard, RevisionType.DEL, Set.of());
+    }
+}
@@ -0,0 +1,195 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailDedupeProperties;
+import com.mb.livedataservice.service.EmailDeliveryDeduplicator;
+import com.mb.livedataservice.util.RedisConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.UUID;
+
+/**
+ * Suppresses repeated deliveries of an email event, e.g. redeliveries after a rebalance or a retry of an event that was already sent.
+ * <ul>
+ *     <li>a consumer claims the event with {@code SET NX} on {@code email:delivery:<id>} for {@code claimTtl} before sending it</li>
+ *     <li>the key only becomes {@code sent}, for {@code sentTtl}, after the delivery returned; a failed delivery deletes the claim so retries can send</li>
+ *     <li>an event claimed but not yet sent by another consumer fails with a {@link MailSendException}, so it is retried through the retry
+ *     topics and suppressed there once the other delivery finished</li>
+ *     <li>if Redis is unavailable the email is sent anyway, unless the optional local Bloom filter has seen it sent by this instance</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class RedisEmailDeliveryDeduplicator implements EmailDeliveryDeduplicator {
+
+    private static final String IN_FLIGHT = "in-flight";
+    private static final String SENT = "sent";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EmailDedupeProperties emailDedupeProperties;
+    private final @Nullable LocalFilter localFilter;
+
+    private final Counter redisDuplicateCounter;
+    private final Counter localFilterDuplicateCounter;
+
+    public RedisEmailDeliveryDeduplicator(StringRedisTemplate stringRedisTemplate, EmailDedupeProperties emailDedupeProperties, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.emailDedupeProperties = emailDedupeProperties;
+        this.localFilter = emailDedupeProperties.isLocalFilterEnabled()
+                ? new LocalFilter(emailDedupeProperties.getLocalFilterExpectedInsertions(), emailDedupeProperties.getLocalFilterFalsePositiveRate())
+                : null;
+        this.redisDuplicateCounter = Counter.builder("email.dedupe.duplicates")
+                .description("Email deliveries suppressed as duplicates")
+                .tag("store", "redis")
+                .register(meterRegistry);
+        this.localFilterDuplicateCounter = Counter.builder("email.dedupe.duplicates")
+                .description("Email deliveries suppressed as duplicates")
+                .tag("store", "local-filter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean deliverOnce(@Nullable UUID eventId, Runnable delivery) {
+        if (!emailDedupeProperties.isEnabled() || eventId == null) {
+            delivery.run();
+            return true;
+        }
+
+        String key = RedisConstants.EMAIL_DELIVERY_KEY_PREFIX + eventId;
+        Boolean claimed = claim(key, eventId);
+        if (Boolean.FALSE.equals(claimed)) {
+            String state = getState(key, eventId);
+            if (SENT.equals(state)) {
+                log.info("Email delivery suppressed as duplicate. deliverOnce - eventId: {}", eventId);
+                redisDuplicateCounter.increment();
+                return false;
+            }
+            if (IN_FLIGHT.equals(state)) {
+                throw new MailSendException("Email " + eventId + " is being delivered by another consumer");
+            }
+            // the claim expired in between, or Redis failed to answer
+        }
+        if (!Boolean.TRUE.equals(claimed) && localFilter != null && localFilter.mightContain(eventId)) {
+            log.warn("Email delivery suppressed by local filter. deliverOnce - eventId: {}", eventId);
+            localFilterDuplicateCounter.increment();
+            return false;
+        }
+
+        try {
+            delivery.run();
+        } catch (RuntimeException e) {
+            if (Boolean.TRUE.equals(claimed)) {
+                releaseClaim(key, eventId);
+            }
+            throw e;
+        }
+
+        markSent(key, eventId);
+        return true;
+    }
+
+    /**
+     * Returns whether the event was claimed, or {@code null} if Redis could not be asked.
+     */
+    private @Nullable Boolean claim(String key, UUID eventId) {
+        try {
+            return stringRedisTemplate.opsForValue().setIfAbsent(key, IN_FLIGHT, emailDedupeProperties.getClaimTtl());
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim email delivery, sending without deduplication. claim - eventId: {}, Exception: {}", eventId, ExceptionUtils.getMessage(e));
+            return null;
+        }
+    }
+
+    private @Nullable String getState(String key, UUID eventId) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read email delivery state. getState - eventId: {}, Exception: {}", eventId, ExceptionUtils.getMessage(e));
+            return null;
+        }
+    }
+
+    private void releaseClaim(String key, UUID eventId) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release email delivery claim, retries wait for it to expire. releaseClaim - eventId: {}, Exception: {}", eventId, ExceptionUtils.getMessage(e));
+        }
+    }
+
+    /**
+     * Failures are only logged: the email is out, and failing here would make the retry topics send it again.
+     */
+    private void markSent(String key, UUID eventId) {
+        if (localFilter != null) {
+            localFilter.put(eventId);
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(key, SENT, emailDedupeProperties.getSentTtl());
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark email as sent. markSent - eventId: {}, Exception: {}", eventId, ExceptionUtils.getMessage(e));
+        }
+    }
+
+    /**
+     * Bloom filter of the event ids sent by this instance. Once {@code expectedInsertions} ids were added, a new generation is started and the
+     * previous one is kept for lookups, so memory stays bounded and the false positive rate near the configured one.
+     */
+    static final class LocalFilter {
+
+        private final int expectedInsertions;
+        private final int bitCount;
+        private final int hashCount;
+        private BitSet current;
+        private BitSet previous;
+        private int currentInsertions;
+
+        LocalFilter(int expectedInsertions, double falsePositiveRate) {
+            this.expectedInsertions = expectedInsertions;
+            this.bitCount = (int) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            this.current = new BitSet(bitCount);
+            this.previous = new BitSet(bitCount);
+        }
+
+        synchronized void put(UUID eventId) {
+            if (currentInsertions >= expectedInsertions) {
+                previous = current;
+                current = new BitSet(bitCount);
+                currentInsertions = 0;
+            }
+            for (int i = 0; i < hashCount; i++) {
+                current.set(index(eventId, i));
+            }
+            currentInsertions++;
+        }
+
+        synchronized boolean mightContain(UUID eventId) {
+            return contains(current, eventId) || contains(previous, eventId);
+        }
+
+        private boolean contains(BitSet bits, UUID eventId) {
+            for (int i = 0; i < hashCount; i++) {
+                if (!bits.get(index(eventId, i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Double hashing over the two halves of the random UUID.
+         */
+        private int index(UUID eventId, int i) {
+            long hash = eventId.getMostSignificantBits() + i * eventId.getLeastSignificantBits();
+            return (int) Math.floorMod(hash, (long) bitCount);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.CoffeeSales;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.model.SalesBucket;
+import com.mb.livedataservice.data.repository.CoffeeSalesRollupRepository;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.TimeBucket;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the hourly coffee sales rollup.
+ * <p>
+ * Order writers call {@link #recordOrdersCreated(List)} and {@link #recordOrderStatusesChanged(List)}
+ * in their own transaction, so the rollup commits or rolls back together with the order. Cancelled orders are not counted.
+ * {@link #catchUp()} recomputes every bucket from the watermark onwards, which repairs drift from writers that bypass the service.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    private final CoffeeSalesRollupRepository coffeeSalesRollupRepository;
+
+    @Override
+    public void recordOrdersCreated(List<Order> orders) {
+        List<Long> orderIds = orders.stream()
+                .filter(order -> order.status() != OrderStatus.CANCELLED)
+                .map(Order::id)
+                .toList();
+        if (!orderIds.isEmpty()) {
+            coffeeSalesRollupRepository.addOrders(orderIds, 1);
+        }
+    }
+
+    /**
+     * Only transitions into or out of {@link OrderStatus#CANCELLED} change the rollup; they are grouped by direction,
+     * so a batch costs at most one removal and one re-addition.
+     */
+    @Override
+    public void recordOrderStatusesChanged(List<OrderStatusTransition> transitions) {
+        Map<Boolean, List<Long>> orderIdsByCounted = transitions.stream()
+                .filter(transition -> (transition.from() == OrderStatus.CANCELLED) != (transition.to() == OrderStatus.CANCELLED))
+                .collect(Collectors.partitioningBy(transition -> transition.to() != OrderStatus.CANCELLED,
+                        Collectors.mapping(OrderStatusTransition::orderId, Collectors.toList())));
+
+        orderIdsByCounted.forEach((isCounted, orderIds) -> {
+            if (!orderIds.isEmpty()) {
+                coffeeSalesRollupRepository.addOrders(orderIds, isCounted ? 1 : -1);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesBucket> getSales(LocalDateTime from, LocalDateTime to, TimeBucket timeBucket) {
+        validateRange(from, to);
+        return coffeeSalesRollupRepository.findSales(from, to, timeBucket);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoffeeSales> getTopCoffees(LocalDateTime from, LocalDateTime to, int limit) {
+        validateRange(from, to);
+        return coffeeSalesRollupRepository.findTopCoffees(from, to, limit);
+    }
+
+    /**
+     * Rebuilds the buckets from the watermark up to now and moves the watermark to the start of the current hour,
+     * so each run only recomputes the hours since the previous one.
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${sales-rollup.catch-up-cron:0 5 * * * *}")
+    public int catchUp() {
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime watermark = coffeeSalesRollupRepository.lockWatermark();
+
+        int bucketCount = coffeeSalesRollupRepository.rebuildFrom(watermark);
+        coffeeSalesRollupRepository.updateWatermark(currentHour);
+
+        log.info("Caught up sales rollup. catchUp - From: {}, Watermark: {}, Buckets: {}", watermark, currentHour, bucketCount);
+        return bucketCount;
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BaseException(LiveDataErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
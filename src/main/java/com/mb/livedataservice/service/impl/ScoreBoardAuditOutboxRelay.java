@@ -0,0 +1,54 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.ScoreBoardAuditProperties;
+import com.mb.livedataservice.data.repository.ScoreBoardAuditOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Moves buffered audit entries into revinfo and score_board_aud. Each batch is inserted and removed from the
+ * outbox in one transaction, so an entry is either still buffered or fully audited.
+ * <p>
+ * Revision numbers follow outbox order within a relay; run a single instance if cross-instance ordering matters.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "audit.score-board.mode", havingValue = "async")
+public class ScoreBoardAuditOutboxRelay {
+
+    private final ScoreBoardAuditOutboxRepository scoreBoardAuditOutboxRepository;
+    private final ScoreBoardAuditProperties scoreBoardAuditProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${audit.score-board.flush-interval:1s}")
+    public void flush() {
+        int batchSize = scoreBoardAuditProperties.getBatchSize();
+        int flushed;
+        do {
+            flushed = Objects.requireNonNull(transactionTemplate.execute(status -> flushBatch(batchSize)));
+        } while (flushed == batchSize);
+    }
+
+    int flushBatch(int batchSize) {
+        List<Map<String, Object>> outboxRows = scoreBoardAuditOutboxRepository.lockOldest(batchSize);
+        if (outboxRows.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> revisions = scoreBoardAuditOutboxRepository.insertRevisions(outboxRows);
+        scoreBoardAuditOutboxRepository.insertAuditRows(outboxRows, revisions);
+        scoreBoardAuditOutboxRepository.deleteByIds(outboxRows.stream().map(row -> ((Number) row.get("id")).longValue()).toList());
+
+        log.debug("Flushed score board audit outbox. flushBatch - Size: {}", outboxRows.size());
+        return outboxRows.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.ScoreBoardRevision;
+import com.mb.livedataservice.data.repository.ScoreBoardAuditRepository;
+import com.mb.livedataservice.service.ScoreBoardAuditService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreBoardAuditServiceImpl implements ScoreBoardAuditService {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final ScoreBoardAuditRepository scoreBoardAuditRepository;
+
+    @Override
+    public List<ScoreBoardRevision> getScoreBoardRevisions(Long id, int afterRevision, int size) {
+        return scoreBoardAuditRepository.findRevisionsById(id, afterRevision, clampPageSize(size));
+    }
+
+    @Override
+    public List<ScoreBoardRevision> getScoreBoardRevisionsAfter(int afterRevision, long afterId, int size) {
+        return scoreBoardAuditRepository.findRevisionsAfter(afterRevision, afterId, clampPageSize(size));
+    }
+
+    private static int clampPageSize(int size) {
+        return size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+}
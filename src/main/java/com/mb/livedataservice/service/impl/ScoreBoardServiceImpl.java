@@ -1,19 +1,34 @@
 package com.mb.livedataservice.service.impl;
 
+import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
+import com.mb.livedataservice.data.model.BatchItemResult;
 import com.mb.livedataservice.data.model.ScoreBoard;
 import com.mb.livedataservice.data.repository.ScoreBoardRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.mb.livedataservice.service.ScoreBoardAuditRecorder;
 import com.mb.livedataservice.service.ScoreBoardService;
+import com.mb.livedataservice.service.StandingsService;
+import com.mb.livedataservice.util.BatchUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -21,19 +36,27 @@ import java.util.Optional;
 public class ScoreBoardServiceImpl implements ScoreBoardService {
 
     private final ScoreBoardRepository scoreBoardRepository;
+    private final ScoreBoardAuditRecorder scoreBoardAuditRecorder;
+    private final StandingsService standingsService;
+    private final OutboxEventService outboxEventService;
 
     @Override
+    @Transactional
     public ScoreBoard createScoreBoard(ScoreBoard scoreBoard) {
         Optional<ScoreBoard> optionalScoreBoard = scoreBoardRepository.findByHomeTeamNameAndAwayTeamNameAndDeletedIsFalse(scoreBoard.getHomeTeamName(), scoreBoard.getAwayTeamName());
         if (optionalScoreBoard.isPresent()) {
             throw new BaseException(LiveDataErrorCode.SCORE_BOARD_HAS_NOT_ENDED);
         }
-        return scoreBoardRepository.save(scoreBoard);
+        ScoreBoard savedScoreBoard = scoreBoardRepository.save(scoreBoard);
+        scoreBoardAuditRecorder.recordCreated(savedScoreBoard);
+        outboxEventService.append(ScoreBoard.class.getSimpleName(), savedScoreBoard.getId(), EntityChangeType.CREATED, savedScoreBoard);
+        return savedScoreBoard;
     }
 
     @Override
-    public Page<ScoreBoard> getAllScoreBoards(Pageable pageable) {
-        return scoreBoardRepository.findAllByDeletedIsFalse(pageable);
+    @Transactional(readOnly = true)
+    public Page<ApiScoreBoardResponse> getAllScoreBoardResponses(Pageable pageable) {
+        return scoreBoardRepository.findAllResponsesByDeletedIsFalse(pageable);
     }
 
     @Override
@@ -47,18 +70,117 @@ public class ScoreBoardServiceImpl implements ScoreBoardService {
     }
 
     @Override
+    @Transactional
     public ScoreBoard updateScoreBoardById(Long id, ScoreBoard scoreBoard) {
         ScoreBoard scoreBoardById = getScoreBoardById(id);
+        ScoreBoard previousScoreBoard = new ScoreBoard(scoreBoardById.getHomeTeamName(), scoreBoardById.getAwayTeamName(), scoreBoardById.getHomeTeamScore(), scoreBoardById.getAwayTeamScore());
         scoreBoardById.setHomeTeamName(scoreBoard.getHomeTeamName());
         scoreBoardById.setAwayTeamName(scoreBoard.getAwayTeamName());
         scoreBoardById.setHomeTeamScore(scoreBoard.getHomeTeamScore());
         scoreBoardById.setAwayTeamScore(scoreBoard.getAwayTeamScore());
-        return scoreBoardRepository.save(scoreBoardById);
+        scoreBoardAuditRecorder.recordUpdated(previousScoreBoard, scoreBoardById);
+        ScoreBoard savedScoreBoard = scoreBoardRepository.save(scoreBoardById);
+        outboxEventService.append(ScoreBoard.class.getSimpleName(), id, EntityChangeType.UPDATED, savedScoreBoard);
+        return savedScoreBoard;
     }
 
     @Override
+    @Transactional
     public void removeScoreBoardById(Long id) {
-        scoreBoardRepository.delete(getScoreBoardById(id));
+        ScoreBoard scoreBoard = getScoreBoardById(id);
+        scoreBoardRepository.delete(scoreBoard);
+        scoreBoardAuditRecorder.recordRemoved(scoreBoard);
+        standingsService.recordMatchEnded(scoreBoard);
+        outboxEventService.append(ScoreBoard.class.getSimpleName(), id, EntityChangeType.DELETED, scoreBoard);
+    }
+
+    /**
+     * Inserts the valid boards with one {@code saveAll}, which Hibernate sends as JDBC batches of {@code hibernate.jdbc.batch_size}.
+     * Boards without team names are reported as {@link LiveDataErrorCode#VALIDATION_ERROR}; boards whose match is already running,
+     * or repeated within the batch, as {@link LiveDataErrorCode#SCORE_BOARD_HAS_NOT_ENDED}.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult<ScoreBoard>> createScoreBoards(List<ScoreBoard> scoreBoards) {
+        BatchUtils.validateBatchSize(scoreBoards.size());
+
+        Set<String> homeTeamNames = scoreBoards.stream().map(ScoreBoard::getHomeTeamName).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> runningMatches = scoreBoardRepository.findAllByHomeTeamNameInAndDeletedIsFalse(homeTeamNames)
+                .stream()
+                .map(ScoreBoardServiceImpl::matchKey)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<BatchItemResult<ScoreBoard>> results = new ArrayList<>(scoreBoards.size());
+        for (int index = 0; index < scoreBoards.size(); index++) {
+            ScoreBoard scoreBoard = scoreBoards.get(index);
+            if (scoreBoard.getHomeTeamName() == null || scoreBoard.getAwayTeamName() == null) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.VALIDATION_ERROR));
+            } else if (!runningMatches.add(matchKey(scoreBoard))) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.SCORE_BOARD_HAS_NOT_ENDED));
+            } else {
+                results.add(BatchItemResult.success(index, scoreBoard));
+            }
+        }
+
+        List<ScoreBoard> savedScoreBoards = scoreBoardRepository.saveAll(results.stream().filter(BatchItemResult::isSuccess).map(BatchItemResult::value).toList());
+        savedScoreBoards.forEach(scoreBoardAuditRecorder::recordCreated);
+        outboxEventService.appendAll(ScoreBoard.class.getSimpleName(), EntityChangeType.CREATED, BatchUtils.byId(savedScoreBoards, ScoreBoard::getId));
+        return results;
+    }
+
+    /**
+     * Loads all targeted boards with one query and lets dirty checking flush the changes as batched updates.
+     * Items without an id or team names and repeated ids are reported as {@link LiveDataErrorCode#VALIDATION_ERROR},
+     * unknown or ended boards as {@link LiveDataErrorCode#SCORE_BOARD_NOT_FOUND}.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult<ScoreBoard>> updateScoreBoards(List<ScoreBoard> scoreBoards) {
+        BatchUtils.validateBatchSize(scoreBoards.size());
+
+        Set<Long> ids = scoreBoards.stream().map(ScoreBoard::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, ScoreBoard> existingScoreBoardsById = BatchUtils.byId(scoreBoardRepository.findAllByIdInAndDeletedIsFalse(ids), ScoreBoard::getId);
+
+        List<BatchItemResult<ScoreBoard>> results = new ArrayList<>(scoreBoards.size());
+        Set<Long> updatedIds = new HashSet<>();
+        for (int index = 0; index < scoreBoards.size(); index++) {
+            ScoreBoard scoreBoard = scoreBoards.get(index);
+            if (scoreBoard.getId() == null || scoreBoard.getHomeTeamName() == null || scoreBoard.getAwayTeamName() == null || !updatedIds.add(scoreBoard.getId())) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.VALIDATION_ERROR));
+                continue;
+            }
+
+            ScoreBoard scoreBoardById = existingScoreBoardsById.get(scoreBoard.getId());
+            if (scoreBoardById == null) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.SCORE_BOARD_NOT_FOUND));
+                continue;
+            }
+
+            ScoreBoard previousScoreBoard = new ScoreBoard(scoreBoardById.getHomeTeamName(), scoreBoardById.getAwayTeamName(), scoreBoardById.getHomeTeamScore(), scoreBoardById.getAwayTeamScore());
+            scoreBoardById.setHomeTeamName(scoreBoard.getHomeTeamName());
+            scoreBoardById.setAwayTeamName(scoreBoard.getAwayTeamName());
+            scoreBoardById.setHomeTeamScore(scoreBoard.getHomeTeamScore());
+            scoreBoardById.setAwayTeamScore(scoreBoard.getAwayTeamScore());
+            scoreBoardAuditRecorder.recordUpdated(previousScoreBoard, scoreBoardById);
+            results.add(BatchItemResult.success(index, scoreBoardById));
+        }
+
+        List<ScoreBoard> updatedScoreBoards = scoreBoardRepository.saveAll(results.stream().filter(BatchItemResult::isSuccess).map(BatchItemResult::value).toList());
+        outboxEventService.appendAll(ScoreBoard.class.getSimpleName(), EntityChangeType.UPDATED, BatchUtils.byId(updatedScoreBoards, ScoreBoard::getId));
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BatchItemResult<ScoreBoard>> getScoreBoardsByIds(List<Long> ids) {
+        BatchUtils.validateBatchSize(ids.size());
+
+        Map<Long, ScoreBoard> scoreBoardsById = BatchUtils.byId(scoreBoardRepository.findAllByIdInAndDeletedIsFalse(new HashSet<>(ids)), ScoreBoard::getId);
+        return IntStream.range(0, ids.size())
+                .mapToObj(index -> scoreBoardsById.containsKey(ids.get(index))
+                        ? BatchItemResult.success(index, scoreBoardsById.get(ids.get(index)))
+                        : BatchItemResult.<ScoreBoard>failure(index, LiveDataErrorCode.SCORE_BOARD_NOT_FOUND))
+                .toList();
     }
 
     @Override
@@ -68,4 +190,10 @@ public class ScoreBoardServiceImpl implements ScoreBoardService {
                 .map(scoreBoard -> String.format("%d. %s - %s : %d - %d", scoreBoard.getId(), scoreBoard.getHomeTeamName(), scoreBoard.getAwayTeamName(), scoreBoard.getHomeTeamScore(), scoreBoard.getAwayTeamScore()))
                 .toList();
     }
-}
\ No newline at end of file
+
+
+    private static String matchKey(ScoreBoard scoreBoard) {
+        return scoreBoard.getHomeTeamName() + ":" + scoreBoard.getAwayTeamName();
+    }
+
+}
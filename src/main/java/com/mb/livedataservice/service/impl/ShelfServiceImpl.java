@@ -1,21 +1,55 @@
 package com.mb.livedataservice.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mb.livedataservice.config.ShelfProperties;
 import com.mb.livedataservice.data.model.ShelfEntry;
+import com.mb.livedataservice.data.model.ShelfState;
 import com.mb.livedataservice.data.repository.ShelfRepository;
+import com.mb.livedataservice.data.repository.ShelfStateRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.service.OutboxEventService;
 import com.mb.livedataservice.service.ShelfService;
+import com.mb.livedataservice.util.RedisConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Shelf entries of products. Every write also upserts the product's {@code shelf_state} row in the same transaction,
+ * and activity lookups are served from that table through the {@code shelfStateCache}.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShelfServiceImpl implements ShelfService {
 
+    private static final RedisScript<Long> RELEASE_STATE_CHECK_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
     private final ShelfRepository shelfRepository;
+    private final OutboxEventService outboxEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final ShelfProperties shelfProperties;
+    private final ShelfStateRepository shelfStateRepository;
+    private final Cache<Long, ShelfState> shelfStateCache;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Override
     @Transactional
@@ -28,6 +62,8 @@ public class ShelfServiceImpl implements ShelfService {
                         existing -> {
                             existing.setActive(active);
                             shelfRepository.save(existing);
+                            outboxEventService.append(ShelfEntry.class.getSimpleName(), existing.getId(), EntityChangeType.UPDATED, existing);
+                            recordStates(List.of(new ShelfState(productId, existing.getStartDate(), active)));
                             log.debug("Updated existing ShelfEntry id: {} for productId: {}", existing.getId(), productId);
                         },
                         () -> {
@@ -36,6 +72,8 @@ public class ShelfServiceImpl implements ShelfService {
                             entry.setStartDate(today);
                             entry.setActive(active);
                             shelfRepository.saveAndFlush(entry);
+                            outboxEventService.append(ShelfEntry.class.getSimpleName(), entry.getId(), EntityChangeType.CREATED, entry);
+                            recordStates(List.of(new ShelfState(productId, today, active)));
                             log.debug("Inserted new ShelfEntry for productId: {}, startDate: {}", productId, today);
                         });
     }
@@ -47,5 +85,137 @@ public class ShelfServiceImpl implements ShelfService {
                 .map(ShelfEntry::getStartDate)
                 .orElseGet(LocalDate::now);
         shelfRepository.insertOrUpdateOnConflict(productId, startDate, active);
+        // the upsert does not tell whether a row was inserted, so the product id is the aggregate id here
+        outboxEventService.append(ShelfEntry.class.getSimpleName(), productId, EntityChangeType.UPDATED, Map.of("productId", productId, "startDate", startDate, "active", active));
+        recordStates(List.of(new ShelfState(productId, startDate, active)));
+    }
+
+    @Override
+    public long insertOrUpdateAllOnConflictAsAtomic(Map<Long, Boolean> activeByProductId) {
+        // sorted, so concurrent syncs lock the same products in the same order and cannot deadlock
+        List<Long> productIds = activeByProductId.keySet().stream().sorted().toList();
+        int chunkSize = shelfProperties.getBulkUpsertChunkSize();
+        long upsertedCount = 0;
+        for (int from = 0; from < productIds.size(); from += chunkSize) {
+            upsertedCount += insertOrUpdateChunk(productIds.subList(from, Math.min(from + chunkSize, productIds.size())), activeByProductId);
+        }
+        log.info("Upserted shelf entries. insertOrUpdateAllOnConflictAsAtomic - RequestedCount: {}, UpsertedCount: {}", productIds.size(), upsertedCount);
+        return upsertedCount;
+    }
+
+    private int insertOrUpdateChunk(List<Long> productIds, Map<Long, Boolean> activeByProductId) {
+        Integer upsertedCount = transactionTemplate.execute(_ -> {
+            LocalDate today = LocalDate.now();
+            Map<Long, LocalDate> maxStartDatesByProductId = shelfRepository.findMaxStartDatesByProductIdIn(productIds);
+
+            List<ShelfEntry> entries = new ArrayList<>(productIds.size());
+            List<ShelfState> states = new ArrayList<>(productIds.size());
+            Map<Long, Map<String, Object>> payloadByProductId = new LinkedHashMap<>();
+            for (Long productId : productIds) {
+                ShelfEntry entry = new ShelfEntry();
+                entry.setProductId(productId);
+                entry.setStartDate(maxStartDatesByProductId.getOrDefault(productId, today));
+                entry.setActive(activeByProductId.get(productId));
+                entries.add(entry);
+                states.add(new ShelfState(productId, entry.getStartDate(), entry.isActive()));
+                payloadByProductId.put(productId, Map.of("productId", productId, "startDate", entry.getStartDate(), "active", entry.isActive()));
+            }
+
+            int count = shelfRepository.insertOrUpdateAllOnConflict(entries);
+            outboxEventService.appendAll(ShelfEntry.class.getSimpleName(), EntityChangeType.UPDATED, payloadByProductId);
+            recordStates(states);
+            return count;
+        });
+        return upsertedCount == null ? 0 : upsertedCount;
+    }
+
+    @Override
+    public Optional<ShelfState> findCurrentState(Long productId) {
+        return Optional.ofNullable(findCurrentStates(List.of(productId)).get(productId));
+    }
+
+    @Override
+    public Map<Long, ShelfState> findCurrentStates(Collection<Long> productIds) {
+        int chunkSize = shelfProperties.getStateReadChunkSize();
+        return shelfStateCache.getAll(productIds, missingProductIds -> {
+            List<Long> missing = List.copyOf(missingProductIds);
+            Map<Long, ShelfState> statesByProductId = new LinkedHashMap<>();
+            for (int from = 0; from < missing.size(); from += chunkSize) {
+                statesByProductId.putAll(shelfStateRepository.findAllByProductIdIn(missing.subList(from, Math.min(from + chunkSize, missing.size()))));
+            }
+            return statesByProductId;
+        });
+    }
+
+    /**
+     * Compares {@code shelf_state} with the latest entries of {@code shelf_entry}, {@code shelf.state-check-chunk-size} products per transaction,
+     * and rebuilds the products that drifted. Writes racing with a chunk are at worst repaired again by the next run.
+     * <p>
+     * The scheduled check fires on every instance, so a run first takes {@link RedisConstants#SHELF_STATE_CHECK_LOCK_KEY} for
+     * {@code shelf.state-check-lock-ttl}; while another run holds it, nothing is repaired and 0 is returned.
+     */
+    @Override
+    @Scheduled(cron = "${shelf.state-check-cron:0 15 4 * * *}")
+    public long checkCurrentStates() {
+        String runId = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(RedisConstants.SHELF_STATE_CHECK_LOCK_KEY, runId, shelfProperties.getStateCheckLockTtl()))) {
+            log.info("Shelf states are being checked by another run, skipping. checkCurrentStates");
+            return 0;
+        }
+
+        try {
+            int chunkSize = shelfProperties.getStateCheckChunkSize();
+            long repairedCount = 0;
+            long afterProductId = Long.MIN_VALUE;
+
+            List<Long> productIds;
+            do {
+                productIds = shelfStateRepository.findEntryProductIdsAfter(afterProductId, chunkSize);
+                // the last chunk is open-ended, so states of products without any entry are found as well
+                long upToProductId = productIds.size() == chunkSize ? productIds.getLast() : Long.MAX_VALUE;
+                repairedCount += repairChunk(afterProductId, upToProductId);
+                afterProductId = upToProductId;
+            } while (productIds.size() == chunkSize);
+
+            if (repairedCount > 0) {
+                log.warn("Repaired drifted shelf states. checkCurrentStates - RepairedCount: {}", repairedCount);
+            } else {
+                log.info("Shelf states are consistent. checkCurrentStates - RepairedCount: {}", repairedCount);
+            }
+            return repairedCount;
+        } finally {
+            stringRedisTemplate.execute(RELEASE_STATE_CHECK_LOCK_SCRIPT, List.of(RedisConstants.SHELF_STATE_CHECK_LOCK_KEY), runId);
+        }
+    }
+
+    private int repairChunk(long afterProductId, long upToProductId) {
+        Integer repairedCount = transactionTemplate.execute(_ -> {
+            List<Long> driftedProductIds = shelfStateRepository.findDriftedProductIds(afterProductId, upToProductId);
+            if (driftedProductIds.isEmpty()) {
+                return 0;
+            }
+            shelfStateRepository.rebuildAllByProductIdIn(driftedProductIds);
+            evictStatesAfterCommit(driftedProductIds);
+            return driftedProductIds.size();
+        });
+        return repairedCount == null ? 0 : repairedCount;
+    }
+
+    private void recordStates(List<ShelfState> states) {
+        shelfStateRepository.upsertAll(states);
+        evictStatesAfterCommit(states.stream().map(ShelfState::productId).toList());
+    }
+
+    private void evictStatesAfterCommit(List<Long> productIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    shelfStateCache.invalidateAll(productIds);
+                }
+            });
+        } else {
+            shelfStateCache.invalidateAll(productIds);
+        }
     }
 }
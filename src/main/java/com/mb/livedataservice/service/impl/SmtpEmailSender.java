@@ -3,6 +3,7 @@ package com.mb.livedataservice.service.impl;
 import com.mb.livedataservice.data.model.EmailTemplate;
 import com.mb.livedataservice.queue.dto.EmailAttachment;
 import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailAttachmentStore;
 import com.mb.livedataservice.service.EmailSender;
 import com.mb.livedataservice.service.EmailTemplateService;
 import com.mb.livedataservice.service.ThymeleafTemplateService;
@@ -33,6 +34,7 @@ public class SmtpEmailSender implements EmailSender {
     private final JavaMailSender javaMailSender;
     private final EmailTemplateService emailTemplateService;
     private final ThymeleafTemplateService thymeleafTemplateService;
+    private final EmailAttachmentStore emailAttachmentStore;
 
     @Value("${email.from:noreply@example.com}")
     private String emailFrom;
@@ -56,8 +58,8 @@ public class SmtpEmailSender implements EmailSender {
                 EmailTemplate template = emailTemplateService.findActiveByCode(emailEventDto.getTemplateCode());
                 Map<String, Object> variables = emailEventDto.getTemplateParameters();
 
-                subject = thymeleafTemplateService.processTemplate(template.getSubject(), variables);
-                body = thymeleafTemplateService.processTemplate(template.getBody(), variables);
+                subject = thymeleafTemplateService.processSubject(template, variables);
+                body = thymeleafTemplateService.processBody(template, variables);
             } else {
                 subject = emailEventDto.getSubject();
                 body = emailEventDto.getBody();
@@ -87,9 +89,12 @@ public class SmtpEmailSender implements EmailSender {
             // Add attachments if present
             if (hasAttachments) {
                 for (EmailAttachment attachment : emailEventDto.getAttachments()) {
-                    if (attachment.getContent() != null && StringUtils.isNotBlank(attachment.getFileName())) {
+                    if ((attachment.getContent() != null || attachment.getContentRef() != null) && StringUtils.isNotBlank(attachment.getFileName())) {
                         String contentType = MimeTypeUtils.resolveContentType(attachment.getFileName(), attachment.getContentType());
-                        DataSource dataSource = new ByteArrayDataSource(attachment.getContent(), contentType);
+                        // stored attachments are streamed from the store while the message is written
+                        DataSource dataSource = attachment.getContent() != null
+                                ? new ByteArrayDataSource(attachment.getContent(), contentType)
+                                : emailAttachmentStore.open(attachment.getContentRef(), contentType);
                         helper.addAttachment(attachment.getFileName(), dataSource);
                         log.debug("Added attachment: {} with content type: {}", attachment.getFileName(), contentType);
                     }
@@ -0,0 +1,249 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.StandingsProperties;
+import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.data.model.redis.TeamStanding;
+import com.mb.livedataservice.data.repository.ScoreBoardRepository;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.StandingsService;
+import com.mb.livedataservice.util.RedisConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Standings of ended matches kept in Redis:
+ * <ul>
+ *     <li>{@link RedisConstants#STANDINGS_RANKING_KEY}: sorted set of team names scored by {@code points * 1_000_000 + goalDifference}</li>
+ *     <li>{@link RedisConstants#STANDINGS_STATS_KEY}: hash of {@code <stat>:<teamName>} counters</li>
+ * </ul>
+ * Both are updated incrementally after a match ends and can be recomputed from the database with {@link #rebuildStandings()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StandingsServiceImpl implements StandingsService {
+
+    private static final long POINTS_WEIGHT = 1_000_000L;
+    private static final List<String> STATS = List.of("played", "won", "drawn", "lost", "goalsFor", "goalsAgainst", "points");
+    private static final RedisScript<Long> RELEASE_REBUILD_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ScoreBoardRepository scoreBoardRepository;
+    private final StandingsProperties standingsProperties;
+
+    @Override
+    public void recordMatchEnded(ScoreBoard scoreBoard) {
+        String homeTeamName = scoreBoard.getHomeTeamName();
+        String awayTeamName = scoreBoard.getAwayTeamName();
+        int homeTeamScore = scoreBoard.getHomeTeamScore();
+        int awayTeamScore = scoreBoard.getAwayTeamScore();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyResult(homeTeamName, awayTeamName, homeTeamScore, awayTeamScore);
+                }
+            });
+        } else {
+            applyResult(homeTeamName, awayTeamName, homeTeamScore, awayTeamScore);
+        }
+    }
+
+    @Override
+    public List<TeamStanding> getStandings(int page, int size) {
+        long start = (long) page * size;
+        Set<String> teamNames = stringRedisTemplate.opsForZSet().reverseRange(RedisConstants.STANDINGS_RANKING_KEY, start, start + size - 1);
+        if (teamNames == null || teamNames.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> fields = new ArrayList<>(teamNames.size() * STATS.size());
+        teamNames.forEach(teamName -> STATS.forEach(stat -> fields.add(statField(stat, teamName))));
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(RedisConstants.STANDINGS_STATS_KEY, new ArrayList<>(fields));
+
+        List<TeamStanding> standings = new ArrayList<>(teamNames.size());
+        int index = 0;
+        for (String teamName : teamNames) {
+            standings.add(toTeamStanding(start + index + 1, teamName, values.subList(index * STATS.size(), (index + 1) * STATS.size())));
+            index++;
+        }
+        return standings;
+    }
+
+    @Override
+    public TeamStanding getTeamStanding(String teamName) {
+        Long rank = stringRedisTemplate.opsForZSet().reverseRank(RedisConstants.STANDINGS_RANKING_KEY, teamName);
+        if (rank == null) {
+            throw new BaseException(LiveDataErrorCode.TEAM_STANDING_NOT_FOUND);
+        }
+
+        List<Object> fields = STATS.stream().map(stat -> (Object) statField(stat, teamName)).toList();
+        return toTeamStanding(rank + 1, teamName, stringRedisTemplate.opsForHash().multiGet(RedisConstants.STANDINGS_STATS_KEY, fields));
+    }
+
+    /**
+     * Recomputes the standings from ended matches, reading them in id order in batches of {@code standings.rebuild-batch-size}.
+     * The result is written to temporary keys of this run and swapped in with {@code RENAME}, so readers never see a partial table.
+     * Matches ending while the rebuild runs may be missing until the next rebuild.
+     * <p>
+     * The scheduled rebuild fires on every instance, so a run first takes {@link RedisConstants#STANDINGS_REBUILD_LOCK_KEY} for
+     * {@code standings.rebuild-lock-ttl}; while another run holds it, nothing is rebuilt and 0 is returned.
+     */
+    @Override
+    @Scheduled(cron = "${standings.rebuild-cron:0 0 4 * * *}")
+    public int rebuildStandings() {
+        String runId = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(RedisConstants.STANDINGS_REBUILD_LOCK_KEY, runId, standingsProperties.getRebuildLockTtl()))) {
+            log.info("Standings are being rebuilt by another run, skipping. rebuildStandings");
+            return 0;
+        }
+
+        try {
+            Map<String, long[]> statsByTeamName = new HashMap<>();
+            int batchSize = standingsProperties.getRebuildBatchSize();
+            int matchCount = 0;
+            long lastId = 0;
+
+            List<ScoreBoard> scoreBoards;
+            do {
+                scoreBoards = scoreBoardRepository.findAllByDeletedIsTrueAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(batchSize));
+                for (ScoreBoard scoreBoard : scoreBoards) {
+                    accumulate(statsByTeamName.computeIfAbsent(scoreBoard.getHomeTeamName(), _ -> new long[STATS.size()]), scoreBoard.getHomeTeamScore(), scoreBoard.getAwayTeamScore());
+                    accumulate(statsByTeamName.computeIfAbsent(scoreBoard.getAwayTeamName(), _ -> new long[STATS.size()]), scoreBoard.getAwayTeamScore(), scoreBoard.getHomeTeamScore());
+                    lastId = scoreBoard.getId();
+                }
+                matchCount += scoreBoards.size();
+            } while (scoreBoards.size() == batchSize);
+
+            replaceStandings(statsByTeamName, runId);
+            log.info("Rebuilt standings. rebuildStandings - Matches: {}, Teams: {}", matchCount, statsByTeamName.size());
+            return matchCount;
+        } finally {
+            stringRedisTemplate.execute(RELEASE_REBUILD_LOCK_SCRIPT, List.of(RedisConstants.STANDINGS_REBUILD_LOCK_KEY), runId);
+        }
+    }
+
+    private void applyResult(String homeTeamName, String awayTeamName, int homeTeamScore, int awayTeamScore) {
+        try {
+            stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                    operations.multi();
+                    incrementTeam(operations, homeTeamName, homeTeamScore, awayTeamScore);
+                    incrementTeam(operations, awayTeamName, awayTeamScore, homeTeamScore);
+                    return operations.exec();
+                }
+            });
+        } catch (Exception e) {
+            log.error("Exception occurred while updating standings, they will be corrected by the next rebuild. applyResult - HomeTeamName: {}, AwayTeamName: {}, Exception: {}",
+                    homeTeamName, awayTeamName, ExceptionUtils.getStackTrace(e));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void incrementTeam(RedisOperations operations, String teamName, int goalsFor, int goalsAgainst) {
+        long[] stats = new long[STATS.size()];
+        accumulate(stats, goalsFor, goalsAgainst);
+        for (int i = 0; i < STATS.size(); i++) {
+            if (stats[i] != 0) {
+                operations.opsForHash().increment(RedisConstants.STANDINGS_STATS_KEY, statField(STATS.get(i), teamName), stats[i]);
+            }
+        }
+        operations.opsForZSet().incrementScore(RedisConstants.STANDINGS_RANKING_KEY, teamName, rankingScore(stats));
+    }
+
+    private void replaceStandings(Map<String, long[]> statsByTeamName, String runId) {
+        // unique per run, so a run that outlived its lock does not write into the keys of the next one
+        String rankingKey = RedisConstants.STANDINGS_RANKING_KEY + ":rebuild:" + runId;
+        String statsKey = RedisConstants.STANDINGS_STATS_KEY + ":rebuild:" + runId;
+
+        if (statsByTeamName.isEmpty()) {
+            stringRedisTemplate.delete(List.of(RedisConstants.STANDINGS_RANKING_KEY, RedisConstants.STANDINGS_STATS_KEY));
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> ranking = new HashSet<>();
+        Map<String, String> stats = new HashMap<>();
+        statsByTeamName.forEach((teamName, teamStats) -> {
+            ranking.add(ZSetOperations.TypedTuple.of(teamName, rankingScore(teamStats)));
+            for (int i = 0; i < STATS.size(); i++) {
+                stats.put(statField(STATS.get(i), teamName), String.valueOf(teamStats[i]));
+            }
+        });
+
+        // temporary keys of a failed run expire on their own
+        stringRedisTemplate.opsForZSet().add(rankingKey, ranking);
+        stringRedisTemplate.expire(rankingKey, standingsProperties.getRebuildLockTtl());
+        stringRedisTemplate.opsForHash().putAll(statsKey, stats);
+        stringRedisTemplate.expire(statsKey, standingsProperties.getRebuildLockTtl());
+        stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.rename(rankingKey, RedisConstants.STANDINGS_RANKING_KEY);
+                operations.rename(statsKey, RedisConstants.STANDINGS_STATS_KEY);
+                // RENAME keeps the expiry of the temporary keys
+                operations.persist(RedisConstants.STANDINGS_RANKING_KEY);
+                operations.persist(RedisConstants.STANDINGS_STATS_KEY);
+                return operations.exec();
+            }
+        });
+    }
+
+    /**
+     * Adds one match to the counters, in {@link #STATS} order.
+     */
+    private static void accumulate(long[] stats, int goalsFor, int goalsAgainst) {
+        stats[0]++;
+        if (goalsFor > goalsAgainst) {
+            stats[1]++;
+            stats[6] += 3;
+        } else if (goalsFor == goalsAgainst) {
+            stats[2]++;
+            stats[6] += 1;
+        } else {
+            stats[3]++;
+        }
+        stats[4] += goalsFor;
+        stats[5] += goalsAgainst;
+    }
+
+    private static double rankingScore(long[] stats) {
+        return stats[6] * POINTS_WEIGHT + (stats[4] - stats[5]);
+    }
+
+    private static String statField(String stat, String teamName) {
+        return stat + ":" + teamName;
+    }
+
+    private static TeamStanding toTeamStanding(long rank, String teamName, List<Object> values) {
+        long[] stats = values.stream().mapToLong(value -> value == null ? 0 : Long.parseLong(value.toString())).toArray();
+        return new TeamStanding(rank, teamName, stats[0], stats[1], stats[2], stats[3], stats[4], stats[5], stats[6]);
+    }
+}
@@ -1,26 +1,62 @@
 package com.mb.livedataservice.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mb.livedataservice.config.EmailTemplateCacheProperties;
+import com.mb.livedataservice.data.model.EmailTemplate;
 import com.mb.livedataservice.service.ThymeleafTemplateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Service;
+import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
 import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IEngineContext;
+import org.thymeleaf.engine.TemplateData;
+import org.thymeleaf.engine.TemplateModel;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.StringTemplateResolver;
+import org.thymeleaf.templateresource.StringTemplateResource;
 
+import java.io.StringWriter;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Service
 public class ThymeleafTemplateServiceImpl implements ThymeleafTemplateService {
 
+    private static final String PART_SUBJECT = "subject";
+    private static final String PART_BODY = "body";
+
     private final TemplateEngine springTemplateEngine;
+    private final Cache<CompiledTemplateKey, TemplateModel> compiledTemplates;
+    private final Timer subjectParseTimer;
+    private final Timer bodyParseTimer;
+    private final Timer subjectRenderTimer;
+    private final Timer bodyRenderTimer;
 
-    public ThymeleafTemplateServiceImpl() {
+    public ThymeleafTemplateServiceImpl(EmailTemplateCacheProperties emailTemplateCacheProperties, MeterRegistry meterRegistry) {
         StringTemplateResolver stringTemplateResolver = new StringTemplateResolver();
         stringTemplateResolver.setTemplateMode(TemplateMode.HTML);
 
         this.springTemplateEngine = new SpringTemplateEngine();
         this.springTemplateEngine.setTemplateResolver(stringTemplateResolver);
+
+        this.compiledTemplates = Caffeine.newBuilder()
+                .maximumSize(emailTemplateCacheProperties.getMaximumSize())
+                .expireAfterAccess(emailTemplateCacheProperties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, compiledTemplates, "emailTemplates");
+        this.subjectParseTimer = timer("email.template.parse", "Time to compile an email template", PART_SUBJECT, meterRegistry);
+        this.bodyParseTimer = timer("email.template.parse", "Time to compile an email template", PART_BODY, meterRegistry);
+        this.subjectRenderTimer = timer("email.template.render", "Time to render a compiled email template", PART_SUBJECT, meterRegistry);
+        this.bodyRenderTimer = timer("email.template.render", "Time to render a compiled email template", PART_BODY, meterRegistry);
     }
 
     @Override
@@ -29,11 +65,74 @@ public class ThymeleafTemplateServiceImpl implements ThymeleafTemplateService {
             return null;
         }
 
+        return springTemplateEngine.process(templateContent, createContext(variables));
+    }
+
+    @Override
+    public String processSubject(EmailTemplate emailTemplate, Map<String, Object> variables) {
+        return process(emailTemplate, PART_SUBJECT, EmailTemplate::getSubject, subjectParseTimer, subjectRenderTimer, variables);
+    }
+
+    @Override
+    public String processBody(EmailTemplate emailTemplate, Map<String, Object> variables) {
+        return process(emailTemplate, PART_BODY, EmailTemplate::getBody, bodyParseTimer, bodyRenderTimer, variables);
+    }
+
+    @Override
+    public void evictTemplate(String templateCode) {
+        compiledTemplates.asMap().keySet().removeIf(key -> key.code().equals(templateCode));
+    }
+
+    /**
+     * The key carries {@code updatedAt}, so a changed template is compiled again even before its old version is evicted.
+     */
+    private String process(EmailTemplate emailTemplate,
+                           String part,
+                           Function<EmailTemplate, String> contentExtractor,
+                           Timer parseTimer,
+                           Timer renderTimer,
+                           Map<String, Object> variables) {
+        String templateContent = contentExtractor.apply(emailTemplate);
+        if (templateContent == null) {
+            return null;
+        }
+
+        CompiledTemplateKey key = new CompiledTemplateKey(emailTemplate.getCode(), emailTemplate.getUpdatedAt(), part);
+        TemplateModel templateModel = compiledTemplates.get(key, _ -> parseTimer.record(() -> parse(key, templateContent)));
+        return renderTimer.record(() -> render(Objects.requireNonNull(templateModel), variables));
+    }
+
+    private TemplateModel parse(CompiledTemplateKey key, String templateContent) {
+        TemplateData templateData = new TemplateData(key.toString(), null, new StringTemplateResource(templateContent), TemplateMode.HTML, AlwaysValidCacheEntryValidity.INSTANCE);
+        return springTemplateEngine.getConfiguration()
+                .getTemplateManager()
+                .parseString(templateData, templateContent, 0, 0, TemplateMode.HTML, false);
+    }
+
+    private String render(TemplateModel templateModel, Map<String, Object> variables) {
+        IEngineConfiguration configuration = springTemplateEngine.getConfiguration();
+        IEngineContext engineContext = configuration.getEngineContextFactory()
+                .createEngineContext(configuration, templateModel.getTemplateData(), null, createContext(variables));
+        StringWriter writer = new StringWriter();
+        configuration.getTemplateManager().process(templateModel, engineContext, writer);
+        return writer.toString();
+    }
+
+    private static Context createContext(Map<String, Object> variables) {
         Context context = new Context();
         if (variables != null) {
             context.setVariables(variables);
         }
+        return context;
+    }
+
+    private static Timer timer(String name, String description, String part, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("part", part)
+                .register(meterRegistry);
+    }
 
-        return springTemplateEngine.process(templateContent, context);
+    private record CompiledTemplateKey(String code, LocalDateTime version, String part) {
     }
 }
@@ -1,19 +1,38 @@
 package com.mb.livedataservice.service.impl;
 
+import com.mb.livedataservice.api.response.ApiTutorialResponse;
+import com.mb.livedataservice.config.TutorialProperties;
 import com.mb.livedataservice.data.filter.TutorialFilter;
+import com.mb.livedataservice.data.model.BatchItemResult;
+import com.mb.livedataservice.data.model.QTutorial;
 import com.mb.livedataservice.data.model.Tutorial;
 import com.mb.livedataservice.data.repository.TutorialRepository;
+import com.mb.livedataservice.data.repository.TutorialSearchRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.OutboxEventService;
 import com.mb.livedataservice.service.TutorialService;
+import com.mb.livedataservice.util.BatchUtils;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -21,13 +40,14 @@ import java.util.List;
 public class TutorialServiceImpl implements TutorialService {
 
     private final TutorialRepository tutorialRepository;
+    private final TutorialSearchRepository tutorialSearchRepository;
+    private final OutboxEventService outboxEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final TutorialProperties tutorialProperties;
 
     @Override
-    public List<Tutorial> findByTitleContaining(String title) {
-        if (StringUtils.isNotBlank(title)) {
-            return tutorialRepository.findByTitleContaining(title);
-        }
-        return tutorialRepository.findAll();
+    public List<Tutorial> search(String text, Pageable pageable) {
+        return tutorialSearchRepository.search(text, pageable);
     }
 
     @Override
@@ -37,36 +57,184 @@ public class TutorialServiceImpl implements TutorialService {
     }
 
     @Override
+    @Transactional
     public Tutorial save(Tutorial tutorial) {
-        return tutorialRepository.save(tutorial);
+        Tutorial savedTutorial = tutorialRepository.save(tutorial);
+        outboxEventService.append(Tutorial.class.getSimpleName(), savedTutorial.getId(), EntityChangeType.CREATED, savedTutorial);
+        return savedTutorial;
     }
 
     @Override
+    @Transactional
     public Tutorial update(long id, Tutorial tutorial) {
         Tutorial byId = findById(id);
         byId.setTitle(tutorial.getTitle());
         byId.setDescription(tutorial.getDescription());
         byId.setPublished(tutorial.isPublished());
-        return tutorialRepository.save(byId);
+        Tutorial savedTutorial = tutorialRepository.save(byId);
+        outboxEventService.append(Tutorial.class.getSimpleName(), id, EntityChangeType.UPDATED, savedTutorial);
+        return savedTutorial;
+    }
+
+    /**
+     * Inserts the valid tutorials with one {@code saveAll}, which Hibernate sends as JDBC batches of {@code hibernate.jdbc.batch_size}.
+     * Tutorials without a title or description are reported as {@link LiveDataErrorCode#VALIDATION_ERROR} and skipped.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult<Tutorial>> saveAll(List<Tutorial> tutorials) {
+        BatchUtils.validateBatchSize(tutorials.size());
+
+        List<BatchItemResult<Tutorial>> results = IntStream.range(0, tutorials.size())
+                .mapToObj(index -> StringUtils.isAnyBlank(tutorials.get(index).getTitle(), tutorials.get(index).getDescription())
+                        ? BatchItemResult.<Tutorial>failure(index, LiveDataErrorCode.VALIDATION_ERROR)
+                        : BatchItemResult.success(index, tutorials.get(index)))
+                .toList();
+
+        List<Tutorial> savedTutorials = tutorialRepository.saveAll(results.stream().filter(BatchItemResult::isSuccess).map(BatchItemResult::value).toList());
+        outboxEventService.appendAll(Tutorial.class.getSimpleName(), EntityChangeType.CREATED, BatchUtils.byId(savedTutorials, Tutorial::getId));
+        return results;
+    }
+
+    /**
+     * Loads all targeted tutorials with one query and lets dirty checking flush the changes as batched updates.
+     * Items without an id, title or description, repeated ids and unknown ids are reported per item and skipped.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult<Tutorial>> updateAll(List<Tutorial> tutorials) {
+        BatchUtils.validateBatchSize(tutorials.size());
+
+        Set<Long> ids = tutorials.stream().map(Tutorial::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Tutorial> existingTutorialsById = BatchUtils.byId(tutorialRepository.findAllById(ids), Tutorial::getId);
+
+        List<BatchItemResult<Tutorial>> results = new ArrayList<>(tutorials.size());
+        Set<Long> updatedIds = new HashSet<>();
+        for (int index = 0; index < tutorials.size(); index++) {
+            Tutorial tutorial = tutorials.get(index);
+            if (tutorial.getId() == null || StringUtils.isAnyBlank(tutorial.getTitle(), tutorial.getDescription()) || !updatedIds.add(tutorial.getId())) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.VALIDATION_ERROR));
+                continue;
+            }
+
+            Tutorial existingTutorial = existingTutorialsById.get(tutorial.getId());
+            if (existingTutorial == null) {
+                results.add(BatchItemResult.failure(index, LiveDataErrorCode.NOT_FOUND));
+                continue;
+            }
+
+            existingTutorial.setTitle(tutorial.getTitle());
+            existingTutorial.setDescription(tutorial.getDescription());
+            existingTutorial.setPublished(tutorial.isPublished());
+            results.add(BatchItemResult.success(index, existingTutorial));
+        }
+
+        List<Tutorial> updatedTutorials = tutorialRepository.saveAll(results.stream().filter(BatchItemResult::isSuccess).map(BatchItemResult::value).toList());
+        outboxEventService.appendAll(Tutorial.class.getSimpleName(), EntityChangeType.UPDATED, BatchUtils.byId(updatedTutorials, Tutorial::getId));
+        return results;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<BatchItemResult<Tutorial>> findAllById(List<Long> ids) {
+        BatchUtils.validateBatchSize(ids.size());
+
+        Map<Long, Tutorial> tutorialsById = BatchUtils.byId(tutorialRepository.findAllById(new HashSet<>(ids)), Tutorial::getId);
+        return IntStream.range(0, ids.size())
+                .mapToObj(index -> tutorialsById.containsKey(ids.get(index))
+                        ? BatchItemResult.success(index, tutorialsById.get(ids.get(index)))
+                        : BatchItemResult.<Tutorial>failure(index, LiveDataErrorCode.NOT_FOUND))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(long id) {
         tutorialRepository.deleteById(id);
+        outboxEventService.append(Tutorial.class.getSimpleName(), id, EntityChangeType.DELETED, Map.of("id", id));
     }
 
     @Override
-    public void deleteAll() {
-        tutorialRepository.deleteAll();
+    public long deleteAll() {
+        long deletedCount = softDeleteInChunks(new BooleanBuilder());
+        transactionTemplate.executeWithoutResult(_ -> outboxEventService.append(Tutorial.class.getSimpleName(), "*", EntityChangeType.ALL_DELETED, Map.of()));
+        log.info("Deleted all tutorials. deleteAll - DeletedCount: {}", deletedCount);
+        return deletedCount;
     }
 
     @Override
-    public List<Tutorial> findByPublished(boolean b) {
-        return tutorialRepository.findByPublished(b);
+    public long deleteAll(TutorialFilter filter) {
+        Predicate predicate = filter.toPredicate();
+        // an empty filter matches every tutorial, deleting all of them is left to deleteAll()
+        if (predicate instanceof BooleanBuilder booleanBuilder && !booleanBuilder.hasValue()) {
+            throw new BaseException(LiveDataErrorCode.FILTER_REQUIRED);
+        }
+
+        long deletedCount = softDeleteInChunks(predicate);
+        log.info("Deleted tutorials by filter. deleteAll - Filter: {}, DeletedCount: {}", filter, deletedCount);
+        return deletedCount;
+    }
+
+    @Override
+    public long deleteAllById(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        int chunkSize = tutorialProperties.getBulkDeleteChunkSize();
+        long deletedCount = 0;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            deletedCount += softDeleteChunk(distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size())));
+        }
+        log.info("Deleted tutorials by ids. deleteAllById - RequestedCount: {}, DeletedCount: {}", distinctIds.size(), deletedCount);
+        return deletedCount;
     }
 
     @Override
-    public Page<Tutorial> findAll(TutorialFilter filter, Pageable pageable) {
-        return tutorialRepository.findAll(filter.toPredicate(), pageable);
+    @Transactional(readOnly = true)
+    public List<ApiTutorialResponse> findResponses(Pageable pageable) {
+        return tutorialRepository.findAllResponses(new BooleanBuilder(), pageable).getContent();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApiTutorialResponse> findResponsesByPublished(boolean published) {
+        return tutorialRepository.findAllResponses(QTutorial.tutorial.published.eq(published));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ApiTutorialResponse> findAllResponses(TutorialFilter filter, Pageable pageable) {
+        return tutorialRepository.findAllResponses(filter.toPredicate(), pageable);
+    }
+
+    /**
+     * Walks the matching tutorials in id order and soft deletes them {@code tutorial.bulk-delete-chunk-size} rows at a time,
+     * each chunk in its own transaction, so row locks are only held for one chunk.
+     */
+    private long softDeleteInChunks(Predicate predicate) {
+        int chunkSize = tutorialProperties.getBulkDeleteChunkSize();
+        long deletedCount = 0;
+        long lastId = 0;
+
+        List<Long> ids;
+        do {
+            ids = tutorialRepository.findIdsAfter(predicate, lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deletedCount += softDeleteChunk(ids);
+            lastId = ids.getLast();
+        } while (ids.size() == chunkSize);
+
+        return deletedCount;
+    }
+
+    private long softDeleteChunk(List<Long> ids) {
+        Long deletedCount = transactionTemplate.execute(_ -> {
+            long count = tutorialRepository.softDeleteAllByIdIn(ids);
+            outboxEventService.append(Tutorial.class.getSimpleName(), "*", EntityChangeType.BULK_DELETED, Map.of("ids", ids));
+            return count;
+        });
+        return deletedCount == null ? 0 : deletedCount;
+    }
+
+
 }
@@ -0,0 +1,35 @@
+package com.mb.livedataservice.util;
+
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers shared by the batch APIs.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchUtils {
+
+    /**
+     * Rejects a batch larger than {@link LiveDataConstants#MAX_BATCH_SIZE} with {@link LiveDataErrorCode#BATCH_SIZE_EXCEEDED}.
+     */
+    public static void validateBatchSize(int size) {
+        if (size > LiveDataConstants.MAX_BATCH_SIZE) {
+            throw new BaseException(LiveDataErrorCode.BATCH_SIZE_EXCEEDED);
+        }
+    }
+
+    /**
+     * Indexes the entities by id in iteration order, keeping the first entity of a repeated id.
+     */
+    public static <T> Map<Long, T> byId(Collection<T> entities, Function<T, Long> idGetter) {
+        return entities.stream().collect(Collectors.toMap(idGetter, Function.identity(), (first, _) -> first, LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,26 @@
+package com.mb.livedataservice.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DatabaseUtils {
+
+    /**
+     * Returns whether the data source points to PostgreSQL, {@code false} for H2 or when the product cannot be detected.
+     */
+    public static boolean isPostgreSQL(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("Could not detect database product, falling back to portable SQL. isPostgreSQL - Exception: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -8,4 +8,6 @@ public final class LiveDataConstants {
 
     public static final String DEFAULT_ID_GENERATOR_NAME = "default_sequence_generator";
     public static final String LIVE_DATA_SERVICE = "live-data-service";
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final String ANONYMOUS_CUSTOMER_NAME = "Anonymous";
 }
@@ -10,4 +10,9 @@ import lombok.NoArgsConstructor;
 public final class RedisConstants {
 
     public static final String CACHE_KEY = "cacheKey";
+    public static final String STANDINGS_RANKING_KEY = "standings:ranking";
+    public static final String STANDINGS_STATS_KEY = "standings:stats";
+    public static final String STANDINGS_REBUILD_LOCK_KEY = "standings:rebuild:lock";
+    public static final String SHELF_STATE_CHECK_LOCK_KEY = "shelf:state-check:lock";
+    public static final String EMAIL_DELIVERY_KEY_PREFIX = "email:delivery:";
 }
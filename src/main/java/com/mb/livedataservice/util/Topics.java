@@ -8,7 +8,9 @@ public final class Topics {
 
     public static final String TEST_TOPIC = "test-topic";
     public static final String ORDERS = "orders";
+    public static final String ORDERS_DLT = ORDERS + "-dlt";
     public static final String CUSTOM_ORDERS = "custom-orders";
     public static final String JMS_CUSTOM_ORDERS = "jms-custom-orders";
     public static final String EMAIL_TOPIC = "email-topic";
+    public static final String ENTITY_CHANGE_EVENTS = "entity-change-events";
 }
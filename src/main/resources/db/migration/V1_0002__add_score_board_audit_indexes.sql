@@ -0,0 +1,6 @@
+-- Revision timeline of a single board: WHERE id = ? AND rev > ? ORDER BY rev
+-- The primary key (rev, id) already serves the cross-board "changed since revision N" scan.
+CREATE INDEX IF NOT EXISTS idx_score_board_aud_id_rev ON mb_test.score_board_aud (id, rev);
+
+-- Resolving revisions by timestamp
+CREATE INDEX IF NOT EXISTS idx_revinfo_revtstmp ON mb_test.revinfo (revtstmp);
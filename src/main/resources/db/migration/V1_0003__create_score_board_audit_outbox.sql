@@ -0,0 +1,23 @@
+-- Buffer for score board audit entries when audit.score-board.mode=async.
+-- Rows are written in the request transaction and moved to revinfo/score_board_aud in batches by the relay.
+CREATE TABLE IF NOT EXISTS mb_test.score_board_audit_outbox
+(
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    score_board_id         BIGINT   NOT NULL,
+    revtype                SMALLINT NOT NULL,
+    revtstmp               BIGINT   NOT NULL,
+    deleted                BOOLEAN,
+    deleted_mod            BOOLEAN,
+    created_date_time      TIMESTAMP,
+    created_date_time_mod  BOOLEAN,
+    modified_date_time     TIMESTAMP,
+    modified_date_time_mod BOOLEAN,
+    home_team_name         VARCHAR(255),
+    home_team_name_mod     BOOLEAN,
+    away_team_name         VARCHAR(255),
+    away_team_name_mod     BOOLEAN,
+    home_team_score        INT,
+    home_team_score_mod    BOOLEAN,
+    away_team_score        INT,
+    away_team_score_mod    BOOLEAN
+);
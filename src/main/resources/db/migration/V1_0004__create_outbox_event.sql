@@ -0,0 +1,11 @@
+-- Transactional outbox of entity change events, published to Kafka by OutboxEventRelay.
+-- Rows are appended in the writing transaction and deleted in bulk once Kafka acknowledged them.
+CREATE TABLE IF NOT EXISTS mb_test.outbox_event
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(64)  NOT NULL,
+    aggregate_id   VARCHAR(64)  NOT NULL,
+    event_type     VARCHAR(32)  NOT NULL,
+    payload        TEXT         NOT NULL,
+    created_at     TIMESTAMP    NOT NULL
+);
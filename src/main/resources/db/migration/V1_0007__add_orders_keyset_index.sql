@@ -0,0 +1,5 @@
+-- Keyset pagination of orders with their items: WHERE (order_date, id) < (?, ?) ORDER BY order_date DESC, id DESC
+-- Supersedes the single column index on order_date.
+CREATE INDEX IF NOT EXISTS idx_orders_date_id ON mb_test.orders (order_date, id);
+
+DROP INDEX IF EXISTS mb_test.idx_orders_date;
@@ -0,0 +1,10 @@
+-- Version counters of read-mostly tables served from in-memory snapshots.
+-- Instances poll the version and only reload the table when it has moved.
+CREATE TABLE IF NOT EXISTS mb_test.catalog_version
+(
+    name    VARCHAR(100) PRIMARY KEY,
+    version BIGINT       NOT NULL
+);
+
+INSERT INTO mb_test.catalog_version (name, version)
+VALUES ('coffee', 0);
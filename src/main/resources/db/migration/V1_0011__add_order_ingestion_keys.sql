@@ -0,0 +1,11 @@
+-- Orders ingested from the orders topic are deduplicated by the UUID of the message.
+ALTER TABLE mb_test.orders
+    ADD COLUMN IF NOT EXISTS order_uuid UUID;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_orders_order_uuid ON mb_test.orders (order_uuid);
+
+-- Order messages reference coffees by article id; existing coffees get a random one.
+ALTER TABLE mb_test.coffee
+    ADD COLUMN IF NOT EXISTS article_id UUID DEFAULT gen_random_uuid() NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_coffee_article_id ON mb_test.coffee (article_id);
@@ -0,0 +1,11 @@
+-- Copy of the order date on every item, so order_items can be partitioned by the same key as orders
+-- and item scans can be bounded by date.
+ALTER TABLE mb_test.order_items
+    ADD COLUMN IF NOT EXISTS order_date TIMESTAMP;
+
+UPDATE mb_test.order_items oi
+SET order_date = (SELECT o.order_date FROM mb_test.orders o WHERE o.id = oi.order_id)
+WHERE oi.order_date IS NULL;
+
+ALTER TABLE mb_test.order_items
+    ALTER COLUMN order_date SET NOT NULL;
@@ -0,0 +1,3 @@
+-- ShelfEntry ids are allocated 50 at a time (pooled optimizer), so the sequence has to advance by the same step.
+-- Single-row inserts that call nextval directly keep working, they just leave gaps.
+ALTER SEQUENCE mb_test.seq_shelf_entry INCREMENT BY 50;
@@ -0,0 +1,13 @@
+-- Latest shelf entry of every product, so activity lookups are a primary key read instead of a MAX(start_date) subquery.
+-- Written in the same transaction as shelf_entry; shelf_entry stays the source of truth and the state is rebuilt from it on drift.
+CREATE TABLE IF NOT EXISTS mb_test.shelf_state
+(
+    product_id BIGINT  NOT NULL PRIMARY KEY,
+    start_date DATE    NOT NULL,
+    active     BOOLEAN NOT NULL
+);
+
+INSERT INTO mb_test.shelf_state (product_id, start_date, active)
+SELECT s.product_id, s.start_date, s.active
+FROM mb_test.shelf_entry s
+WHERE s.start_date = (SELECT MAX(s2.start_date) FROM mb_test.shelf_entry s2 WHERE s2.product_id = s.product_id);
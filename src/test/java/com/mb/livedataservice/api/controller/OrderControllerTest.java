@@ -0,0 +1,98 @@
+package com.mb.livedataservice.api.controller;
+
+import com.mb.livedataservice.base.BaseUnitTest;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.data.repository.OrderAggregateRepository;
+import com.mb.livedataservice.data.repository.OrderItemRepository;
+import com.mb.livedataservice.data.repository.OrderRepository;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.exception.RestResponseExceptionHandler;
+import com.mb.livedataservice.service.OrderExportService;
+import com.mb.livedataservice.service.OrderStatusService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest
+@ContextConfiguration(classes = {OrderController.class, RestResponseExceptionHandler.class})
+class OrderControllerTest extends BaseUnitTest {
+
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @MockitoBean
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private OrderItemRepository orderItemRepository;
+
+    @MockitoBean
+    private OrderAggregateRepository orderAggregateRepository;
+
+    @MockitoBean
+    private OrderExportService orderExportService;
+
+    @MockitoBean
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldReturnEmptyLastPage_WhenSizeIsZero() throws Exception {
+        when(orderAggregateRepository.findOrdersWithItems(null, 0L, 1)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/orders/with-items").param("size", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andExpect(jsonPath("$.nextId").value(nullValue()))
+                .andDo(log());
+
+        verify(orderAggregateRepository).findOrdersWithItems(null, 0L, 1);
+    }
+
+    @Test
+    void shouldClampPageSize_WhenSizeIsNegative() throws Exception {
+        when(orderAggregateRepository.findOrdersWithItems(null, 0L, 1)).thenReturn(List.of(getOrderWithItems(7L)));
+
+        mockMvc.perform(get("/api/orders/with-items").param("size", "-5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextId").value(7))
+                .andDo(log());
+    }
+
+    @Test
+    void shouldClampPageSize_WhenSizeIsTooLarge() throws Exception {
+        List<OrderWithItems> orders = LongStream.rangeClosed(1, 100).mapToObj(OrderControllerTest::getOrderWithItems).toList();
+        when(orderAggregateRepository.findOrdersWithItems(null, 0L, 100)).thenReturn(orders);
+
+        mockMvc.perform(get("/api/orders/with-items").param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(100)))
+                .andExpect(jsonPath("$.nextId").value(100))
+                .andDo(log());
+
+        verify(orderAggregateRepository).findOrdersWithItems(null, 0L, 100);
+    }
+
+    private static OrderWithItems getOrderWithItems(long id) {
+        return new OrderWithItems(id, 1L, "Customer", ORDER_DATE, BigDecimal.TEN, OrderStatus.READY, List.of());
+    }
+}
@@ -4,6 +4,7 @@ import com.mb.livedataservice.api.request.ApiScoreBoardRequest;
 import com.mb.livedataservice.api.request.ApiScoreBoardUpdateRequest;
 import com.mb.livedataservice.api.response.ApiScoreBoardResponse;
 import com.mb.livedataservice.base.BaseUnitTest;
+import com.mb.livedataservice.data.model.BatchItemResult;
 import com.mb.livedataservice.data.model.ScoreBoard;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
@@ -75,18 +76,33 @@ class ScoreBoardControllerTest extends BaseUnitTest {
 
     @Test
     void getAllScoreBoards() throws Exception {
-        List<ScoreBoard> scoreBoardList = getScoreBoardList();
         List<ApiScoreBoardResponse> apiScoreBoardResponseList = getApiScoreBoardResponseList();
 
-        PageImpl<ScoreBoard> scoreBoards = new PageImpl<>(scoreBoardList);
         PageImpl<ApiScoreBoardResponse> apiScoreBoardResponses = new PageImpl<>(apiScoreBoardResponseList);
 
-        given(scoreBoardService.getAllScoreBoards(Mockito.any(PageRequest.class))).willReturn(scoreBoards);
-        given(scoreBoardMapper.map(scoreBoards)).willReturn(apiScoreBoardResponses);
+        given(scoreBoardService.getAllScoreBoardResponses(Mockito.any(PageRequest.class))).willReturn(apiScoreBoardResponses);
 
         mockMvc.perform(get("/score-boards"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content", hasSize(scoreBoards.getContent().size())))
+                .andExpect(jsonPath("$.content", hasSize(apiScoreBoardResponses.getContent().size())))
+                .andDo(log());
+    }
+
+    @Test
+    void getScoreBoardsByIds() throws Exception {
+        ScoreBoard scoreBoard = getScoreBoard();
+        ApiScoreBoardResponse apiScoreBoardResponse = getApiScoreBoardResponse();
+
+        when(scoreBoardService.getScoreBoardsByIds(List.of(scoreBoard.getId(), -1L)))
+                .thenReturn(List.of(BatchItemResult.success(0, scoreBoard), BatchItemResult.failure(1, LiveDataErrorCode.SCORE_BOARD_NOT_FOUND)));
+        when(scoreBoardMapper.map(scoreBoard)).thenReturn(apiScoreBoardResponse);
+
+        mockMvc.perform(get("/score-boards/batch").param("ids", String.valueOf(scoreBoard.getId()), "-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(1))
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.items[0].result.homeTeamName").value(apiScoreBoardResponse.getHomeTeamName()))
+                .andExpect(jsonPath("$.items[1].errorCode").value(LiveDataErrorCode.SCORE_BOARD_NOT_FOUND.getCode()))
                 .andDo(log());
     }
 
@@ -1,9 +1,11 @@
 package com.mb.livedataservice.api.controller;
 
+import com.mb.livedataservice.api.filter.ApiTutorialFilter;
 import com.mb.livedataservice.api.request.ApiTutorialRequest;
 import com.mb.livedataservice.api.request.ApiTutorialUpdateRequest;
 import com.mb.livedataservice.api.response.ApiTutorialResponse;
 import com.mb.livedataservice.base.BaseUnitTest;
+import com.mb.livedataservice.data.filter.TutorialFilter;
 import com.mb.livedataservice.data.model.Tutorial;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
@@ -14,6 +16,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -25,7 +29,10 @@ import tools.jackson.databind.ObjectMapper;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -102,17 +109,16 @@ class TutorialControllerTest extends BaseUnitTest {
 
     @Test
     void shouldReturnListOfTutorials() throws Exception {
-        List<Tutorial> tutorials = getTutorials();
-
         List<ApiTutorialResponse> apiTutorialResponses = getApiTutorialResponses();
 
-        when(tutorialService.findByTitleContaining(null)).thenReturn(tutorials);
-        when(tutorialMapper.map(tutorials)).thenReturn(apiTutorialResponses);
+        when(tutorialService.findResponses(any(Pageable.class))).thenReturn(apiTutorialResponses);
 
-        mockMvc.perform(get("/api/tutorials"))
+        mockMvc.perform(get("/api/tutorials").param("page", "1").param("size", "5"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()").value(apiTutorialResponses.size()))
                 .andDo(log());
+
+        verify(tutorialService).findResponses(PageRequest.of(1, 5));
     }
 
     @Test
@@ -125,7 +131,7 @@ class TutorialControllerTest extends BaseUnitTest {
         MultiValueMap<String, String> paramsMap = new LinkedMultiValueMap<>();
         paramsMap.add("title", title);
 
-        when(tutorialService.findByTitleContaining(title)).thenReturn(tutorials);
+        when(tutorialService.search(eq(title), any(Pageable.class))).thenReturn(tutorials);
         when(tutorialMapper.map(tutorials)).thenReturn(apiTutorialResponses);
 
         mockMvc.perform(get("/api/tutorials").params(paramsMap))
@@ -142,7 +148,7 @@ class TutorialControllerTest extends BaseUnitTest {
 
         List<Tutorial> tutorials = Collections.emptyList();
 
-        when(tutorialService.findByTitleContaining(title)).thenReturn(tutorials);
+        when(tutorialService.search(eq(title), any(Pageable.class))).thenReturn(tutorials);
         when(tutorialMapper.map(tutorials)).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/tutorials").params(paramsMap))
@@ -202,20 +208,40 @@ class TutorialControllerTest extends BaseUnitTest {
 
     @Test
     void shouldDeleteAllTutorials() throws Exception {
-        doNothing().when(tutorialService).deleteAll();
+        when(tutorialService.deleteAll()).thenReturn(3L);
         mockMvc.perform(delete("/api/tutorials"))
-                .andExpect(status().isNoContent())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(3))
                 .andDo(log());
     }
 
     @Test
-    void shouldReturnListOfTutorials_WhenPublishedIsTrue() throws Exception {
-        List<Tutorial> tutorials = getTutorials();
+    void shouldDeleteTutorialsById() throws Exception {
+        when(tutorialService.deleteAllById(List.of(1L, 2L))).thenReturn(2L);
+        mockMvc.perform(delete("/api/tutorials").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2))
+                .andDo(log());
+    }
 
+    @Test
+    void shouldReturnBadRequest_WhenDeleteFilterIsEmpty() throws Exception {
+        TutorialFilter tutorialFilter = new TutorialFilter();
+
+        when(tutorialMapper.map(any(ApiTutorialFilter.class))).thenReturn(tutorialFilter);
+        when(tutorialService.deleteAll(tutorialFilter)).thenThrow(new BaseException(LiveDataErrorCode.FILTER_REQUIRED));
+
+        mockMvc.perform(delete("/api/tutorials/filter"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(LiveDataErrorCode.FILTER_REQUIRED.getCode()))
+                .andDo(log());
+    }
+
+    @Test
+    void shouldReturnListOfTutorials_WhenPublishedIsTrue() throws Exception {
         List<ApiTutorialResponse> apiTutorialResponses = getApiTutorialResponses();
 
-        when(tutorialService.findByPublished(true)).thenReturn(tutorials);
-        when(tutorialMapper.map(tutorials)).thenReturn(apiTutorialResponses);
+        when(tutorialService.findResponsesByPublished(true)).thenReturn(apiTutorialResponses);
 
         mockMvc.perform(get("/api/tutorials/published"))
                 .andExpect(status().isOk())
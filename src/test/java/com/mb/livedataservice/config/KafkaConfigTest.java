@@ -0,0 +1,108 @@
+package com.mb.livedataservice.config;
+
+import com.mb.livedataservice.util.Topics;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaConfigTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition(Topics.ORDERS, 0);
+
+    private final ConsumerRecordRecoverer recoverer = mock(ConsumerRecordRecoverer.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+    private final ConsumerRecords<String, byte[]> records = new ConsumerRecords<>(Map.of(PARTITION, List.of(
+            new ConsumerRecord<>(Topics.ORDERS, 0, 10L, "first", new byte[0]),
+            new ConsumerRecord<>(Topics.ORDERS, 0, 11L, "second", new byte[0])
+    )), Map.of());
+
+    private DefaultErrorHandler errorHandler;
+
+    @BeforeEach
+    void setUp() {
+        OrderIngestionProperties orderIngestionProperties = new OrderIngestionProperties();
+        orderIngestionProperties.setRetryInitialInterval(Duration.ofMillis(1));
+        orderIngestionProperties.setRetryMaxInterval(Duration.ofMillis(5));
+        errorHandler = KafkaConfig.ordersErrorHandler(recoverer, orderIngestionProperties);
+
+        when(container.isRunning()).thenReturn(true);
+        when(consumer.poll(any(Duration.class))).thenReturn(ConsumerRecords.empty());
+    }
+
+    @Test
+    void ordersErrorHandler_ShouldRetryBatchWithoutCommittingOrRecovering_UntilIngestSucceeds() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        Runnable invokeListener = () -> {
+            // the database stays unavailable for more attempts than the former fixed back off allowed
+            if (attempts.incrementAndGet() <= 10) {
+                throw new CannotGetJdbcConnectionException("Database is unavailable");
+            }
+        };
+
+        // Act
+        errorHandler.handleBatch(failure(new CannotGetJdbcConnectionException("Database is unavailable")), records, consumer, container, invokeListener);
+
+        // Assertions
+        assertEquals(11, attempts.get());
+        verify(recoverer, never()).accept(any(), any());
+        verify(consumer, never()).commitSync(anyMap());
+        verify(consumer, never()).commitSync(anyMap(), any(Duration.class));
+        verify(consumer, never()).commitAsync(anyMap(), any());
+    }
+
+    @Test
+    void ordersErrorHandler_ShouldRetryBatch_WhenDuplicateKeyIsRaised() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        errorHandler.handleBatch(failure(new DuplicateKeyException("Order was written by a concurrent batch")), records, consumer, container, attempts::incrementAndGet);
+
+        // Assertions
+        assertEquals(1, attempts.get());
+        verify(recoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    void ordersErrorHandler_ShouldRecoverEveryRecordWithoutRetrying_WhenBatchCanNeverBeWritten() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        errorHandler.handleBatch(failure(new DataIntegrityViolationException("Check constraint violated")), records, consumer, container, attempts::incrementAndGet);
+
+        // Assertions
+        assertEquals(0, attempts.get());
+        verify(recoverer, times(2)).accept(any(), any());
+    }
+
+    private static ListenerExecutionFailedException failure(Exception cause) {
+        return new ListenerExecutionFailedException("Listener failed", cause);
+    }
+}
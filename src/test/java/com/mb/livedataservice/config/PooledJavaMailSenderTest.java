@@ -0,0 +1,159 @@
+package com.mb.livedataservice.config;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PooledJavaMailSenderTest {
+
+    private final Deque<Transport> transports = new ArrayDeque<>();
+
+    private SmtpPoolProperties smtpPoolProperties;
+
+    private PooledJavaMailSender pooledJavaMailSender;
+
+    @BeforeEach
+    void init() {
+        smtpPoolProperties = new SmtpPoolProperties();
+        smtpPoolProperties.setMaxConnections(1);
+        smtpPoolProperties.setBorrowTimeout(Duration.ofMillis(100));
+        pooledJavaMailSender = new PooledJavaMailSender(smtpPoolProperties) {
+            @Override
+            protected Transport getTransport(Session session) {
+                return transports.removeFirst();
+            }
+        };
+        pooledJavaMailSender.setHost("localhost");
+    }
+
+    @Test
+    void send_ShouldReuseConnection_AcrossSends() throws MessagingException {
+        // Arrange
+        Transport transport = addTransport();
+
+        // Act
+        pooledJavaMailSender.send(createMessage());
+        pooledJavaMailSender.send(createMessage(), createMessage());
+
+        // Assertions
+        verify(transport, times(1)).connect("localhost", -1, null, null);
+        verify(transport, times(3)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        verify(transport, never()).close();
+    }
+
+    @Test
+    void send_ShouldOpenNewConnection_WhenMaxMessagesPerConnectionIsReached() throws MessagingException {
+        // Arrange
+        smtpPoolProperties.setMaxMessagesPerConnection(2);
+        Transport first = addTransport();
+        Transport second = addTransport();
+
+        // Act
+        pooledJavaMailSender.send(createMessage(), createMessage());
+        pooledJavaMailSender.send(createMessage());
+
+        // Assertions
+        verify(first, times(2)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        verify(first).close();
+        verify(second, times(1)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    void send_ShouldRetryOnNewConnection_WhenConnectionDropped() throws MessagingException {
+        // Arrange
+        Transport dropped = addTransport();
+        doThrow(new MessagingException("Connection reset")).when(dropped).sendMessage(any(MimeMessage.class), any(Address[].class));
+        when(dropped.isConnected()).thenReturn(false);
+        Transport reconnected = addTransport();
+
+        // Act
+        pooledJavaMailSender.send(createMessage());
+
+        // Assertions
+        verify(dropped).close();
+        verify(reconnected, times(1)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    void send_ShouldReplaceIdleConnection_WhenHealthCheckFails() throws MessagingException {
+        // Arrange
+        smtpPoolProperties.setValidateAfterIdle(Duration.ZERO);
+        Transport stale = addTransport();
+        when(stale.isConnected()).thenReturn(false);
+        Transport fresh = addTransport();
+        pooledJavaMailSender.send(createMessage());
+
+        // Act
+        pooledJavaMailSender.send(createMessage());
+
+        // Assertions
+        verify(stale, times(1)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        verify(stale).close();
+        verify(fresh, times(1)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    void send_ShouldFail_WhenAllConnectionsStayBusyForBorrowTimeout() throws Exception {
+        // Arrange
+        Transport busy = addTransport();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch finishSending = new CountDownLatch(1);
+        doAnswer(_ -> {
+            sending.countDown();
+            finishSending.await();
+            return null;
+        }).when(busy).sendMessage(any(MimeMessage.class), any(Address[].class));
+        MimeMessage heldMessage = createMessage();
+        Thread holder = Thread.ofVirtual().start(() -> pooledJavaMailSender.send(heldMessage));
+        sending.await();
+
+        // Act
+        MailSendException exception = assertThrows(MailSendException.class, () -> pooledJavaMailSender.send(createMessage()));
+        finishSending.countDown();
+        holder.join();
+
+        // Assertions
+        assertEquals(1, exception.getFailedMessages().size());
+        verify(busy, times(1)).connect("localhost", -1, null, null);
+        assertTrue(transports.isEmpty());
+    }
+
+    private Transport addTransport() {
+        Transport transport = mock(Transport.class);
+        transports.addLast(transport);
+        return transport;
+    }
+
+    private static MimeMessage createMessage() throws MessagingException {
+        MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
+        mimeMessage.setFrom(new InternetAddress("sender@test.com"));
+        mimeMessage.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress("to@test.com"));
+        mimeMessage.setSubject("Subject");
+        mimeMessage.setText("Body");
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mb.livedataservice.data.filter;
+
+import com.mb.livedataservice.data.model.QTutorial;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TutorialFilterTest {
+
+    @Test
+    void toPredicate_ShouldBeEmpty_WhenNoCriteriaIsGiven() {
+        // Arrange
+        TutorialFilter tutorialFilter = new TutorialFilter();
+
+        // Act
+        Predicate predicate = tutorialFilter.toPredicate();
+
+        // Assertions
+        assertFalse(((BooleanBuilder) predicate).hasValue());
+    }
+
+    @Test
+    void toPredicate_ShouldCompareLowercasedValuesAndPublished_WhenAllCriteriaAreGiven() {
+        // Arrange
+        QTutorial qTutorial = QTutorial.tutorial;
+        TutorialFilter tutorialFilter = new TutorialFilter("Spring Boot", "Description1", true);
+
+        // Act
+        Predicate predicate = tutorialFilter.toPredicate();
+
+        // Assertions
+        assertEquals(new BooleanBuilder()
+                .and(qTutorial.title.lower().eq("spring boot"))
+                .and(qTutorial.description.lower().eq("description1"))
+                .and(qTutorial.published.eq(true)), predicate);
+    }
+}
@@ -0,0 +1,65 @@
+package com.mb.livedataservice.data.model;
+
+import com.mb.livedataservice.enums.Size;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CoffeeCatalogSnapshotTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Coffee ESPRESSO = new Coffee(1L, "Espresso", "Rich espresso", new BigDecimal("2.50"), Size.SMALL);
+    private static final Coffee LATTE = new Coffee(2L, "Latte", "Creamy latte", new BigDecimal("4.50"), Size.MEDIUM);
+    private static final Coffee LARGE_LATTE = new Coffee(3L, "Large Latte", "Creamy latte", new BigDecimal("5.75"), Size.LARGE);
+    private static final Coffee LARGE_MOCHA = new Coffee(4L, "Large Mocha", "Chocolate mocha", new BigDecimal("6.25"), Size.LARGE);
+    private static final Coffee COLD_BREW = new Coffee(5L, "Cold Brew", "Smooth cold brew", new BigDecimal("5.00"), Size.LARGE);
+
+    private final CoffeeCatalogSnapshot snapshot = new CoffeeCatalogSnapshot(1, List.of(LARGE_MOCHA, ESPRESSO, COLD_BREW, LATTE, LARGE_LATTE), LAST_MODIFIED);
+
+    @Test
+    void findByNameContainingIgnoreCase_ShouldMatchAnySubstringInIdOrder() {
+        // Act
+        // Assertions
+        assertEquals(List.of(LATTE, LARGE_LATTE), snapshot.findByNameContainingIgnoreCase("ATT"));
+        assertEquals(List.of(LARGE_LATTE, LARGE_MOCHA), snapshot.findByNameContainingIgnoreCase("large "));
+        assertEquals(List.of(), snapshot.findByNameContainingIgnoreCase("tea"));
+        assertEquals(snapshot.getCoffees(), snapshot.findByNameContainingIgnoreCase(""));
+    }
+
+    @Test
+    void findBySizeAndPriceGreaterThan_ShouldReturnMoreExpensiveCoffeesOfSize() {
+        // Act
+        // Assertions
+        assertEquals(List.of(LARGE_LATTE, LARGE_MOCHA), snapshot.findBySizeAndPriceGreaterThan(Size.LARGE, new BigDecimal("5.0")));
+        assertEquals(List.of(), snapshot.findBySizeAndPriceGreaterThan(Size.SMALL, new BigDecimal("2.50")));
+    }
+
+    @Test
+    void findAffordableBySize_ShouldReturnCoffeesUpToMaxPriceMostExpensiveFirst() {
+        // Act
+        // Assertions
+        assertEquals(List.of(LARGE_LATTE, COLD_BREW), snapshot.findAffordableBySize(Size.LARGE, new BigDecimal("6.00")));
+    }
+
+    @Test
+    void next_ShouldKeepValidators_WhenContentIsUnchanged() {
+        // Arrange
+        Instant now = LAST_MODIFIED.plusSeconds(60);
+
+        // Act
+        CoffeeCatalogSnapshot unchanged = snapshot.next(2, List.of(ESPRESSO, LATTE, LARGE_LATTE, LARGE_MOCHA, COLD_BREW), now);
+        CoffeeCatalogSnapshot changed = snapshot.next(3, List.of(ESPRESSO), now);
+
+        // Assertions
+        assertEquals(snapshot.getETag(), unchanged.getETag());
+        assertEquals(LAST_MODIFIED, unchanged.getLastModified());
+        assertNotEquals(snapshot.getETag(), changed.getETag());
+        assertEquals(now, changed.getLastModified());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.SalesBucket;
+import com.mb.livedataservice.enums.TimeBucket;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the rollup migration against an in-memory H2 database holding the seeded orders, the datasource the service starts
+ * with when no PostgreSQL is configured.
+ */
+class CoffeeSalesRollupRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+    private static SingleConnectionDataSource dataSource;
+    private static LocalDateTime migratedAt;
+    private static CoffeeSalesRollupRepository coffeeSalesRollupRepository;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:coffee_sales_rollup;MODE=PostgreSQL;DATABASE_TO_UPPER=FALSE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS mb_test\\;SET SCHEMA mb_test", "sa", "", true);
+        migratedAt = LocalDateTime.now();
+        Flyway.configure().dataSource(dataSource).schemas("mb_test").table("schema_version").locations("classpath:db/migration").load().migrate();
+        coffeeSalesRollupRepository = new CoffeeSalesRollupRepository(new NamedParameterJdbcTemplate(dataSource), dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void migration_ShouldBackfillExistingOrders_AndStartWatermarkAtMigrationHour() {
+        // Arrange
+        Map<String, Object> expected = new JdbcTemplate(dataSource).queryForMap("""
+                SELECT SUM(oi.quantity) AS quantity, SUM(oi.quantity * oi.price) AS revenue
+                FROM orders o
+                INNER JOIN order_items oi ON oi.order_id = o.id
+                WHERE o.status <> 'CANCELLED'
+                """);
+
+        // Act
+        List<SalesBucket> sales = coffeeSalesRollupRepository.findSales(FROM, TO, TimeBucket.DAY);
+        LocalDateTime watermark = coffeeSalesRollupRepository.lockWatermark();
+
+        // Assertions
+        assertThat(sales).isNotEmpty();
+        assertEquals(((Number) expected.get("quantity")).longValue(), sales.stream().mapToLong(SalesBucket::quantity).sum());
+        assertEquals(0, ((BigDecimal) expected.get("revenue")).compareTo(sales.stream().map(SalesBucket::revenue).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        assertThat(watermark).isBetween(migratedAt.truncatedTo(ChronoUnit.HOURS), LocalDateTime.now());
+    }
+}
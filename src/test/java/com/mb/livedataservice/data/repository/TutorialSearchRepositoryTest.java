@@ -0,0 +1,87 @@
+package com.mb.livedataservice.data.repository;
+
+import com.mb.livedataservice.data.model.Tutorial;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the LIKE fallback of {@link TutorialSearchRepository} against an in-memory H2 database migrated by Flyway,
+ * the datasource the service starts with when no PostgreSQL is configured.
+ */
+class TutorialSearchRepositoryTest {
+
+    private static SingleConnectionDataSource dataSource;
+    private static TutorialSearchRepository tutorialSearchRepository;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:tutorial_search;MODE=PostgreSQL;DATABASE_TO_UPPER=FALSE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS mb_test\\;SET SCHEMA mb_test", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).schemas("mb_test").table("schema_version").locations("classpath:db/migration").load().migrate();
+
+        new JdbcTemplate(dataSource).update("""
+                INSERT INTO tutorials(id, deleted, created_date_time, modified_date_time, title, description, published) VALUES
+                (1, false, now(), now(), 'Boot basics', 'Getting started with Spring', true),
+                (2, false, now(), now(), 'Spring Boot testing', 'Slices and mocks', true),
+                (3, false, now(), now(), 'Kafka streams', 'Spring Boot and Kafka', false),
+                (4, true, now(), now(), 'Spring Boot deleted', 'Removed tutorial', true),
+                (5, false, now(), now(), 'Spring Data', 'Repositories', true),
+                (6, false, now(), now(), '100% C_Sharp', 'Percent and underscore', true)
+                """);
+        tutorialSearchRepository = new TutorialSearchRepository(new NamedParameterJdbcTemplate(dataSource), dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void search_ShouldRequireEveryTerm_InAnyOrder_AndRankTitleMatchesFirst() {
+        // Act
+        List<Tutorial> result = tutorialSearchRepository.search("boot SPRING", PageRequest.of(0, 10));
+
+        // Assertions
+        assertEquals(List.of(2L, 1L, 3L), ids(result));
+    }
+
+    @Test
+    void search_ShouldTreatSpecialCharactersAsSeparators() {
+        // Act
+        List<Tutorial> result = tutorialSearchRepository.search("spring-boot!", PageRequest.of(0, 10));
+        List<Tutorial> wildcards = tutorialSearchRepository.search("%_", PageRequest.of(0, 10));
+        List<Tutorial> quoted = tutorialSearchRepository.search("'c_sharp'; --", PageRequest.of(0, 10));
+
+        // Assertions
+        assertEquals(List.of(2L, 1L, 3L), ids(result));
+        assertTrue(wildcards.isEmpty());
+        assertEquals(List.of(6L), ids(quoted));
+    }
+
+    @Test
+    void search_ShouldReturnRequestedPage() {
+        // Act
+        List<Tutorial> firstPage = tutorialSearchRepository.search("spring", PageRequest.of(0, 2));
+        List<Tutorial> secondPage = tutorialSearchRepository.search("spring", PageRequest.of(1, 2));
+        List<Tutorial> emptyPage = tutorialSearchRepository.search("spring", PageRequest.of(2, 2));
+
+        // Assertions
+        assertEquals(List.of(2L, 5L), ids(firstPage));
+        assertEquals(List.of(1L, 3L), ids(secondPage));
+        assertTrue(emptyPage.isEmpty());
+    }
+
+    private static List<Long> ids(List<Tutorial> tutorials) {
+        return tutorials.stream().map(Tutorial::getId).toList();
+    }
+}
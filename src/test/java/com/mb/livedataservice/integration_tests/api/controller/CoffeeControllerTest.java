@@ -2,16 +2,20 @@ package com.mb.livedataservice.integration_tests.api.controller;
 
 import com.mb.livedataservice.api.controller.CoffeeController;
 import com.mb.livedataservice.data.model.Coffee;
-import com.mb.livedataservice.data.repository.CoffeeRepository;
+import com.mb.livedataservice.data.model.CoffeeCatalogSnapshot;
 import com.mb.livedataservice.enums.Size;
+import com.mb.livedataservice.service.CoffeeCatalogService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,7 +29,7 @@ class CoffeeControllerTest {
     private MockMvcTester mockMvcTester;
 
     @MockitoBean
-    private CoffeeRepository coffeeRepository;
+    private CoffeeCatalogService coffeeCatalogService;
 
     @Test
     void shouldReturnAllCoffees() {
@@ -33,7 +37,7 @@ class CoffeeControllerTest {
                 new Coffee(1L, "Espresso", "Rich espresso", new BigDecimal("2.50"), Size.SMALL),
                 new Coffee(2L, "Latte", "Creamy latte", new BigDecimal("4.50"), Size.MEDIUM)
         );
-        when(coffeeRepository.findAll()).thenReturn(coffees);
+        mockSnapshot(coffees);
 
         assertThat(mockMvcTester.get().uri("/api/coffee"))
                 .hasStatusOk()
@@ -46,9 +50,10 @@ class CoffeeControllerTest {
     @Test
     void shouldSearchCoffeesByName() {
         var coffees = List.of(
-                new Coffee(1L, "Vanilla Latte", "Vanilla flavored", new BigDecimal("5.00"), Size.LARGE)
+                new Coffee(1L, "Vanilla Latte", "Vanilla flavored", new BigDecimal("5.00"), Size.LARGE),
+                new Coffee(2L, "Espresso", "Rich espresso", new BigDecimal("2.50"), Size.SMALL)
         );
-        when(coffeeRepository.findByNameContainingIgnoreCase("latte")).thenReturn(coffees);
+        mockSnapshot(coffees);
 
         assertThat(mockMvcTester.get().uri("/api/coffee/search?pattern=latte"))
                 .hasStatusOk()
@@ -60,9 +65,10 @@ class CoffeeControllerTest {
     @Test
     void shouldFilterCoffeesBySizeAndPrice() {
         var coffees = List.of(
-                new Coffee(1L, "Large Mocha", "Chocolate mocha", new BigDecimal("6.25"), Size.LARGE)
+                new Coffee(1L, "Large Mocha", "Chocolate mocha", new BigDecimal("6.25"), Size.LARGE),
+                new Coffee(2L, "Mocha", "Chocolate mocha", new BigDecimal("5.25"), Size.MEDIUM)
         );
-        when(coffeeRepository.findBySizeAndPriceGreaterThan(Size.LARGE, new BigDecimal("5.00"))).thenReturn(coffees);
+        mockSnapshot(coffees);
 
         assertThat(mockMvcTester.get().uri("/api/coffee/filter?size=LARGE&minPrice=5.00"))
                 .hasStatusOk()
@@ -76,7 +82,7 @@ class CoffeeControllerTest {
         var coffees = List.of(
                 new Coffee(1L, "Cold Brew", "Smooth cold brew", new BigDecimal("5.00"), Size.LARGE)
         );
-        when(coffeeRepository.findAffordableCoffeesBySize("LARGE", new BigDecimal("6.00"))).thenReturn(coffees);
+        mockSnapshot(coffees);
 
         assertThat(mockMvcTester.get().uri("/api/coffee/affordable?size=LARGE&maxPrice=6.00"))
                 .hasStatusOk()
@@ -85,4 +91,21 @@ class CoffeeControllerTest {
                 .asArray()
                 .isNotEmpty();
     }
+
+    @Test
+    void shouldReturnNotModified_WhenETagMatches() {
+        var coffees = List.of(
+                new Coffee(1L, "Espresso", "Rich espresso", new BigDecimal("2.50"), Size.SMALL)
+        );
+        CoffeeCatalogSnapshot snapshot = mockSnapshot(coffees);
+
+        assertThat(mockMvcTester.get().uri("/api/coffee").header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag()))
+                .hasStatus(HttpStatus.NOT_MODIFIED);
+    }
+
+    private CoffeeCatalogSnapshot mockSnapshot(List<Coffee> coffees) {
+        CoffeeCatalogSnapshot snapshot = new CoffeeCatalogSnapshot(1, coffees, Instant.parse("2026-01-01T10:00:00Z"));
+        when(coffeeCatalogService.getSnapshot()).thenReturn(snapshot);
+        return snapshot;
+    }
 }
@@ -1,11 +1,18 @@
 package com.mb.livedataservice.integration_tests.api.controller;
 
 import com.mb.livedataservice.api.controller.OrderController;
+import com.mb.livedataservice.api.request.ApiOrderStatusTransitionRequest;
 import com.mb.livedataservice.data.model.Order;
 import com.mb.livedataservice.data.model.OrderItem;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.data.repository.OrderAggregateRepository;
 import com.mb.livedataservice.data.repository.OrderItemRepository;
 import com.mb.livedataservice.data.repository.OrderRepository;
 import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.Size;
+import com.mb.livedataservice.service.OrderExportService;
+import com.mb.livedataservice.service.OrderStatusService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +54,15 @@ class OrderControllerTest {
     @MockitoBean
     private OrderItemRepository orderItemRepository;
 
+    @MockitoBean
+    private OrderAggregateRepository orderAggregateRepository;
+
+    @MockitoBean
+    private OrderExportService orderExportService;
+
+    @MockitoBean
+    private OrderStatusService orderStatusService;
+
     @BeforeEach
     void setUp() {
         restTestClient = RestTestClient.bindTo(mockMvc).build();
@@ -96,10 +112,24 @@ class OrderControllerTest {
                 .jsonPath("$.length()").isEqualTo(1);
     }
 
+    @Test
+    void shouldTransitionOrderStatus() {
+        var transition = new OrderStatusTransition(1L, OrderStatus.PENDING, OrderStatus.PREPARING);
+        when(orderStatusService.transition(transition)).thenReturn(transition);
+
+        restTestClient.patch().uri("/api/orders/1/status")
+                .body(new ApiOrderStatusTransitionRequest(OrderStatus.PENDING, OrderStatus.PREPARING))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderId").isEqualTo(1)
+                .jsonPath("$.to").isEqualTo("PREPARING");
+    }
+
     @Test
     void shouldReturnOrderItems() {
         var items = List.of(
-                new OrderItem(1L, 1L, 1L, 2, new BigDecimal("4.50"))
+                new OrderItem(1L, 1L, LocalDateTime.now(), 1L, 2, new BigDecimal("4.50"))
         );
         when(orderItemRepository.findOrderItemsWithCoffeeDetails(1L)).thenReturn(items);
 
@@ -109,4 +139,37 @@ class OrderControllerTest {
                 .expectBody()
                 .jsonPath("$[0].quantity").isEqualTo(2);
     }
+
+    @Test
+    void shouldReturnOrdersWithItemsAndNextCursor_WhenPageIsFull() {
+        var orderDate = LocalDateTime.of(2026, 1, 1, 10, 0);
+        var item = new OrderWithItems.Item(1L, 4L, "Cappuccino", Size.MEDIUM, 1, new BigDecimal("4.50"));
+        var orders = List.of(
+                new OrderWithItems(new Order(2L, 1L, "Alice", orderDate.plusHours(1), new BigDecimal("4.50"), OrderStatus.READY), List.of(item)),
+                new OrderWithItems(new Order(1L, 2L, "Bob", orderDate, new BigDecimal("4.50"), OrderStatus.PENDING), List.of(item))
+        );
+        when(orderAggregateRepository.findOrdersWithItems(null, 0L, 2)).thenReturn(orders);
+
+        restTestClient.get().uri("/api/orders/with-items?size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].items[0].coffeeName").isEqualTo("Cappuccino")
+                .jsonPath("$.nextOrderDate").isEqualTo("2026-01-01T10:00:00")
+                .jsonPath("$.nextId").isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnOrdersWithItemsWithoutNextCursor_WhenPageIsLast() {
+        var afterOrderDate = LocalDateTime.of(2026, 1, 1, 10, 0);
+        when(orderAggregateRepository.findOrdersWithItems(afterOrderDate, 1L, 20)).thenReturn(List.of());
+
+        restTestClient.get().uri("/api/orders/with-items?afterOrderDate=2026-01-01T10:00:00&afterId=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content").isEmpty()
+                .jsonPath("$.nextId").doesNotExist();
+    }
 }
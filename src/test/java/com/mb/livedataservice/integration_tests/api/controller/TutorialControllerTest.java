@@ -2,6 +2,7 @@ package com.mb.livedataservice.integration_tests.api.controller;
 
 import com.mb.livedataservice.api.request.ApiTutorialRequest;
 import com.mb.livedataservice.api.request.ApiTutorialUpdateRequest;
+import com.mb.livedataservice.api.response.ApiBulkDeleteResponse;
 import com.mb.livedataservice.api.response.ApiTutorialResponse;
 import com.mb.livedataservice.base.BaseUnitTest;
 import com.mb.livedataservice.client.jsonplaceholder.DeclarativeJSONPlaceholderRestClient;
@@ -129,9 +130,11 @@ class TutorialControllerTest extends BaseUnitTest {
     @Test
     @Order(Integer.MAX_VALUE)
     void shouldDeleteAllTutorials() {
-        ResponseEntity<HttpStatus> response = testRestTemplate.exchange("/api/tutorials", HttpMethod.DELETE, null, HttpStatus.class);
+        ResponseEntity<ApiBulkDeleteResponse> response = testRestTemplate.exchange("/api/tutorials", HttpMethod.DELETE, null, ApiBulkDeleteResponse.class);
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getDeletedCount()).isPositive();
     }
 
     @Test
@@ -7,6 +7,7 @@ import org.springframework.boot.testcontainers.context.ImportTestcontainers;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import static org.mockito.Mockito.mock;
@@ -48,6 +49,7 @@ public class TestcontainersConfiguration {
     }
 
     @Bean
+    @Primary
     public JavaMailSender javaMailSender() {
         return mock(JavaMailSender.class);
     }
@@ -0,0 +1,103 @@
+package com.mb.livedataservice.integration_tests.kafka;
+
+import com.mb.livedataservice.integration_tests.config.TestcontainersConfiguration;
+import com.mb.livedataservice.queue.dto.consumer.Order;
+import com.mb.livedataservice.service.OrderIngestionService;
+import com.mb.livedataservice.util.Topics;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.awaitility.Awaitility;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@DirtiesContext
+@SpringBootTest(
+        classes = {TestcontainersConfiguration.class},
+        properties = {
+                "order-ingestion.retry-initial-interval=100ms",
+                "order-ingestion.retry-max-interval=500ms"
+        }
+)
+class OrderIngestionRetryTest {
+
+    @Autowired
+    private KafkaOperations<@NonNull String, @NonNull Object> kafkaOperations;
+
+    @Autowired
+    private KafkaAdmin kafkaAdmin;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @MockitoBean
+    private OrderIngestionService orderIngestionService;
+
+    @Test
+    void listen_ShouldNotCommitOffsets_UntilIngestSucceeds() throws Exception {
+        // Arrange
+        doThrow(new CannotGetJdbcConnectionException("Database is unavailable")).when(orderIngestionService).ingest(anyList(), anyList());
+        Order order = new Order(UUID.randomUUID(), UUID.randomUUID(), 1);
+
+        // Act
+        kafkaOperations.send(Topics.ORDERS, order.orderId().toString(), order).get();
+
+        // Assertions
+        // more attempts than the shared fixed back off allows, and the batch is still not committed
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(30))
+                .untilAsserted(() -> verify(orderIngestionService, atLeast(5)).ingest(anyList(), anyList()));
+        assertThat(getLag()).isPositive();
+
+        // the database is back, the same batch is written and only then committed
+        doReturn(1).when(orderIngestionService).ingest(anyList(), anyList());
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(15))
+                .pollInterval(Duration.ofMillis(500))
+                .untilAsserted(() -> assertThat(getLag()).isZero());
+    }
+
+    /**
+     * Returns the number of records of the orders topic the orders consumer group has not committed yet.
+     */
+    private long getLag() throws Exception {
+        try (Admin admin = Admin.create(kafkaAdmin.getConfigurationProperties())) {
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata().get();
+            Set<TopicPartition> partitions = admin.describeTopics(Set.of(Topics.ORDERS)).allTopicNames().get().get(Topics.ORDERS).partitions().stream()
+                    .map(partition -> new TopicPartition(Topics.ORDERS, partition.partition()))
+                    .collect(Collectors.toSet());
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> latest = admin.listOffsets(partitions.stream()
+                    .collect(Collectors.toMap(partition -> partition, _ -> OffsetSpec.latest()))).all().get();
+
+            return partitions.stream()
+                    .mapToLong(partition -> {
+                        OffsetAndMetadata offset = committed.get(partition);
+                        return latest.get(partition).offset() - (offset != null ? offset.offset() : 0);
+                    })
+                    .sum();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.mb.livedataservice.integration_tests.queue;
+
+import com.mb.livedataservice.data.model.EmailEvent;
+import com.mb.livedataservice.data.repository.EmailEventRepository;
+import com.mb.livedataservice.enums.EmailStatus;
+import com.mb.livedataservice.integration_tests.config.TestcontainersConfiguration;
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.queue.producer.impl.EmailEventProducer;
+import com.mb.livedataservice.util.Topics;
+import jakarta.mail.internet.MimeMessage;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DirtiesContext
+@SpringBootTest(
+        classes = {TestcontainersConfiguration.class},
+        properties = {
+                "namespace=integration_test",
+                "email.consumer.mode=parallel",
+                "email.retry.backoff-delay=100",
+                "email.event-buffer.flush-interval=100ms"
+        }
+)
+class ParallelEmailEventIntegrationTest {
+
+    private static final String EMAIL_GROUP = "email-group";
+    private static final String EMAIL_DLT = Topics.EMAIL_TOPIC + "-dlt";
+
+    @Autowired
+    private EmailEventProducer emailEventProducer;
+
+    @Autowired
+    private EmailEventRepository emailEventRepository;
+
+    @Autowired
+    private KafkaAdmin kafkaAdmin;
+
+    @MockitoBean
+    private JavaMailSender javaMailSender;
+
+    @Test
+    void produce_ShouldSendEmailAndSaveEvent_WhenValidEventProvided() {
+        // Arrange
+        EmailEventDto eventDto = createValidEventDto();
+        when(javaMailSender.createMimeMessage()).thenReturn(mock(MimeMessage.class));
+
+        // Act
+        emailEventProducer.produce(eventDto);
+
+        // Assertions
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(15))
+                .pollInterval(Duration.ofMillis(500))
+                .untilAsserted(() -> {
+                    verify(javaMailSender, times(1)).send(any(MimeMessage.class));
+
+                    Optional<EmailEvent> savedEvent = emailEventRepository.findById(eventDto.getId());
+                    assertThat(savedEvent).isPresent();
+                    savedEvent.ifPresent(event -> assertThat(event.getStatus()).isEqualTo(EmailStatus.SENT));
+                    assertThat(getLag(Topics.EMAIL_TOPIC)).isZero();
+                });
+    }
+
+    @Test
+    void produce_ShouldRetryProcessDLTAndCommitDLTOffsets_WhenEmailSenderFails() {
+        // Arrange
+        EmailEventDto eventDto = createValidEventDto();
+        when(javaMailSender.createMimeMessage()).thenReturn(mock(MimeMessage.class));
+        doThrow(new MailSendException("Email service unavailable")).when(javaMailSender).send(any(MimeMessage.class));
+
+        // Act
+        emailEventProducer.produce(eventDto);
+
+        // Assertions
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(30))
+                .pollInterval(Duration.ofSeconds(1))
+                .untilAsserted(() -> {
+                    verify(javaMailSender, Mockito.atLeast(5)).send(any(MimeMessage.class));
+
+                    Optional<EmailEvent> savedEvent = emailEventRepository.findById(eventDto.getId());
+                    assertThat(savedEvent).isPresent();
+                    savedEvent.ifPresent(event -> {
+                        assertThat(event.getStatus()).isEqualTo(EmailStatus.FAILED);
+                        assertThat(event.getRetryCount()).isEqualTo(1);
+                    });
+                    // the dead letter record was acknowledged, so its offset is committed
+                    assertThat(getLag(EMAIL_DLT)).isZero();
+                });
+    }
+
+    /**
+     * Returns the number of records of the topic the email consumer group has not committed yet.
+     */
+    private long getLag(String topic) throws Exception {
+        try (Admin admin = Admin.create(kafkaAdmin.getConfigurationProperties())) {
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(EMAIL_GROUP).partitionsToOffsetAndMetadata().get();
+            Set<TopicPartition> partitions = admin.describeTopics(Set.of(topic)).allTopicNames().get().get(topic).partitions().stream()
+                    .map(partition -> new TopicPartition(topic, partition.partition()))
+                    .collect(Collectors.toSet());
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> latest = admin.listOffsets(partitions.stream()
+                    .collect(Collectors.toMap(partition -> partition, _ -> OffsetSpec.latest()))).all().get();
+
+            return partitions.stream()
+                    .mapToLong(partition -> {
+                        OffsetAndMetadata offset = committed.get(partition);
+                        return latest.get(partition).offset() - (offset != null ? offset.offset() : 0);
+                    })
+                    .sum();
+        }
+    }
+
+    private EmailEventDto createValidEventDto() {
+        EmailEventDto eventDto = new EmailEventDto();
+        eventDto.setId(UUID.randomUUID());
+        eventDto.setTo(Set.of("test@example.com"));
+        eventDto.setSubject("Test Subject");
+        eventDto.setBody("Test Body");
+        return eventDto;
+    }
+}
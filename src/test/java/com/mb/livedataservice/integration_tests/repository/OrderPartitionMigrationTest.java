@@ -0,0 +1,158 @@
+package com.mb.livedataservice.integration_tests.repository;
+
+import com.mb.livedataservice.data.repository.OrderPartitionRepository;
+import com.mb.livedataservice.data.repository.ScoreBoardRepository;
+import com.mb.livedataservice.integration_tests.config.TestcontainersConfiguration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Migrates a database holding orders up to the version before the partitioning migration, then runs it, so the row
+ * copy and the order UUID key are checked against pre-existing rows rather than an empty schema.
+ */
+@DataJdbcTest
+@Import(TestcontainersConfiguration.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderPartitionMigrationTest {
+
+    private static final String VERSION_BEFORE_PARTITIONING = "1.0012";
+    private static final LocalDateTime ARCHIVED_ORDER_DATE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private final UUID archivedOrderUuid = UUID.randomUUID();
+    private final UUID currentOrderUuid = UUID.randomUUID();
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private ScoreBoardRepository scoreBoardRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private long orderCountBefore;
+    private long orderItemCountBefore;
+    private long maxOrderIdBefore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        clean();
+        Flyway.configure().configuration(flyway.getConfiguration()).target(VERSION_BEFORE_PARTITIONING).load().migrate();
+
+        long coffeeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM coffee", Long.class);
+        insertOrderWithItem(archivedOrderUuid, ARCHIVED_ORDER_DATE, coffeeId);
+        insertOrderWithItem(currentOrderUuid, LocalDateTime.now().withNano(0), coffeeId);
+
+        orderCountBefore = count("orders");
+        orderItemCountBefore = count("order_items");
+        maxOrderIdBefore = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class);
+
+        flyway.migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clean();
+        flyway.migrate();
+    }
+
+    @Test
+    void migrate_ShouldMovePreExistingRowsIntoMonthlyPartitions() {
+        // Assertions
+        assertThat(count("orders")).isEqualTo(orderCountBefore);
+        assertThat(count("order_items")).isEqualTo(orderItemCountBefore);
+        assertThat(count("orders_default")).isZero();
+        assertThat(count("order_items_default")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT c.relname FROM orders o INNER JOIN pg_class c ON c.oid = o.tableoid WHERE o.order_uuid = ?",
+                String.class, archivedOrderUuid)).isEqualTo("orders_p202401");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_uuid_key WHERE order_uuid IN (?, ?)", Long.class, archivedOrderUuid, currentOrderUuid)).isEqualTo(2);
+
+        // identities continue after the copied ids
+        assertThat(insertOrder(UUID.randomUUID(), LocalDateTime.now())).isGreaterThan(maxOrderIdBefore);
+    }
+
+    @Test
+    void insert_ShouldRejectOrderUuid_WhenOrderDateDiffers() {
+        // Act
+        // Assertions
+        assertThatThrownBy(() -> insertOrder(archivedOrderUuid, LocalDateTime.now())).isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> insertOrder(currentOrderUuid, ARCHIVED_ORDER_DATE)).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void update_ShouldKeepOrderUuidKey_WhenOrderMovesToAnotherPartition() {
+        // Arrange
+        UUID movedOrderUuid = UUID.randomUUID();
+        insertOrder(movedOrderUuid, LocalDateTime.now());
+
+        // Act
+        jdbcTemplate.update("UPDATE orders SET order_date = ? WHERE order_uuid = ?", ARCHIVED_ORDER_DATE.plusDays(1), movedOrderUuid);
+
+        // Assertions
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_uuid_key WHERE order_uuid = ?", Long.class, movedOrderUuid)).isEqualTo(1);
+        assertThatThrownBy(() -> insertOrder(movedOrderUuid, LocalDateTime.now())).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void archivePartitions_ShouldReleaseOrderUuidsOfArchivedOrdersOnly() {
+        // Arrange
+        OrderPartitionRepository orderPartitionRepository = new OrderPartitionRepository(new NamedParameterJdbcTemplate(dataSource), dataSource);
+
+        // Act
+        var archivedPartitions = orderPartitionRepository.archivePartitions(LocalDate.of(2024, 2, 1));
+
+        // Assertions
+        assertThat(archivedPartitions).contains("orders_p202401");
+        assertThat(insertOrder(archivedOrderUuid, LocalDateTime.now())).isPositive();
+        assertThatThrownBy(() -> insertOrder(currentOrderUuid, LocalDateTime.now())).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    /**
+     * Flyway only cleans {@code mb_test}; the archive schema holds the partitions a previous test archived.
+     */
+    private void clean() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS mb_archive CASCADE");
+        flyway.clean();
+    }
+
+    private void insertOrderWithItem(UUID orderUuid, LocalDateTime orderDate, long coffeeId) {
+        long orderId = insertOrder(orderUuid, orderDate);
+        jdbcTemplate.update("INSERT INTO order_items (order_id, order_date, coffee_id, quantity, price) VALUES (?, ?, ?, 1, 4.50)", orderId, orderDate, coffeeId);
+    }
+
+    private long insertOrder(UUID orderUuid, LocalDateTime orderDate) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO orders (customer_name, order_date, total_amount, status, order_uuid)
+                VALUES ('Migration Test', ?, 4.50, 'PENDING', ?)
+                RETURNING id
+                """, Long.class, orderDate, orderUuid);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
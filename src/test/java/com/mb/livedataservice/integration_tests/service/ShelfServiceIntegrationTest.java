@@ -1,18 +1,27 @@
 package com.mb.livedataservice.integration_tests.service;
 
+import com.mb.livedataservice.config.ShelfProperties;
+import com.mb.livedataservice.config.ShelfStateCacheConfig;
 import com.mb.livedataservice.data.model.ShelfEntry;
+import com.mb.livedataservice.data.model.ShelfState;
+import com.mb.livedataservice.data.repository.OutboxEventRepository;
 import com.mb.livedataservice.data.repository.ShelfRepository;
+import com.mb.livedataservice.data.repository.ShelfStateRepository;
 import com.mb.livedataservice.integration_tests.config.TestcontainersConfiguration;
+import com.mb.livedataservice.service.impl.OutboxEventServiceImpl;
 import com.mb.livedataservice.service.impl.ShelfServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.redis.autoconfigure.DataRedisAutoConfiguration;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -25,6 +34,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -32,13 +42,15 @@ import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest(showSql = false)
 @TestPropertySource(properties = {
         "spring.jpa.show-sql=false",
         "spring.main.banner-mode=off"
 })
-@Import({ShelfServiceImpl.class, TestcontainersConfiguration.class})
+@Import({ShelfServiceImpl.class, OutboxEventServiceImpl.class, OutboxEventRepository.class, ShelfStateRepository.class, ShelfProperties.class, ShelfStateCacheConfig.class, TestcontainersConfiguration.class})
+@ImportAutoConfiguration(DataRedisAutoConfiguration.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ContextConfiguration(classes = ShelfServiceIntegrationTest.TestConfig.class)
 class ShelfServiceIntegrationTest {
@@ -55,9 +67,13 @@ class ShelfServiceIntegrationTest {
     @Autowired
     private PlatformTransactionManager transactionManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         shelfRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM shelf_state");
     }
 
     // =========================================================================
@@ -573,6 +589,58 @@ class ShelfServiceIntegrationTest {
         assertThat(all.getFirst().getStartDate()).isEqualTo(today);
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void insertOrUpdateAllOnConflictAsAtomic_ShouldUpdateLatestRecordsAndInsertMissingOnes() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        transactionTemplate.execute(_ -> {
+            ShelfEntry older = new ShelfEntry();
+            older.setProductId(739750L);
+            older.setStartDate(LocalDate.of(2025, 1, 1));
+            older.setActive(false);
+            ShelfEntry newer = new ShelfEntry();
+            newer.setProductId(739750L);
+            newer.setStartDate(LocalDate.of(2026, 1, 1));
+            newer.setActive(false);
+            shelfRepository.saveAll(List.of(older, newer));
+            return null;
+        });
+
+        // Act
+        long upsertedCount = shelfService.insertOrUpdateAllOnConflictAsAtomic(Map.of(739750L, true, 739751L, true, 739752L, false));
+
+        // Assertions
+        assertThat(upsertedCount).isEqualTo(3);
+        assertThat(shelfRepository.findAllByProductIdIn(java.util.Set.of(739750L, 739751L, 739752L)))
+                .extracting(ShelfEntry::getProductId, ShelfEntry::getStartDate, ShelfEntry::isActive)
+                .containsExactlyInAnyOrder(
+                        tuple(739750L, LocalDate.of(2025, 1, 1), false),
+                        tuple(739750L, LocalDate.of(2026, 1, 1), true),
+                        tuple(739751L, today, true),
+                        tuple(739752L, today, false));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findCurrentStates_ShouldReturnLatestStates_AfterEachKindOfWrite() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+
+        // Act
+        shelfService.saveOrUpdate(739760L, true);
+        shelfService.insertOrUpdateOnConflictAsAtomic(739761L, true);
+        shelfService.insertOrUpdateAllOnConflictAsAtomic(Map.of(739760L, false, 739762L, true));
+
+        // Assertions
+        assertThat(shelfService.findCurrentStates(List.of(739760L, 739761L, 739762L, 739763L)))
+                .containsOnly(
+                        Map.entry(739760L, new ShelfState(739760L, today, false)),
+                        Map.entry(739761L, new ShelfState(739761L, today, true)),
+                        Map.entry(739762L, new ShelfState(739762L, today, true)));
+        assertThat(shelfService.checkCurrentStates()).isZero();
+    }
+
     // =========================================================================
     // Helper
     // =========================================================================
@@ -87,6 +87,6 @@ class TutorialMapperTest extends BaseUnitTest {
         // assertion
         assertEquals(apiTutorialFilter.getTitle(), result.getTitle());
         assertEquals(apiTutorialFilter.getDescription(), result.getDescription());
-        assertEquals(apiTutorialFilter.isPublished(), result.isPublished());
+        assertEquals(apiTutorialFilter.getPublished(), result.getPublished());
     }
 }
@@ -0,0 +1,154 @@
+package com.mb.livedataservice.queue.consumer;
+
+import com.mb.livedataservice.config.EmailConsumerProperties;
+import com.mb.livedataservice.data.model.EmailEvent;
+import com.mb.livedataservice.enums.EmailStatus;
+import com.mb.livedataservice.mapper.EmailEventDtoMapper;
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailDeliveryDeduplicator;
+import com.mb.livedataservice.service.EmailEventRecorder;
+import com.mb.livedataservice.service.EmailRateLimiter;
+import com.mb.livedataservice.service.EmailSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.mail.MailSendException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelEmailEventConsumerTest {
+
+    private final EmailSender emailSender = mock(EmailSender.class);
+    private final EmailRateLimiter emailRateLimiter = mock(EmailRateLimiter.class);
+    private final EmailDeliveryDeduplicator emailDeliveryDeduplicator = mock(EmailDeliveryDeduplicator.class);
+    private final EmailEventRecorder emailEventRecorder = mock(EmailEventRecorder.class);
+    private final EmailEventDtoMapper emailEventDtoMapper = mock(EmailEventDtoMapper.class);
+
+    private ParallelEmailEventConsumer parallelEmailEventConsumer;
+
+    @BeforeEach
+    void init() {
+        EmailConsumerProperties emailConsumerProperties = new EmailConsumerProperties();
+        emailConsumerProperties.setConcurrency(1);
+        when(emailDeliveryDeduplicator.deliverOnce(any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        parallelEmailEventConsumer = new ParallelEmailEventConsumer(emailSender, emailRateLimiter, emailDeliveryDeduplicator, emailEventRecorder, emailEventDtoMapper, emailConsumerProperties);
+    }
+
+    @AfterEach
+    void destroy() {
+        parallelEmailEventConsumer.shutdown();
+    }
+
+    @Test
+    void listen_ShouldSendAndRecordEmail_BeforeFutureCompletes() throws Exception {
+        // Arrange
+        EmailEventDto eventDto = new EmailEventDto();
+        EmailEvent emailEvent = new EmailEvent();
+        when(emailEventDtoMapper.toEntity(eventDto)).thenReturn(emailEvent);
+
+        // Act
+        parallelEmailEventConsumer.listen(eventDto).get(5, TimeUnit.SECONDS);
+
+        // Assertions
+        verify(emailRateLimiter).acquire(eventDto);
+        verify(emailSender).send(eventDto);
+        verify(emailEventRecorder).record(emailEvent);
+    }
+
+    @Test
+    void listen_ShouldNotRecordEmail_WhenSuppressedAsDuplicate() throws Exception {
+        // Arrange
+        EmailEventDto eventDto = new EmailEventDto();
+        doReturn(false).when(emailDeliveryDeduplicator).deliverOnce(eq(eventDto.getId()), any());
+
+        // Act
+        parallelEmailEventConsumer.listen(eventDto).get(5, TimeUnit.SECONDS);
+
+        // Assertions
+        verify(emailEventRecorder, never()).record(any());
+    }
+
+    @Test
+    void listen_ShouldCompleteExceptionally_AndReleaseSlot_WhenSendFails() throws Exception {
+        // Arrange
+        EmailEventDto failing = new EmailEventDto();
+        doThrow(new MailSendException("Connection refused")).when(emailSender).send(failing);
+
+        // Act
+        CompletableFuture<Void> future = parallelEmailEventConsumer.listen(failing);
+
+        // Assertions
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(MailSendException.class, exception.getCause());
+        verify(emailEventRecorder, never()).record(any());
+        parallelEmailEventConsumer.listen(new EmailEventDto()).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void listen_ShouldWaitForSlot_WhenConcurrencyIsReached() throws Exception {
+        // Arrange
+        EmailEventDto first = new EmailEventDto();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch finishSending = new CountDownLatch(1);
+        doAnswer(_ -> {
+            sending.countDown();
+            finishSending.await();
+            return null;
+        }).when(emailSender).send(first);
+        CompletableFuture<Void> firstFuture = parallelEmailEventConsumer.listen(first);
+        sending.await();
+
+        // Act
+        CompletableFuture<CompletableFuture<Void>> secondListen = CompletableFuture.supplyAsync(() -> parallelEmailEventConsumer.listen(new EmailEventDto()));
+
+        // Assertions
+        assertThrows(TimeoutException.class, () -> secondListen.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(firstFuture.isDone());
+        finishSending.countDown();
+        secondListen.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        assertTrue(firstFuture.isDone());
+    }
+
+    @Test
+    void listenDLT_ShouldRecordFailedEmail_AndAcknowledgeRecord() {
+        // Arrange
+        EmailEventDto eventDto = new EmailEventDto();
+        EmailEvent emailEvent = new EmailEvent();
+        when(emailEventDtoMapper.toEntity(eventDto)).thenReturn(emailEvent);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // Act
+        parallelEmailEventConsumer.listenDLT(eventDto, "email-topic-dlt", 0L, acknowledgment);
+
+        // Assertions
+        assertEquals(EmailStatus.FAILED, emailEvent.getStatus());
+        InOrder inOrder = inOrder(emailEventRecorder, acknowledgment);
+        inOrder.verify(emailEventRecorder).record(emailEvent);
+        inOrder.verify(acknowledgment).acknowledge();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mb.livedataservice.queue.producer;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OutboxEventRelayTest {
+
+    @Test
+    void producerConfig_ShouldKeepSharedKafkaSettings_AndUseStringSerializers() {
+        // Arrange
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.getProducer().setBootstrapServers(List.of("broker:9093"));
+        kafkaProperties.getProducer().setValueSerializer(JacksonJsonSerializer.class);
+        kafkaProperties.getSecurity().setProtocol("SASL_SSL");
+        kafkaProperties.getProperties().put("sasl.mechanism", "SCRAM-SHA-512");
+        kafkaProperties.setClientId("live-data-service");
+
+        // Act
+        Map<String, Object> config = OutboxEventRelay.producerConfig(kafkaProperties);
+
+        // Assertions
+        assertEquals(List.of("broker:9093"), config.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+        assertEquals("SASL_SSL", config.get(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG));
+        assertEquals("SCRAM-SHA-512", config.get("sasl.mechanism"));
+        assertEquals("live-data-service", config.get(ProducerConfig.CLIENT_ID_CONFIG));
+        assertEquals(StringSerializer.class, config.get(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG));
+        assertEquals(StringSerializer.class, config.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG));
+    }
+}
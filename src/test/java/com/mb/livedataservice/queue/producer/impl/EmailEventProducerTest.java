@@ -0,0 +1,92 @@
+package com.mb.livedataservice.queue.producer.impl;
+
+import com.mb.livedataservice.config.EmailAttachmentStoreProperties;
+import com.mb.livedataservice.queue.dto.EmailAttachment;
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailAttachmentStore;
+import com.mb.livedataservice.util.Topics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailEventProducerTest {
+
+    @Mock
+    private KafkaTemplate<String, EmailEventDto> kafkaTemplate;
+
+    @Mock
+    private EmailAttachmentStore emailAttachmentStore;
+
+    @Spy
+    private EmailAttachmentStoreProperties emailAttachmentStoreProperties = getEmailAttachmentStoreProperties();
+
+    @InjectMocks
+    private EmailEventProducer emailEventProducer;
+
+    @Test
+    void produce_ShouldSendLargeAttachmentsByReference_AndKeepSmallOnesInline() {
+        // Arrange
+        byte[] smallContent = new byte[4];
+        byte[] largeContent = new byte[5];
+        EmailAttachment small = EmailAttachment.builder().fileName("small.txt").content(smallContent).build();
+        EmailAttachment large = EmailAttachment.builder().fileName("large.pdf").content(largeContent).build();
+        EmailEventDto emailEventDto = createEmailEventDto(List.of(small, large));
+        when(emailAttachmentStore.store(largeContent)).thenReturn("a".repeat(64));
+
+        // Act
+        emailEventProducer.produce(emailEventDto);
+
+        // Assertions
+        assertArrayEquals(smallContent, small.getContent());
+        assertNull(small.getContentRef());
+        assertNull(large.getContent());
+        assertEquals("a".repeat(64), large.getContentRef());
+        verify(kafkaTemplate).send(Topics.EMAIL_TOPIC, emailEventDto);
+    }
+
+    @Test
+    void produce_ShouldNotStoreAttachments_WhenEmailIsInvalid() {
+        // Arrange
+        EmailEventDto emailEventDto = createEmailEventDto(List.of(EmailAttachment.builder().fileName("large.pdf").content(new byte[5]).build()));
+        emailEventDto.setTo(Set.of());
+
+        // Act
+        emailEventProducer.produce(emailEventDto);
+
+        // Assertions
+        verify(emailAttachmentStore, never()).store(any());
+        verify(kafkaTemplate, never()).send(any(), any());
+    }
+
+    private static EmailEventDto createEmailEventDto(List<EmailAttachment> attachments) {
+        EmailEventDto emailEventDto = new EmailEventDto();
+        emailEventDto.setTo(Set.of("to@test.com"));
+        emailEventDto.setSubject("Subject");
+        emailEventDto.setBody("Body");
+        emailEventDto.setAttachments(attachments);
+        return emailEventDto;
+    }
+
+    private static EmailAttachmentStoreProperties getEmailAttachmentStoreProperties() {
+        EmailAttachmentStoreProperties emailAttachmentStoreProperties = new EmailAttachmentStoreProperties();
+        emailAttachmentStoreProperties.setInlineThreshold(DataSize.ofBytes(4));
+        return emailAttachmentStoreProperties;
+    }
+}
@@ -1,13 +1,18 @@
 package com.mb.livedataservice.service;
 
+import com.mb.livedataservice.config.EmailTemplateCacheProperties;
+import com.mb.livedataservice.data.model.EmailTemplate;
 import com.mb.livedataservice.service.impl.ThymeleafTemplateServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -17,9 +22,12 @@ class ThymeleafTemplateServiceTest {
 
     private ThymeleafTemplateService thymeleafTemplateService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        thymeleafTemplateService = new ThymeleafTemplateServiceImpl();
+        meterRegistry = new SimpleMeterRegistry();
+        thymeleafTemplateService = new ThymeleafTemplateServiceImpl(new EmailTemplateCacheProperties(), meterRegistry);
     }
 
     @Test
@@ -217,4 +225,64 @@ class ThymeleafTemplateServiceTest {
         assertTrue(result.contains("background-color: #ffffff"));
         assertTrue(result.contains("background-color: #fafafa"));
     }
+
+    @Test
+    void processBody_ShouldCompileOnce_WhenTemplateVersionIsUnchanged() {
+        // Arrange
+        EmailTemplate emailTemplate = createEmailTemplate("<ul><li th:each=\"item : ${items}\" th:text=\"${item}\">Item</li></ul>");
+
+        // Act
+        String first = thymeleafTemplateService.processBody(emailTemplate, Map.of("items", List.of("a", "b")));
+        String second = thymeleafTemplateService.processBody(emailTemplate, Map.of("items", List.of("c")));
+
+        // Assertions
+        assertEquals("<ul><li>a</li><li>b</li></ul>", first);
+        assertEquals("<ul><li>c</li></ul>", second);
+        assertEquals(1, parseCount("body"));
+        assertEquals(2, meterRegistry.get("email.template.render").tag("part", "body").timer().count());
+    }
+
+    @Test
+    void processSubject_ShouldCompileAgain_WhenTemplateIsUpdated() {
+        // Arrange
+        EmailTemplate emailTemplate = createEmailTemplate("Body");
+        thymeleafTemplateService.processSubject(emailTemplate, Map.of("name", "John"));
+        emailTemplate.setSubject("Hi [[${name}]]");
+        emailTemplate.setUpdatedAt(emailTemplate.getUpdatedAt().plusSeconds(1));
+
+        // Act
+        String subject = thymeleafTemplateService.processSubject(emailTemplate, Map.of("name", "John"));
+
+        // Assertions
+        assertEquals("Hi John", subject);
+        assertEquals(2, parseCount("subject"));
+    }
+
+    @Test
+    void evictTemplate_ShouldCompileAgain_WhenTemplateIsEvicted() {
+        // Arrange
+        EmailTemplate emailTemplate = createEmailTemplate("Body");
+        thymeleafTemplateService.processSubject(emailTemplate, Map.of("name", "John"));
+
+        // Act
+        thymeleafTemplateService.evictTemplate("WELCOME_EMAIL");
+        String subject = thymeleafTemplateService.processSubject(emailTemplate, Map.of("name", "Jane"));
+
+        // Assertions
+        assertEquals("Welcome Jane!", subject);
+        assertEquals(2, parseCount("subject"));
+    }
+
+    private long parseCount(String part) {
+        return meterRegistry.get("email.template.parse").tag("part", part).timer().count();
+    }
+
+    private static EmailTemplate createEmailTemplate(String body) {
+        EmailTemplate emailTemplate = new EmailTemplate();
+        emailTemplate.setCode("WELCOME_EMAIL");
+        emailTemplate.setSubject("Welcome [[${name}]]!");
+        emailTemplate.setBody(body);
+        emailTemplate.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+        return emailTemplate;
+    }
 }
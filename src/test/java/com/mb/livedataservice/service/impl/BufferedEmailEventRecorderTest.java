@@ -0,0 +1,151 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailEventBufferProperties;
+import com.mb.livedataservice.data.model.EmailEvent;
+import com.mb.livedataservice.data.repository.EmailEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedEmailEventRecorderTest {
+
+    @Mock
+    private EmailEventRepository emailEventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BufferedEmailEventRecorder bufferedEmailEventRecorder;
+
+    @BeforeEach
+    void init() {
+        EmailEventBufferProperties emailEventBufferProperties = new EmailEventBufferProperties();
+        emailEventBufferProperties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        bufferedEmailEventRecorder = new BufferedEmailEventRecorder(emailEventRepository, emailEventBufferProperties, transactionTemplate, meterRegistry);
+    }
+
+    @Test
+    void record_ShouldInsertBatch_WhenBatchSizeIsReached() {
+        // Arrange
+        mockTransactionTemplate();
+        EmailEvent first = createEmailEvent();
+        EmailEvent second = createEmailEvent();
+        bufferedEmailEventRecorder.record(first);
+        verify(emailEventRepository, never()).insertAll(anyList());
+
+        // Act
+        bufferedEmailEventRecorder.record(second);
+
+        // Assertions
+        verify(emailEventRepository).insertAll(List.of(first, second));
+        assertEquals(0, bufferDepth());
+        assertEquals(1, meterRegistry.get("email.event.flush").timer().count());
+    }
+
+    @Test
+    void flush_ShouldInsertEventsBelowBatchSize() {
+        // Arrange
+        mockTransactionTemplate();
+        EmailEvent first = createEmailEvent();
+        EmailEvent second = createEmailEvent();
+        EmailEvent third = createEmailEvent();
+        bufferedEmailEventRecorder.record(first);
+        bufferedEmailEventRecorder.record(second);
+        bufferedEmailEventRecorder.record(third);
+
+        // Act
+        int flushedCount = bufferedEmailEventRecorder.flush();
+
+        // Assertions
+        assertEquals(1, flushedCount);
+        verify(emailEventRepository).insertAll(List.of(first, second));
+        verify(emailEventRepository).insertAll(List.of(third));
+        assertEquals(0, bufferDepth());
+    }
+
+    @Test
+    void flush_ShouldInsertOneByOne_WhenBatchIsRejectedByConstraint() {
+        // Arrange
+        mockTransactionTemplate();
+        EmailEvent valid = createEmailEvent();
+        EmailEvent invalid = createEmailEvent();
+        doThrow(new DataIntegrityViolationException("value too long")).when(emailEventRepository).insertAll(List.of(valid, invalid));
+        doThrow(new DataIntegrityViolationException("value too long")).when(emailEventRepository).insertAll(List.of(invalid));
+
+        // Act
+        bufferedEmailEventRecorder.record(valid);
+        bufferedEmailEventRecorder.record(invalid);
+
+        // Assertions
+        verify(emailEventRepository).insertAll(List.of(valid));
+        verify(emailEventRepository).insertAll(List.of(invalid));
+        assertEquals(0, bufferDepth());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldKeepEventsBuffered_WhenInsertFails() {
+        // Arrange
+        mockTransactionTemplate();
+        EmailEvent first = createEmailEvent();
+        EmailEvent second = createEmailEvent();
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(emailEventRepository).insertAll(anyList());
+        bufferedEmailEventRecorder.record(first);
+        bufferedEmailEventRecorder.record(second);
+        assertEquals(2, bufferDepth());
+
+        // Act
+        int flushedCount = bufferedEmailEventRecorder.flush();
+
+        // Assertions
+        assertEquals(2, flushedCount);
+        ArgumentCaptor<List<EmailEvent>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(emailEventRepository, times(2)).insertAll(batchCaptor.capture());
+        assertEquals(List.of(first, second), batchCaptor.getAllValues().getLast());
+        assertEquals(0, bufferDepth());
+    }
+
+    private double bufferDepth() {
+        return meterRegistry.get("email.event.buffer.depth").gauge().value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockTransactionTemplate() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static EmailEvent createEmailEvent() {
+        EmailEvent emailEvent = new EmailEvent();
+        emailEvent.setId(UUID.randomUUID());
+        return emailEvent;
+    }
+}
@@ -0,0 +1,86 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailConsumerProperties;
+import com.mb.livedataservice.queue.dto.EmailEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DomainEmailRateLimiterTest {
+
+    private EmailConsumerProperties emailConsumerProperties;
+
+    private DomainEmailRateLimiter domainEmailRateLimiter;
+
+    @BeforeEach
+    void init() {
+        emailConsumerProperties = new EmailConsumerProperties();
+        emailConsumerProperties.setDomainRateLimit(1);
+        emailConsumerProperties.setDomainRateLimitPeriod(Duration.ofHours(1));
+        emailConsumerProperties.setDomainPermitTimeout(Duration.ZERO);
+        domainEmailRateLimiter = new DomainEmailRateLimiter(emailConsumerProperties);
+    }
+
+    @Test
+    void acquire_ShouldFail_WhenDomainLimitIsExhausted() {
+        // Arrange
+        domainEmailRateLimiter.acquire(createEmail(Set.of("first@gmail.com")));
+
+        // Act
+        // Assertions
+        assertThrows(MailSendException.class, () -> domainEmailRateLimiter.acquire(createEmail(Set.of("second@GMAIL.com"))));
+        assertDoesNotThrow(() -> domainEmailRateLimiter.acquire(createEmail(Set.of("first@outlook.com"))));
+    }
+
+    @Test
+    void acquire_ShouldTakeOnePermitPerDomain_WhenRecipientsShareDomain() {
+        // Arrange
+        emailConsumerProperties.setDomainRateLimit(2);
+        EmailEventDto email = createEmail(Set.of("first@gmail.com", "second@gmail.com"));
+        email.setCc(Set.of("third@gmail.com"));
+
+        // Act
+        domainEmailRateLimiter.acquire(email);
+
+        // Assertions
+        assertDoesNotThrow(() -> domainEmailRateLimiter.acquire(createEmail(Set.of("fourth@gmail.com"))));
+        assertThrows(MailSendException.class, () -> domainEmailRateLimiter.acquire(createEmail(Set.of("fifth@gmail.com"))));
+    }
+
+    @Test
+    void acquire_ShouldNotTakeAnyPermit_WhenOneDomainIsExhausted() {
+        // Arrange
+        domainEmailRateLimiter.acquire(createEmail(Set.of("first@outlook.com")));
+
+        // Act
+        assertThrows(MailSendException.class, () -> domainEmailRateLimiter.acquire(createEmail(Set.of("second@gmail.com", "second@outlook.com"))));
+
+        // Assertions
+        assertDoesNotThrow(() -> domainEmailRateLimiter.acquire(createEmail(Set.of("third@gmail.com"))));
+    }
+
+    @Test
+    void acquire_ShouldApplyDomainOverride() {
+        // Arrange
+        emailConsumerProperties.setDomainRateLimitOverrides(Map.of("Gmail.com", 2));
+        domainEmailRateLimiter.acquire(createEmail(Set.of("first@gmail.com")));
+
+        // Act
+        // Assertions
+        assertDoesNotThrow(() -> domainEmailRateLimiter.acquire(createEmail(Set.of("second@gmail.com"))));
+        assertThrows(MailSendException.class, () -> domainEmailRateLimiter.acquire(createEmail(Set.of("third@gmail.com"))));
+    }
+
+    private static EmailEventDto createEmail(Set<String> to) {
+        EmailEventDto email = new EmailEventDto();
+        email.setTo(to);
+        return email;
+    }
+}
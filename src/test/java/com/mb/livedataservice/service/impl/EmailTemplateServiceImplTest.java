@@ -1,5 +1,7 @@
 package com.mb.livedataservice.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mb.livedataservice.api.request.EmailTemplateRequest;
 import com.mb.livedataservice.api.response.EmailTemplateResponse;
 import com.mb.livedataservice.data.model.EmailTemplate;
@@ -7,6 +9,7 @@ import com.mb.livedataservice.data.repository.EmailTemplateRepository;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
 import com.mb.livedataservice.mapper.EmailTemplateMapper;
+import com.mb.livedataservice.service.ThymeleafTemplateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,9 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +50,12 @@ class EmailTemplateServiceImplTest {
     @Spy
     private EmailTemplateMapper emailTemplateMapper;
 
+    @Mock
+    private ThymeleafTemplateService thymeleafTemplateService;
+
+    @Spy
+    private Cache<String, Optional<EmailTemplate>> activeEmailTemplateCache = Caffeine.newBuilder().build();
+
     private EmailTemplateRequest validRequest;
     private EmailTemplate emailTemplate;
 
@@ -84,6 +93,7 @@ class EmailTemplateServiceImplTest {
         assertEquals("WELCOME_EMAIL", response.getCode());
         verify(emailTemplateRepository).existsByCode("WELCOME_EMAIL");
         verify(emailTemplateRepository).save(any(EmailTemplate.class));
+        verify(activeEmailTemplateCache).invalidateAll(List.of("WELCOME_EMAIL"));
     }
 
     @Test
@@ -113,6 +123,7 @@ class EmailTemplateServiceImplTest {
         assertNotNull(response);
         verify(emailTemplateRepository).findById(1L);
         verify(emailTemplateRepository).save(any(EmailTemplate.class));
+        verify(thymeleafTemplateService, times(2)).evictTemplate("WELCOME_EMAIL");
     }
 
     @Test
@@ -248,28 +259,30 @@ class EmailTemplateServiceImplTest {
     @Test
     void delete_ShouldDeleteTemplate_WhenTemplateExists() {
         // Arrange
-        when(emailTemplateRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(emailTemplateRepository).deleteById(1L);
+        when(emailTemplateRepository.findById(1L)).thenReturn(Optional.of(emailTemplate));
+        doNothing().when(emailTemplateRepository).delete(emailTemplate);
 
         // Act
         // Assertions
         assertDoesNotThrow(() -> emailTemplateService.delete(1L));
 
-        verify(emailTemplateRepository).existsById(1L);
-        verify(emailTemplateRepository).deleteById(1L);
+        verify(emailTemplateRepository).findById(1L);
+        verify(emailTemplateRepository).delete(emailTemplate);
+        verify(thymeleafTemplateService).evictTemplate("WELCOME_EMAIL");
     }
 
     @Test
     void delete_ShouldThrowException_WhenTemplateNotFound() {
         // Arrange
-        when(emailTemplateRepository.existsById(1L)).thenReturn(false);
+        when(emailTemplateRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Act
         // Assertions
         BaseException exception = assertThrows(BaseException.class, () -> emailTemplateService.delete(1L));
 
         assertEquals(LiveDataErrorCode.NOT_FOUND.getMessage(), exception.getMessage());
-        verify(emailTemplateRepository, never()).deleteById(anyLong());
+        verify(emailTemplateRepository, never()).delete(any());
+        verify(thymeleafTemplateService, never()).evictTemplate(anyString());
     }
 
     @Test
@@ -297,4 +310,51 @@ class EmailTemplateServiceImplTest {
 
         assertEquals(LiveDataErrorCode.NOT_FOUND.getMessage(), exception.getMessage());
     }
+
+    @Test
+    void findActiveByCode_ShouldServeFromCache_WhenTemplateWasLoadedBefore() {
+        // Arrange
+        when(emailTemplateRepository.findByCodeAndActiveTrue("WELCOME_EMAIL")).thenReturn(Optional.of(emailTemplate));
+        when(emailTemplateRepository.findByCodeAndActiveTrue("UNKNOWN")).thenReturn(Optional.empty());
+        emailTemplateService.findActiveByCode("WELCOME_EMAIL");
+        assertThrows(BaseException.class, () -> emailTemplateService.findActiveByCode("UNKNOWN"));
+
+        // Act
+        EmailTemplate result = emailTemplateService.findActiveByCode("WELCOME_EMAIL");
+
+        // Assertions
+        assertEquals(emailTemplate, result);
+        assertThrows(BaseException.class, () -> emailTemplateService.findActiveByCode("UNKNOWN"));
+        verify(emailTemplateRepository, times(1)).findByCodeAndActiveTrue("WELCOME_EMAIL");
+        verify(emailTemplateRepository, times(1)).findByCodeAndActiveTrue("UNKNOWN");
+    }
+
+    @Test
+    void findActiveByCode_ShouldReload_WhenTemplateIsUpdated() {
+        // Arrange
+        when(emailTemplateRepository.findByCodeAndActiveTrue("WELCOME_EMAIL")).thenReturn(Optional.of(emailTemplate));
+        when(emailTemplateRepository.findById(1L)).thenReturn(Optional.of(emailTemplate));
+        when(emailTemplateRepository.save(any(EmailTemplate.class))).thenReturn(emailTemplate);
+        emailTemplateService.findActiveByCode("WELCOME_EMAIL");
+        emailTemplateService.update(1L, validRequest);
+
+        // Act
+        emailTemplateService.findActiveByCode("WELCOME_EMAIL");
+
+        // Assertions
+        verify(emailTemplateRepository, times(2)).findByCodeAndActiveTrue("WELCOME_EMAIL");
+    }
+
+    @Test
+    void preloadActiveTemplates_ShouldCacheAllActiveTemplates() {
+        // Arrange
+        when(emailTemplateRepository.findAllByActiveTrue()).thenReturn(List.of(emailTemplate));
+
+        // Act
+        emailTemplateService.preloadActiveTemplates();
+
+        // Assertions
+        assertEquals(emailTemplate, emailTemplateService.findActiveByCode("WELCOME_EMAIL"));
+        verify(emailTemplateRepository, never()).findByCodeAndActiveTrue(anyString());
+    }
 }
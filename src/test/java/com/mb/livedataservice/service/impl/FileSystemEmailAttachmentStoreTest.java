@@ -0,0 +1,112 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailAttachmentStoreProperties;
+import jakarta.activation.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileSystemEmailAttachmentStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private FileSystemEmailAttachmentStore emailAttachmentStore;
+
+    @BeforeEach
+    void init() {
+        EmailAttachmentStoreProperties emailAttachmentStoreProperties = new EmailAttachmentStoreProperties();
+        emailAttachmentStoreProperties.setDirectory(directory);
+        emailAttachmentStoreProperties.setRetention(Duration.ofDays(1));
+        emailAttachmentStore = new FileSystemEmailAttachmentStore(emailAttachmentStoreProperties);
+    }
+
+    @Test
+    void store_ShouldStoreIdenticalContentOnce() throws IOException {
+        // Arrange
+        byte[] content = "report".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        String first = emailAttachmentStore.store(content);
+        String second = emailAttachmentStore.store(content.clone());
+        String other = emailAttachmentStore.store("other".getBytes(StandardCharsets.UTF_8));
+
+        // Assertions
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    void open_ShouldStreamStoredContent_WithGivenContentType() throws IOException {
+        // Arrange
+        byte[] content = "report".getBytes(StandardCharsets.UTF_8);
+        String contentRef = emailAttachmentStore.store(content);
+
+        // Act
+        DataSource dataSource = emailAttachmentStore.open(contentRef, "application/pdf");
+
+        // Assertions
+        assertEquals("application/pdf", dataSource.getContentType());
+        try (InputStream inputStream = dataSource.getInputStream()) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void open_ShouldFail_WhenReferenceIsInvalidOrMissing() {
+        // Arrange
+        String missingRef = "0".repeat(64);
+
+        // Act
+        // Assertions
+        assertThrows(IllegalArgumentException.class, () -> emailAttachmentStore.open("../secret", "text/plain"));
+        assertThrows(UncheckedIOException.class, () -> emailAttachmentStore.open(missingRef, "text/plain"));
+    }
+
+    @Test
+    void purgeExpired_ShouldRemoveOnlyAttachmentsNotStoredWithinRetention() throws IOException {
+        // Arrange
+        String expiredRef = emailAttachmentStore.store("expired".getBytes(StandardCharsets.UTF_8));
+        String refreshedRef = emailAttachmentStore.store("refreshed".getBytes(StandardCharsets.UTF_8));
+        FileTime twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        Files.setLastModifiedTime(path(expiredRef), twoDaysAgo);
+        Files.setLastModifiedTime(path(refreshedRef), twoDaysAgo);
+        emailAttachmentStore.store("refreshed".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        int purgedCount = emailAttachmentStore.purgeExpired();
+
+        // Assertions
+        assertEquals(1, purgedCount);
+        assertFalse(Files.exists(path(expiredRef)));
+        assertEquals(1, countFiles());
+    }
+
+    private Path path(String contentRef) {
+        return directory.resolve(contentRef.substring(0, 2)).resolve(contentRef);
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.filter.OrderExportFilter;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderWithItems;
+import com.mb.livedataservice.data.repository.OrderExportRepository;
+import com.mb.livedataservice.enums.ExportFormat;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.Size;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceImplTest {
+
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2026, 1, 15, 9, 30);
+
+    @Mock
+    private OrderExportRepository orderExportRepository;
+
+    @InjectMocks
+    private OrderExportServiceImpl orderExportService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExportOrdersAsNdjson() throws IOException {
+        // Arrange
+        OrderExportFilter filter = new OrderExportFilter(OrderStatus.PENDING, null, null);
+        doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(1);
+            consumer.accept(new Order(1L, 7L, "Alice", ORDER_DATE, new BigDecimal("4.50"), OrderStatus.PENDING));
+            consumer.accept(new Order(2L, null, "Bob", ORDER_DATE, new BigDecimal("3.00"), OrderStatus.PENDING));
+            return null;
+        }).when(orderExportRepository).forEachOrder(eq(filter), any(Consumer.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        long exportedCount = orderExportService.export(filter, ExportFormat.NDJSON, false, outputStream);
+
+        // Assertions
+        Assertions.assertEquals(2, exportedCount);
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.getFirst().startsWith("{\"id\":1,\"customerId\":7,\"customerName\":\"Alice\""));
+        Assertions.assertTrue(lines.getLast().contains("\"customerName\":\"Bob\""));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExportOrdersWithItemsAsCsv_OneLinePerItem() throws IOException {
+        // Arrange
+        OrderExportFilter filter = new OrderExportFilter(null, null, null);
+        doAnswer(invocation -> {
+            Consumer<OrderWithItems> consumer = invocation.getArgument(1);
+            consumer.accept(new OrderWithItems(1L, 7L, "Smith, \"Al\"", ORDER_DATE, new BigDecimal("7.50"), OrderStatus.READY, List.of(
+                    new OrderWithItems.Item(10L, 1L, "Espresso", Size.SMALL, 1, new BigDecimal("2.50")),
+                    new OrderWithItems.Item(11L, 2L, "Latte", Size.LARGE, 1, new BigDecimal("5.00")))));
+            consumer.accept(new OrderWithItems(2L, null, "Bob", ORDER_DATE, BigDecimal.ZERO, OrderStatus.CANCELLED, List.of()));
+            return null;
+        }).when(orderExportRepository).forEachOrderWithItems(eq(filter), any(Consumer.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        long exportedCount = orderExportService.export(filter, ExportFormat.CSV, true, outputStream);
+
+        // Assertions
+        Assertions.assertEquals(2, exportedCount);
+        Assertions.assertEquals("""
+                id,customer_id,customer_name,order_date,total_amount,status,item_id,coffee_id,coffee_name,coffee_size,quantity,price
+                1,7,"Smith, ""Al\""",2026-01-15T09:30,7.50,READY,10,1,Espresso,SMALL,1,2.50
+                1,7,"Smith, ""Al\""",2026-01-15T09:30,7.50,READY,11,2,Latte,LARGE,1,5.00
+                2,,Bob,2026-01-15T09:30,0,CANCELLED,,,,,,
+                """, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldRejectFilter_WhenFromIsNotBeforeTo() {
+        // Act
+        BaseException exception = assertThrows(BaseException.class, () -> new OrderExportFilter(null, ORDER_DATE, ORDER_DATE));
+
+        // Assertions
+        Assertions.assertEquals(LiveDataErrorCode.VALIDATION_ERROR, exception.getErrorCode());
+    }
+}
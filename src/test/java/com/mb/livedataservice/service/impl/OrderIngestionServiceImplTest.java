@@ -0,0 +1,101 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.Coffee;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderItem;
+import com.mb.livedataservice.data.repository.OrderIngestionRepository;
+import com.mb.livedataservice.data.repository.OrderItemRepository;
+import com.mb.livedataservice.data.repository.OrderRepository;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.Size;
+import com.mb.livedataservice.service.SalesRollupService;
+import com.mb.livedataservice.util.LiveDataConstants;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIngestionServiceImplTest {
+
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderIngestionRepository orderIngestionRepository;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private Validator validator;
+
+    @InjectMocks
+    private OrderIngestionServiceImpl orderIngestionService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ingest_ShouldWriteNewOrdersWithTheirItems_AndSkipDuplicatesAndUnknownArticles() {
+        // Arrange
+        UUID latteArticleId = UUID.randomUUID();
+        Coffee latte = new Coffee(9L, "Large Latte", "Creamy latte", new BigDecimal("5.75"), Size.LARGE);
+        var newOrder = new com.mb.livedataservice.queue.dto.consumer.Order(UUID.randomUUID(), latteArticleId, 2);
+        var storedOrder = new com.mb.livedataservice.queue.dto.consumer.Order(UUID.randomUUID(), latteArticleId, 1);
+        var unknownArticleOrder = new com.mb.livedataservice.queue.dto.consumer.Order(UUID.randomUUID(), UUID.randomUUID(), 1);
+
+        when(validator.validate(any())).thenReturn(Set.of());
+        when(orderIngestionRepository.findExistingOrderUuids(anyCollection())).thenReturn(Set.of(storedOrder.orderId()));
+        when(orderIngestionRepository.findCoffeesByArticleIds(anyCollection())).thenReturn(Map.of(latteArticleId, latte));
+        when(orderRepository.saveAll(anyCollection())).thenAnswer(invocation -> ((Collection<Order>) invocation.getArgument(0)).stream()
+                .map(order -> new Order(42L, order.customerId(), order.customerName(), order.orderDate(), order.totalAmount(), order.status(), order.orderUuid()))
+                .toList());
+
+        // Act
+        int ingestedCount = orderIngestionService.ingest(List.of(newOrder, storedOrder, newOrder, unknownArticleOrder), List.of(ORDER_DATE, ORDER_DATE, ORDER_DATE, ORDER_DATE));
+
+        // Assertions
+        assertEquals(1, ingestedCount);
+        Order expectedOrder = new Order(null, null, LiveDataConstants.ANONYMOUS_CUSTOMER_NAME, ORDER_DATE, new BigDecimal("11.50"), OrderStatus.PENDING, newOrder.orderId());
+        verify(orderRepository).saveAll(List.of(expectedOrder));
+        verify(orderItemRepository).saveAll(List.of(new OrderItem(null, 42L, ORDER_DATE, 9L, 2, new BigDecimal("5.75"))));
+        verify(salesRollupService).recordOrdersCreated(List.of(new Order(42L, null, LiveDataConstants.ANONYMOUS_CUSTOMER_NAME, ORDER_DATE, new BigDecimal("11.50"), OrderStatus.PENDING, newOrder.orderId())));
+    }
+
+    @Test
+    void ingest_ShouldWriteNothing_WhenAllOrdersAreAlreadyStored() {
+        // Arrange
+        var storedOrder = new com.mb.livedataservice.queue.dto.consumer.Order(UUID.randomUUID(), UUID.randomUUID(), 1);
+        when(validator.validate(any())).thenReturn(Set.of());
+        when(orderIngestionRepository.findExistingOrderUuids(anyCollection())).thenReturn(Set.of(storedOrder.orderId()));
+
+        // Act
+        int ingestedCount = orderIngestionService.ingest(List.of(storedOrder), List.of(ORDER_DATE));
+
+        // Assertions
+        assertEquals(0, ingestedCount);
+        verify(orderRepository, never()).saveAll(anyCollection());
+        verify(orderIngestionRepository, never()).findCoffeesByArticleIds(anyCollection());
+    }
+}
@@ -0,0 +1,74 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.OrderPartitionProperties;
+import com.mb.livedataservice.data.repository.OrderPartitionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPartitionServiceImplTest {
+
+    @Mock
+    private OrderPartitionRepository orderPartitionRepository;
+
+    @Spy
+    private OrderPartitionProperties orderPartitionProperties = new OrderPartitionProperties();
+
+    @InjectMocks
+    private OrderPartitionServiceImpl orderPartitionService;
+
+    @Test
+    void maintainPartitions_ShouldCreateUpcomingMonths_AndArchiveExpiredMonths() {
+        // Arrange
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        when(orderPartitionRepository.isPartitioned()).thenReturn(true);
+        when(orderPartitionRepository.createPartitions(currentMonth, currentMonth.plusMonths(3))).thenReturn(1);
+        when(orderPartitionRepository.archivePartitions(currentMonth.minusMonths(24))).thenReturn(List.of("orders_p202401"));
+
+        // Act
+        orderPartitionService.maintainPartitions();
+
+        // Assertions
+        verify(orderPartitionRepository).createPartitions(currentMonth, currentMonth.plusMonths(3));
+        verify(orderPartitionRepository).archivePartitions(currentMonth.minusMonths(24));
+    }
+
+    @Test
+    void maintainPartitions_ShouldNotArchive_WhenArchivingIsDisabled() {
+        // Arrange
+        orderPartitionProperties.setArchiveAfterMonths(0);
+        when(orderPartitionRepository.isPartitioned()).thenReturn(true);
+
+        // Act
+        orderPartitionService.maintainPartitions();
+
+        // Assertions
+        verify(orderPartitionRepository).createPartitions(any(), any());
+        verify(orderPartitionRepository, never()).archivePartitions(any());
+    }
+
+    @Test
+    void maintainPartitions_ShouldDoNothing_WhenOrdersAreNotPartitioned() {
+        // Arrange
+        when(orderPartitionRepository.isPartitioned()).thenReturn(false);
+
+        // Act
+        orderPartitionService.maintainPartitions();
+
+        // Assertions
+        verify(orderPartitionRepository, never()).createPartitions(any(), any());
+        verify(orderPartitionRepository, never()).archivePartitions(any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.BatchItemResult;
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.repository.OrderStatusRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.mb.livedataservice.service.SalesRollupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusServiceImplTest {
+
+    @Mock
+    private OrderStatusRepository orderStatusRepository;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @InjectMocks
+    private OrderStatusServiceImpl orderStatusService;
+
+    @Test
+    void transition_ShouldRecordEventAndRollup_WhenOrderIsStillInFromStatus() {
+        // Arrange
+        OrderStatusTransition transition = new OrderStatusTransition(1L, OrderStatus.READY, OrderStatus.CANCELLED);
+        when(orderStatusRepository.updateStatus(transition)).thenReturn(true);
+
+        // Act
+        OrderStatusTransition result = orderStatusService.transition(transition);
+
+        // Assertions
+        assertEquals(transition, result);
+        verify(salesRollupService).recordOrderStatusesChanged(List.of(transition));
+        verify(outboxEventService).appendAll(Order.class.getSimpleName(), EntityChangeType.STATUS_CHANGED, Map.of(1L, transition));
+    }
+
+    @Test
+    void transition_ShouldThrowConflict_WhenOrderMovedConcurrently() {
+        // Arrange
+        OrderStatusTransition transition = new OrderStatusTransition(1L, OrderStatus.PENDING, OrderStatus.PREPARING);
+        when(orderStatusRepository.updateStatus(transition)).thenReturn(false);
+        when(orderStatusRepository.findStatuses(List.of(1L))).thenReturn(Map.of(1L, OrderStatus.CANCELLED));
+
+        // Act
+        BaseException exception = assertThrows(BaseException.class, () -> orderStatusService.transition(transition));
+
+        // Assertions
+        assertEquals(LiveDataErrorCode.ORDER_STATUS_CONFLICT, exception.getErrorCode());
+        verify(outboxEventService, never()).appendAll(any(), any(), any());
+    }
+
+    @Test
+    void transition_ShouldThrowException_WhenTransitionIsNotAllowed() {
+        // Arrange
+        OrderStatusTransition transition = new OrderStatusTransition(1L, OrderStatus.DELIVERED, OrderStatus.PENDING);
+
+        // Act
+        BaseException exception = assertThrows(BaseException.class, () -> orderStatusService.transition(transition));
+
+        // Assertions
+        assertEquals(LiveDataErrorCode.ORDER_STATUS_TRANSITION_NOT_ALLOWED, exception.getErrorCode());
+        verify(orderStatusRepository, never()).updateStatus(any());
+    }
+
+    @Test
+    void transitionAll_ShouldReportResultPerItem() {
+        // Arrange
+        OrderStatusTransition applied = new OrderStatusTransition(1L, OrderStatus.PENDING, OrderStatus.PREPARING);
+        OrderStatusTransition conflicting = new OrderStatusTransition(2L, OrderStatus.PREPARING, OrderStatus.READY);
+        OrderStatusTransition missing = new OrderStatusTransition(3L, OrderStatus.READY, OrderStatus.DELIVERED);
+        OrderStatusTransition notAllowed = new OrderStatusTransition(4L, OrderStatus.PENDING, OrderStatus.DELIVERED);
+        OrderStatusTransition duplicated = new OrderStatusTransition(1L, OrderStatus.PREPARING, OrderStatus.READY);
+        when(orderStatusRepository.updateStatuses(List.of(applied, conflicting, missing))).thenReturn(new int[]{1, 0, 0});
+        when(orderStatusRepository.findStatuses(List.of(2L, 3L))).thenReturn(Map.of(2L, OrderStatus.CANCELLED));
+
+        // Act
+        List<BatchItemResult<OrderStatusTransition>> results = orderStatusService.transitionAll(List.of(applied, conflicting, missing, notAllowed, duplicated));
+
+        // Assertions
+        assertEquals(List.of(BatchItemResult.success(0, applied),
+                BatchItemResult.failure(1, LiveDataErrorCode.ORDER_STATUS_CONFLICT),
+                BatchItemResult.failure(2, LiveDataErrorCode.NOT_FOUND),
+                BatchItemResult.failure(3, LiveDataErrorCode.ORDER_STATUS_TRANSITION_NOT_ALLOWED),
+                BatchItemResult.failure(4, LiveDataErrorCode.VALIDATION_ERROR)), results);
+        verify(salesRollupService).recordOrderStatusesChanged(List.of(applied));
+        verify(outboxEventService).appendAll(Order.class.getSimpleName(), EntityChangeType.STATUS_CHANGED, Map.of(1L, applied));
+    }
+}
@@ -0,0 +1,76 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.repository.OutboxEventRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceImplTest {
+
+    @InjectMocks
+    private OutboxEventServiceImpl outboxEventService;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void append_ShouldSaveSerializedChangeEvent() {
+        // Arrange
+        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        outboxEventService.append("Tutorial", 7L, EntityChangeType.UPDATED, Map.of("title", "Spring Boot"));
+
+        // Assertions
+        verify(outboxEventRepository).save(eq("Tutorial"), eq("7"), eq("UPDATED"), payloadCaptor.capture(), any(LocalDateTime.class));
+        JsonNode message = JsonUtils.deserialize(payloadCaptor.getValue());
+        assertNotNull(message.get("eventId"));
+        assertEquals("Tutorial", message.get("aggregateType").asString());
+        assertEquals("7", message.get("aggregateId").asString());
+        assertEquals("UPDATED", message.get("eventType").asString());
+        assertEquals("Spring Boot", message.get("payload").get("title").asString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendAll_ShouldSaveOneSerializedChangeEventPerAggregateInOneBatch() {
+        // Arrange
+        ArgumentCaptor<Map<String, String>> payloadCaptor = ArgumentCaptor.forClass(Map.class);
+
+        // Act
+        outboxEventService.appendAll("Tutorial", EntityChangeType.CREATED, Map.of(7L, Map.of("title", "Spring Boot"), 8L, Map.of("title", "Kafka")));
+
+        // Assertions
+        verify(outboxEventRepository).saveAll(eq("Tutorial"), eq("CREATED"), payloadCaptor.capture(), any(LocalDateTime.class));
+        assertEquals(List.of("7", "8"), payloadCaptor.getValue().keySet().stream().sorted().toList());
+        assertEquals("Kafka", JsonUtils.deserialize(payloadCaptor.getValue().get("8")).get("payload").get("title").asString());
+    }
+
+    @Test
+    void appendAll_ShouldNotSave_WhenThereIsNothingToAppend() {
+        // Act
+        outboxEventService.appendAll("Tutorial", EntityChangeType.CREATED, Map.of());
+
+        // Assertions
+        verify(outboxEventRepository, never()).saveAll(any(), any(), anyMap(), any());
+    }
+}
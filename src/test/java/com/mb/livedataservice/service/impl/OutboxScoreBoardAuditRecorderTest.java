@@ -0,0 +1,63 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.data.repository.ScoreBoardAuditOutboxRepository;
+import org.hibernate.envers.RevisionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxScoreBoardAuditRecorderTest {
+
+    @InjectMocks
+    private OutboxScoreBoardAuditRecorder outboxScoreBoardAuditRecorder;
+
+    @Mock
+    private ScoreBoardAuditOutboxRepository scoreBoardAuditOutboxRepository;
+
+    @Test
+    void recordCreated_ShouldFlagAllColumnsAsModified() {
+        // Arrange
+        ScoreBoard scoreBoard = new ScoreBoard("Spain", "Brazil", 0, 0);
+
+        // Act
+        outboxScoreBoardAuditRecorder.recordCreated(scoreBoard);
+
+        // Assertions
+        verify(scoreBoardAuditOutboxRepository).save(scoreBoard, RevisionType.ADD, Set.of("deleted", "created_date_time", "modified_date_time", "home_team_name", "away_team_name", "home_team_score", "away_team_score"));
+    }
+
+    @Test
+    void recordUpdated_ShouldFlagOnlyChangedColumnsAsModified() {
+        // Arrange
+        ScoreBoard previous = new ScoreBoard("Spain", "Brazil", 0, 0);
+        ScoreBoard current = new ScoreBoard("Spain", "Brazil", 1, 0);
+
+        // Act
+        outboxScoreBoardAuditRecorder.recordUpdated(previous, current);
+
+        // Assertions
+        assertNotNull(current.getModifiedDateTime());
+        verify(scoreBoardAuditOutboxRepository).save(current, RevisionType.MOD, Set.of("modified_date_time", "home_team_score"));
+    }
+
+    @Test
+    void recordRemoved_ShouldNotFlagAnyColumnAsModified() {
+        // Arrange
+        ScoreBoard scoreBoard = new ScoreBoard("Spain", "Brazil", 1, 0);
+
+        // Act
+        outboxScoreBoardAuditRecorder.recordRemoved(scoreBoard);
+
+        // Assertions
+        verify(scoreBoardAuditOutboxRepository).save(scoreBoard, RevisionType.DEL, Set.of());
+    }
+}
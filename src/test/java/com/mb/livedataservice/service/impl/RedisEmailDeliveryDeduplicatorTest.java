@@ -0,0 +1,148 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.EmailDedupeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisEmailDeliveryDeduplicatorTest {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final String key = "email:delivery:" + eventId;
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmailDedupeProperties emailDedupeProperties;
+
+    private RedisEmailDeliveryDeduplicator redisEmailDeliveryDeduplicator;
+
+    @BeforeEach
+    void init() {
+        emailDedupeProperties = new EmailDedupeProperties();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisEmailDeliveryDeduplicator = new RedisEmailDeliveryDeduplicator(stringRedisTemplate, emailDedupeProperties, meterRegistry);
+    }
+
+    @Test
+    void deliverOnce_ShouldDeliverAndMarkSent_WhenClaimed() {
+        // Arrange
+        Runnable delivery = mock(Runnable.class);
+        when(valueOperations.setIfAbsent(key, "in-flight", Duration.ofMinutes(2))).thenReturn(true);
+
+        // Act
+        boolean delivered = redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery);
+
+        // Assertions
+        assertTrue(delivered);
+        verify(delivery).run();
+        verify(valueOperations).set(key, "sent", Duration.ofDays(7));
+    }
+
+    @Test
+    void deliverOnce_ShouldSuppressDuplicate_WhenAlreadySent() {
+        // Arrange
+        Runnable delivery = mock(Runnable.class);
+        when(valueOperations.setIfAbsent(key, "in-flight", Duration.ofMinutes(2))).thenReturn(false);
+        when(valueOperations.get(key)).thenReturn("sent");
+
+        // Act
+        boolean delivered = redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery);
+
+        // Assertions
+        assertFalse(delivered);
+        verify(delivery, never()).run();
+        assertEquals(1.0, meterRegistry.get("email.dedupe.duplicates").tag("store", "redis").counter().count());
+    }
+
+    @Test
+    void deliverOnce_ShouldFail_WhenAnotherConsumerIsDelivering() {
+        // Arrange
+        Runnable delivery = mock(Runnable.class);
+        when(valueOperations.setIfAbsent(key, "in-flight", Duration.ofMinutes(2))).thenReturn(false);
+        when(valueOperations.get(key)).thenReturn("in-flight");
+
+        // Act
+        // Assertions
+        assertThrows(MailSendException.class, () -> redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery));
+        verify(delivery, never()).run();
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void deliverOnce_ShouldReleaseClaim_WhenDeliveryFails() {
+        // Arrange
+        when(valueOperations.setIfAbsent(key, "in-flight", Duration.ofMinutes(2))).thenReturn(true);
+
+        // Act
+        assertThrows(MailSendException.class, () -> redisEmailDeliveryDeduplicator.deliverOnce(eventId, () -> {
+            throw new MailSendException("Connection refused");
+        }));
+
+        // Assertions
+        verify(stringRedisTemplate).delete(key);
+        verify(valueOperations, never()).set(key, "sent", Duration.ofDays(7));
+    }
+
+    @Test
+    void deliverOnce_ShouldUseLocalFilter_WhenRedisIsUnavailable() {
+        // Arrange
+        emailDedupeProperties.setLocalFilterEnabled(true);
+        emailDedupeProperties.setLocalFilterExpectedInsertions(100);
+        redisEmailDeliveryDeduplicator = new RedisEmailDeliveryDeduplicator(stringRedisTemplate, emailDedupeProperties, meterRegistry);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenThrow(new RedisConnectionFailureException("Connection refused"));
+        Runnable delivery = mock(Runnable.class);
+        redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery);
+
+        // Act
+        boolean redelivered = redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery);
+        boolean otherDelivered = redisEmailDeliveryDeduplicator.deliverOnce(UUID.randomUUID(), delivery);
+
+        // Assertions
+        assertFalse(redelivered);
+        assertTrue(otherDelivered);
+        verify(delivery, times(2)).run();
+        assertEquals(1.0, meterRegistry.get("email.dedupe.duplicates").tag("store", "local-filter").counter().count());
+    }
+
+    @Test
+    void deliverOnce_ShouldUseLocalFilter_WhenStateCannotBeRead() {
+        // Arrange
+        emailDedupeProperties.setLocalFilterEnabled(true);
+        emailDedupeProperties.setLocalFilterExpectedInsertions(100);
+        redisEmailDeliveryDeduplicator = new RedisEmailDeliveryDeduplicator(stringRedisTemplate, emailDedupeProperties, meterRegistry);
+        Runnable delivery = mock(Runnable.class);
+        when(valueOperations.setIfAbsent(key, "in-flight", Duration.ofMinutes(2))).thenReturn(true, false);
+        redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery);
+        when(valueOperations.get(key)).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // Act
+        boolean redelivered = redisEmailDeliveryDeduplicator.deliverOnce(eventId, delivery);
+
+        // Assertions
+        assertFalse(redelivered);
+        verify(delivery, times(1)).run();
+        assertEquals(1.0, meterRegistry.get("email.dedupe.duplicates").tag("store", "local-filter").counter().count());
+    }
+}
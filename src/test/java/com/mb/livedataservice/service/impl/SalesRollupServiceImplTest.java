@@ -0,0 +1,112 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.Order;
+import com.mb.livedataservice.data.model.OrderStatusTransition;
+import com.mb.livedataservice.data.repository.CoffeeSalesRollupRepository;
+import com.mb.livedataservice.enums.OrderStatus;
+import com.mb.livedataservice.enums.TimeBucket;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupServiceImplTest {
+
+    @Mock
+    private CoffeeSalesRollupRepository coffeeSalesRollupRepository;
+
+    @InjectMocks
+    private SalesRollupServiceImpl salesRollupService;
+
+    @Test
+    void recordOrdersCreated_ShouldSkipCancelledOrders() {
+        // Arrange
+        LocalDateTime orderDate = LocalDateTime.of(2026, 1, 1, 10, 15);
+        List<Order> orders = List.of(
+                new Order(1L, 1L, "Alice", orderDate, new BigDecimal("4.50"), OrderStatus.PENDING),
+                new Order(2L, 2L, "Bob", orderDate, new BigDecimal("3.00"), OrderStatus.CANCELLED)
+        );
+
+        // Act
+        salesRollupService.recordOrdersCreated(orders);
+
+        // Assertions
+        verify(coffeeSalesRollupRepository).addOrders(List.of(1L), 1);
+    }
+
+    @Test
+    void recordOrderStatusesChanged_ShouldUpdateRollupOncePerDirection() {
+        // Arrange
+        List<OrderStatusTransition> transitions = List.of(
+                new OrderStatusTransition(1L, OrderStatus.PREPARING, OrderStatus.CANCELLED),
+                new OrderStatusTransition(2L, OrderStatus.PENDING, OrderStatus.PREPARING),
+                new OrderStatusTransition(3L, OrderStatus.PENDING, OrderStatus.CANCELLED),
+                new OrderStatusTransition(4L, OrderStatus.CANCELLED, OrderStatus.PENDING)
+        );
+
+        // Act
+        salesRollupService.recordOrderStatusesChanged(transitions);
+
+        // Assertions
+        verify(coffeeSalesRollupRepository).addOrders(List.of(1L, 3L), -1);
+        verify(coffeeSalesRollupRepository).addOrders(List.of(4L), 1);
+        verify(coffeeSalesRollupRepository, times(2)).addOrders(any(), anyInt());
+    }
+
+    @Test
+    void recordOrderStatusesChanged_ShouldNotTouchRollup_WhenOrdersStayCounted() {
+        // Act
+        salesRollupService.recordOrderStatusesChanged(List.of(new OrderStatusTransition(1L, OrderStatus.PREPARING, OrderStatus.READY)));
+
+        // Assertions
+        verify(coffeeSalesRollupRepository, never()).addOrders(any(), anyInt());
+    }
+
+    @Test
+    void getSales_ShouldThrowException_WhenRangeIsEmpty() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+        // Act
+        // Assertions
+        BaseException exception = assertThrows(BaseException.class, () -> salesRollupService.getSales(from, from, TimeBucket.HOUR));
+        assertEquals(LiveDataErrorCode.VALIDATION_ERROR, exception.getErrorCode());
+    }
+
+    @Test
+    void catchUp_ShouldRebuildFromWatermarkAndAdvanceIt() {
+        // Arrange
+        LocalDateTime watermark = LocalDateTime.of(2026, 1, 1, 10, 0);
+        when(coffeeSalesRollupRepository.lockWatermark()).thenReturn(watermark);
+        when(coffeeSalesRollupRepository.rebuildFrom(watermark)).thenReturn(3);
+
+        // Act
+        int bucketCount = salesRollupService.catchUp();
+
+        // Assertions
+        assertEquals(3, bucketCount);
+        InOrder inOrder = inOrder(coffeeSalesRollupRepository);
+        inOrder.verify(coffeeSalesRollupRepository).lockWatermark();
+        inOrder.verify(coffeeSalesRollupRepository).rebuildFrom(watermark);
+        inOrder.verify(coffeeSalesRollupRepository).updateWatermark(any(LocalDateTime.class));
+    }
+}
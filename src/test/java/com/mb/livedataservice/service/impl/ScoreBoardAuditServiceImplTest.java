@@ -0,0 +1,61 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.data.model.ScoreBoardRevision;
+import com.mb.livedataservice.data.repository.ScoreBoardAuditRepository;
+import org.hibernate.envers.RevisionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreBoardAuditServiceImplTest {
+
+    @InjectMocks
+    private ScoreBoardAuditServiceImpl scoreBoardAuditService;
+
+    @Mock
+    private ScoreBoardAuditRepository scoreBoardAuditRepository;
+
+    @Test
+    void getScoreBoardRevisions_ShouldReturnRevisionsOfScoreBoard() {
+        // Arrange
+        ScoreBoardRevision revision = new ScoreBoardRevision(1L, 51, RevisionType.MOD, OffsetDateTime.now(), Map.of("homeTeamScore", 1));
+        when(scoreBoardAuditRepository.findRevisionsById(1L, 50, 20)).thenReturn(List.of(revision));
+
+        // Act
+        List<ScoreBoardRevision> result = scoreBoardAuditService.getScoreBoardRevisions(1L, 50, 20);
+
+        // Assertions
+        assertEquals(List.of(revision), result);
+    }
+
+    @Test
+    void getScoreBoardRevisions_ShouldUseDefaultPageSize_WhenSizeIsNotPositive() {
+        // Arrange
+        // Act
+        scoreBoardAuditService.getScoreBoardRevisions(1L, 0, 0);
+
+        // Assertions
+        verify(scoreBoardAuditRepository).findRevisionsById(1L, 0, ScoreBoardAuditServiceImpl.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void getScoreBoardRevisionsAfter_ShouldCapPageSize_WhenSizeExceedsMaximum() {
+        // Arrange
+        // Act
+        scoreBoardAuditService.getScoreBoardRevisionsAfter(100, 7L, 10_000);
+
+        // Assertions
+        verify(scoreBoardAuditRepository).findRevisionsAfter(100, 7L, ScoreBoardAuditServiceImpl.MAX_PAGE_SIZE);
+    }
+}
@@ -1,11 +1,16 @@
 package com.mb.livedataservice.service.impl;
 
 import com.mb.livedataservice.base.BaseUnitTest;
+import com.mb.livedataservice.data.model.BatchItemResult;
 import com.mb.livedataservice.data.model.ScoreBoard;
 import com.mb.livedataservice.data.repository.ScoreBoardRepository;
 import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.enums.EntityChangeType;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.mb.livedataservice.service.ScoreBoardAuditRecorder;
 import com.mb.livedataservice.service.ScoreBoardService;
+import com.mb.livedataservice.service.StandingsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,12 +20,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,15 +42,26 @@ class ScoreBoardServiceTest extends BaseUnitTest {
     @Mock
     private ScoreBoardRepository repository;
 
+    @Mock
+    private ScoreBoardAuditRecorder scoreBoardAuditRecorder;
+
+    @Mock
+    private StandingsService standingsService;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
 
     @BeforeEach
     void setUp() {
-        service = new ScoreBoardServiceImpl(repository);
+        service = new ScoreBoardServiceImpl(repository, scoreBoardAuditRecorder, standingsService, outboxEventService);
     }
 
     @Test
     void createScoreBoard() {
         // Arrange
+        when(repository.save(any(ScoreBoard.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
         // Act
         service.createScoreBoard(new ScoreBoard());
 
@@ -51,6 +70,47 @@ class ScoreBoardServiceTest extends BaseUnitTest {
         verify(repository, times(1)).save(scoreBoardArgumentCaptor.capture());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createScoreBoards_shouldReportFailuresPerItem() {
+        // Arrange
+        ScoreBoard running = new ScoreBoard("TURKEY", "IRELAND", 0, 0);
+        ScoreBoard created = new ScoreBoard("SPAIN", "ITALY", 0, 0);
+        ScoreBoard duplicated = new ScoreBoard("SPAIN", "ITALY", 1, 0);
+        ScoreBoard invalid = new ScoreBoard(null, "ITALY", 0, 0);
+        when(repository.findAllByHomeTeamNameInAndDeletedIsFalse(anyCollection())).thenReturn(List.of(running));
+        when(repository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<ScoreBoard> scoreBoards = List.copyOf((Collection<ScoreBoard>) invocation.getArgument(0));
+            scoreBoards.forEach(scoreBoard -> scoreBoard.setId(7L));
+            return scoreBoards;
+        });
+
+        // Act
+        List<BatchItemResult<ScoreBoard>> results = service.createScoreBoards(List.of(running, created, duplicated, invalid));
+
+        // Assertions
+        assertEquals(List.of(BatchItemResult.failure(0, LiveDataErrorCode.SCORE_BOARD_HAS_NOT_ENDED),
+                BatchItemResult.success(1, created),
+                BatchItemResult.failure(2, LiveDataErrorCode.SCORE_BOARD_HAS_NOT_ENDED),
+                BatchItemResult.failure(3, LiveDataErrorCode.VALIDATION_ERROR)), results);
+        verify(repository).saveAll(List.of(created));
+        verify(scoreBoardAuditRecorder).recordCreated(created);
+        verify(outboxEventService).appendAll(ScoreBoard.class.getSimpleName(), EntityChangeType.CREATED, Map.of(7L, created));
+    }
+
+    @Test
+    void getScoreBoardsByIds_shouldReportMissingIds() {
+        // Arrange
+        ScoreBoard scoreBoard = getScoreBoard();
+        when(repository.findAllByIdInAndDeletedIsFalse(anyCollection())).thenReturn(List.of(scoreBoard));
+
+        // Act
+        List<BatchItemResult<ScoreBoard>> results = service.getScoreBoardsByIds(List.of(scoreBoard.getId(), -1L));
+
+        // Assertions
+        assertEquals(List.of(BatchItemResult.success(0, scoreBoard), BatchItemResult.failure(1, LiveDataErrorCode.SCORE_BOARD_NOT_FOUND)), results);
+    }
+
     @Test
     void createScoreBoard_shouldThrowException_whenScoreBoardHasNotEnded() {
         // Arrange
@@ -107,14 +167,14 @@ class ScoreBoardServiceTest extends BaseUnitTest {
     }
 
     @Test
-    void getAllScoreBoards() {
+    void getAllScoreBoardResponses() {
         // Arrange
         Pageable pageable = Pageable.unpaged();
         // Act
-        service.getAllScoreBoards(pageable);
+        service.getAllScoreBoardResponses(pageable);
 
         // Assertions
-        verify(repository, times(1)).findAllByDeletedIsFalse(pageable);
+        verify(repository, times(1)).findAllResponsesByDeletedIsFalse(pageable);
     }
 
     @Test
@@ -162,6 +222,7 @@ class ScoreBoardServiceTest extends BaseUnitTest {
 
         // Assertions
         verify(repository).delete(any(ScoreBoard.class));
+        verify(standingsService).recordMatchEnded(any(ScoreBoard.class));
     }
 
     @Test
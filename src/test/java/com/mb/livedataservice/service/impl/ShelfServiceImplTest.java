@@ -0,0 +1,191 @@
+package com.mb.livedataservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mb.livedataservice.config.ShelfProperties;
+import com.mb.livedataservice.data.model.ShelfEntry;
+import com.mb.livedataservice.data.model.ShelfState;
+import com.mb.livedataservice.data.repository.ShelfRepository;
+import com.mb.livedataservice.data.repository.ShelfStateRepository;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.mb.livedataservice.util.RedisConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShelfServiceImplTest {
+
+    @Mock
+    private ShelfRepository shelfRepository;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ShelfProperties shelfProperties = getShelfProperties();
+
+    @Mock
+    private ShelfStateRepository shelfStateRepository;
+
+    @Spy
+    private Cache<Long, ShelfState> shelfStateCache = Caffeine.newBuilder().build();
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private ShelfServiceImpl shelfService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void insertOrUpdateAllOnConflictAsAtomic_ShouldUpsertSortedChunks_KeepingLatestStartDates() {
+        // Arrange
+        LocalDate latestStartDate = LocalDate.of(2026, 1, 1);
+        mockTransactionTemplate();
+        when(shelfRepository.findMaxStartDatesByProductIdIn(List.of(1L, 2L))).thenReturn(Map.of(2L, latestStartDate));
+        when(shelfRepository.findMaxStartDatesByProductIdIn(List.of(3L))).thenReturn(Map.of());
+        when(shelfRepository.insertOrUpdateAllOnConflict(anyList())).thenReturn(2, 1);
+
+        // Act
+        long upsertedCount = shelfService.insertOrUpdateAllOnConflictAsAtomic(Map.of(3L, true, 1L, false, 2L, true));
+
+        // Assertions
+        assertEquals(3, upsertedCount);
+        ArgumentCaptor<List<ShelfEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(shelfRepository, times(2)).insertOrUpdateAllOnConflict(entriesCaptor.capture());
+        List<ShelfEntry> firstChunk = entriesCaptor.getAllValues().getFirst();
+        assertEquals(List.of(1L, 2L), firstChunk.stream().map(ShelfEntry::getProductId).toList());
+        assertEquals(List.of(LocalDate.now(), latestStartDate), firstChunk.stream().map(ShelfEntry::getStartDate).toList());
+        assertEquals(List.of(false, true), firstChunk.stream().map(ShelfEntry::isActive).toList());
+        assertEquals(3L, entriesCaptor.getAllValues().getLast().getFirst().getProductId());
+        verify(outboxEventService, times(2)).appendAll(eq(ShelfEntry.class.getSimpleName()), eq(EntityChangeType.UPDATED), anyMap());
+        verify(shelfStateRepository).upsertAll(List.of(new ShelfState(1L, LocalDate.now(), false), new ShelfState(2L, latestStartDate, true)));
+        verify(shelfStateRepository).upsertAll(List.of(new ShelfState(3L, LocalDate.now(), true)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findCurrentStates_ShouldOnlyLoadProductsMissingFromCache() {
+        // Arrange
+        ShelfState first = new ShelfState(1L, LocalDate.of(2026, 1, 1), true);
+        ShelfState second = new ShelfState(2L, LocalDate.of(2026, 2, 1), false);
+        when(shelfStateRepository.findAllByProductIdIn(anyList())).thenReturn(Map.of(1L, first), Map.of(2L, second));
+        shelfService.findCurrentStates(List.of(1L));
+
+        // Act
+        Map<Long, ShelfState> states = shelfService.findCurrentStates(List.of(1L, 2L, 3L));
+
+        // Assertions
+        assertEquals(Map.of(1L, first, 2L, second), states);
+        ArgumentCaptor<List<Long>> productIdsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(shelfStateRepository, times(2)).findAllByProductIdIn(productIdsCaptor.capture());
+        assertEquals(Set.of(2L, 3L), Set.copyOf(productIdsCaptor.getAllValues().getLast()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findCurrentStates_ShouldReadMissingProducts_ChunkByChunk() {
+        // Arrange
+        when(shelfStateRepository.findAllByProductIdIn(anyList())).thenReturn(Map.of());
+
+        // Act
+        shelfService.findCurrentStates(List.of(1L, 2L, 3L));
+
+        // Assertions
+        ArgumentCaptor<List<Long>> productIdsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(shelfStateRepository, times(2)).findAllByProductIdIn(productIdsCaptor.capture());
+        assertEquals(List.of(2, 1), productIdsCaptor.getAllValues().stream().map(List::size).toList());
+    }
+
+    @Test
+    void checkCurrentStates_ShouldRebuildDriftedProducts_ChunkByChunk() {
+        // Arrange
+        mockTransactionTemplate();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(RedisConstants.SHELF_STATE_CHECK_LOCK_KEY), anyString(), eq(Duration.ofMinutes(30)))).thenReturn(true);
+        shelfStateCache.put(2L, new ShelfState(2L, LocalDate.of(2026, 1, 1), true));
+        when(shelfStateRepository.findEntryProductIdsAfter(Long.MIN_VALUE, 2)).thenReturn(List.of(1L, 2L));
+        when(shelfStateRepository.findEntryProductIdsAfter(2L, 2)).thenReturn(List.of(3L));
+        when(shelfStateRepository.findDriftedProductIds(Long.MIN_VALUE, 2L)).thenReturn(List.of(2L));
+        when(shelfStateRepository.findDriftedProductIds(2L, Long.MAX_VALUE)).thenReturn(List.of());
+
+        // Act
+        long repairedCount = shelfService.checkCurrentStates();
+
+        // Assertions
+        assertEquals(1, repairedCount);
+        verify(shelfStateRepository).rebuildAllByProductIdIn(List.of(2L));
+        verify(shelfStateRepository, times(1)).rebuildAllByProductIdIn(anyList());
+        assertNull(shelfStateCache.getIfPresent(2L));
+
+        ArgumentCaptor<String> runIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(RedisConstants.SHELF_STATE_CHECK_LOCK_KEY), runIdCaptor.capture(), eq(Duration.ofMinutes(30)));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(RedisConstants.SHELF_STATE_CHECK_LOCK_KEY)), eq(runIdCaptor.getValue()));
+    }
+
+    @Test
+    void checkCurrentStates_ShouldSkip_WhenAnotherRunHoldsTheLock() {
+        // Arrange
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(RedisConstants.SHELF_STATE_CHECK_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // Act
+        long repairedCount = shelfService.checkCurrentStates();
+
+        // Assertions
+        assertEquals(0, repairedCount);
+        verifyNoInteractions(shelfStateRepository, transactionTemplate);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockTransactionTemplate() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private static ShelfProperties getShelfProperties() {
+        ShelfProperties shelfProperties = new ShelfProperties();
+        shelfProperties.setBulkUpsertChunkSize(2);
+        shelfProperties.setStateCheckChunkSize(2);
+        shelfProperties.setStateReadChunkSize(2);
+        return shelfProperties;
+    }
+}
@@ -3,10 +3,13 @@ package com.mb.livedataservice.service.impl;
 import com.mb.livedataservice.data.model.EmailTemplate;
 import com.mb.livedataservice.queue.dto.EmailAttachment;
 import com.mb.livedataservice.queue.dto.EmailEventDto;
+import com.mb.livedataservice.service.EmailAttachmentStore;
 import com.mb.livedataservice.service.EmailTemplateService;
 import com.mb.livedataservice.service.ThymeleafTemplateService;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
 import org.instancio.Instancio;
 import org.instancio.Select;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,12 +65,15 @@ class SmtpEmailSenderTest {
     @Mock
     private ThymeleafTemplateService thymeleafTemplateService;
 
+    @Mock
+    private EmailAttachmentStore emailAttachmentStore;
+
     @Mock
     private MimeMessage mimeMessage;
 
     @BeforeEach
     void init() {
-        smtpEmailSender = new SmtpEmailSender(javaMailSender, emailTemplateService, thymeleafTemplateService);
+        smtpEmailSender = new SmtpEmailSender(javaMailSender, emailTemplateService, thymeleafTemplateService, emailAttachmentStore);
         ReflectionTestUtils.setField(smtpEmailSender, "emailFrom", "sender@test.com");
         ReflectionTestUtils.setField(smtpEmailSender, "subjectPrefix", "Prefix: ");
     }
@@ -267,8 +273,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(realMimeMessage);
         when(emailTemplateService.findActiveByCode("WELCOME_EMAIL")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(eq("Welcome [[${name}]]!"), anyMap())).thenReturn("Welcome John!");
-        when(thymeleafTemplateService.processTemplate(eq("Hello [[${name}]], welcome to our platform!"), anyMap())).thenReturn("Hello John, welcome to our platform!");
+        when(thymeleafTemplateService.processSubject(eq(template), anyMap())).thenReturn("Welcome John!");
+        when(thymeleafTemplateService.processBody(eq(template), anyMap())).thenReturn("Hello John, welcome to our platform!");
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -282,9 +288,9 @@ class SmtpEmailSenderTest {
         assertEquals("Hello John, welcome to our platform!", getTextFromMimeMessage(sentMessage));
 
         verify(emailTemplateService).findActiveByCode("WELCOME_EMAIL");
-        verify(thymeleafTemplateService).processTemplate(eq("Welcome [[${name}]]!"), anyMap());
-        verify(thymeleafTemplateService).processTemplate(eq("Hello [[${name}]], welcome to our platform!"), anyMap());
-        verify(thymeleafTemplateService, times(2)).processTemplate(anyString(), anyMap());
+        verify(thymeleafTemplateService).processSubject(eq(template), anyMap());
+        verify(thymeleafTemplateService).processBody(eq(template), anyMap());
+        verify(thymeleafTemplateService, never()).processTemplate(anyString(), anyMap());
     }
 
     @Test
@@ -299,8 +305,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(emailTemplateService.findActiveByCode("SIMPLE_EMAIL")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate("Simple Subject", null)).thenReturn("Simple Subject");
-        when(thymeleafTemplateService.processTemplate("Simple body without placeholders", null)).thenReturn("Simple body without placeholders");
+        when(thymeleafTemplateService.processSubject(template, null)).thenReturn("Simple Subject");
+        when(thymeleafTemplateService.processBody(template, null)).thenReturn("Simple body without placeholders");
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -309,8 +315,8 @@ class SmtpEmailSenderTest {
         // Assertions
         verify(javaMailSender).send(any(MimeMessage.class));
         verify(emailTemplateService).findActiveByCode("SIMPLE_EMAIL");
-        verify(thymeleafTemplateService).processTemplate("Simple Subject", null);
-        verify(thymeleafTemplateService).processTemplate("Simple body without placeholders", null);
+        verify(thymeleafTemplateService).processSubject(template, null);
+        verify(thymeleafTemplateService).processBody(template, null);
     }
 
     @Test
@@ -335,8 +341,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(realMimeMessage);
         when(emailTemplateService.findActiveByCode("ORDER_EMAIL")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(eq(template.getSubject()), anyMap())).thenReturn("Order 12345 confirmed");
-        when(thymeleafTemplateService.processTemplate(eq(template.getBody()), anyMap())).thenReturn("Dear John Doe, your order 12345 for $99.99 has been confirmed.");
+        when(thymeleafTemplateService.processSubject(eq(template), anyMap())).thenReturn("Order 12345 confirmed");
+        when(thymeleafTemplateService.processBody(eq(template), anyMap())).thenReturn("Dear John Doe, your order 12345 for $99.99 has been confirmed.");
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -344,8 +350,8 @@ class SmtpEmailSenderTest {
 
         // Assertions
         verify(javaMailSender).send(any(MimeMessage.class));
-        verify(thymeleafTemplateService).processTemplate(eq(template.getSubject()), anyMap());
-        verify(thymeleafTemplateService).processTemplate(eq(template.getBody()), anyMap());
+        verify(thymeleafTemplateService).processSubject(eq(template), anyMap());
+        verify(thymeleafTemplateService).processBody(eq(template), anyMap());
 
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
         verify(javaMailSender).send(messageCaptor.capture());
@@ -367,7 +373,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(emailTemplateService.findActiveByCode("NOTIFICATION")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(anyString(), anyMap())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(thymeleafTemplateService.processSubject(eq(template), anyMap())).thenReturn(template.getSubject());
+        when(thymeleafTemplateService.processBody(eq(template), anyMap())).thenReturn(template.getBody());
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -391,7 +398,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(emailTemplateService.findActiveByCode("WELCOME_EMAIL")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(thymeleafTemplateService.processSubject(eq(template), any())).thenReturn(template.getSubject());
+        when(thymeleafTemplateService.processBody(eq(template), any())).thenReturn(template.getBody());
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -414,8 +422,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(emailTemplateService.findActiveByCode("EMPTY_TEMPLATE")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(eq("Subject"), any())).thenReturn("Subject");
-        when(thymeleafTemplateService.processTemplate(eq("[[${content}]]"), any())).thenReturn(null);
+        when(thymeleafTemplateService.processSubject(eq(template), any())).thenReturn("Subject");
+        when(thymeleafTemplateService.processBody(eq(template), any())).thenReturn(null);
 
         // Act
         // Assertions
@@ -435,8 +443,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(emailTemplateService.findActiveByCode("EMPTY_TEMPLATE")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(eq("Subject"), any())).thenReturn("Subject");
-        when(thymeleafTemplateService.processTemplate(eq("[[${content}]]"), any())).thenReturn("");
+        when(thymeleafTemplateService.processSubject(eq(template), any())).thenReturn("Subject");
+        when(thymeleafTemplateService.processBody(eq(template), any())).thenReturn("");
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -497,8 +505,8 @@ class SmtpEmailSenderTest {
 
         when(javaMailSender.createMimeMessage()).thenReturn(realMimeMessage);
         when(emailTemplateService.findActiveByCode("ORDER_APPROVAL")).thenReturn(template);
-        when(thymeleafTemplateService.processTemplate(eq(template.getSubject()), anyMap())).thenReturn("2 adet sipariş onayınızı bekliyor");
-        when(thymeleafTemplateService.processTemplate(eq(template.getBody()), anyMap())).thenReturn(expectedBody);
+        when(thymeleafTemplateService.processSubject(eq(template), anyMap())).thenReturn("2 adet sipariş onayınızı bekliyor");
+        when(thymeleafTemplateService.processBody(eq(template), anyMap())).thenReturn(expectedBody);
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
 
         // Act
@@ -507,7 +515,7 @@ class SmtpEmailSenderTest {
         // Assertions
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
         verify(javaMailSender).send(messageCaptor.capture());
-        verify(thymeleafTemplateService, times(2)).processTemplate(anyString(), anyMap());
+        verify(thymeleafTemplateService, never()).processTemplate(anyString(), anyMap());
 
         MimeMessage sentMessage = messageCaptor.getValue();
         assertEquals("Prefix: 2 adet sipariş onayınızı bekliyor", sentMessage.getSubject());
@@ -519,14 +527,15 @@ class SmtpEmailSenderTest {
         assertTrue(messageContent.contains("Acil Sipariş"));
         assertTrue(messageContent.contains("₺45.000"));
 
-        // Verify template service was called with correct template strings
-        verify(thymeleafTemplateService).processTemplate(eq(template.getSubject()), anyMap());
-        verify(thymeleafTemplateService).processTemplate(eq(template.getBody()), anyMap());
+        // Verify template service was called with the template
+        verify(thymeleafTemplateService).processSubject(eq(template), anyMap());
+        verify(thymeleafTemplateService).processBody(eq(template), anyMap());
 
         // Verify the template parameters were passed correctly
         @SuppressWarnings("unchecked")
         ArgumentCaptor<Map<String, Object>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(thymeleafTemplateService, times(2)).processTemplate(anyString(), paramsCaptor.capture());
+        verify(thymeleafTemplateService).processSubject(eq(template), paramsCaptor.capture());
+        verify(thymeleafTemplateService).processBody(eq(template), paramsCaptor.capture());
 
         List<Map<String, Object>> capturedParams = paramsCaptor.getAllValues();
         assertThat(capturedParams).hasSize(2);
@@ -755,6 +764,35 @@ class SmtpEmailSenderTest {
         assertThat(sentMessage.getContent().getClass().getName()).contains("Multipart");
     }
 
+    @Test
+    void send_ShouldStreamAttachmentFromStore_WhenContentIsStoredByReference() throws Exception {
+        // Arrange
+        EmailAttachment attachment = EmailAttachment.builder()
+                .fileName("report.pdf")
+                .contentRef("a".repeat(64))
+                .contentType("application/pdf")
+                .build();
+
+        EmailEventDto emailEventDto = createValidEmailEventDto();
+        emailEventDto.setAttachments(List.of(attachment));
+
+        Session session = Session.getDefaultInstance(new Properties());
+        MimeMessage realMimeMessage = new MimeMessage(session);
+        when(javaMailSender.createMimeMessage()).thenReturn(realMimeMessage);
+        when(emailAttachmentStore.open("a".repeat(64), "application/pdf")).thenReturn(new ByteArrayDataSource("stored content".getBytes(), "application/pdf"));
+        doNothing().when(javaMailSender).send(any(MimeMessage.class));
+
+        // Act
+        smtpEmailSender.send(emailEventDto);
+
+        // Assertions
+        ArgumentCaptor<MimeMessage> captor = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(javaMailSender).send(captor.capture());
+        MimeMultipart multipart = (MimeMultipart) captor.getValue().getContent();
+        assertEquals("report.pdf", multipart.getBodyPart(1).getFileName());
+        assertEquals("stored content", new String(multipart.getBodyPart(1).getInputStream().readAllBytes()));
+    }
+
     private EmailEventDto createValidEmailEventDto() {
         return Instancio.of(EmailEventDto.class)
                 .set(Select.field(EmailEventDto::getId), Instancio.create(UUID.class))
@@ -0,0 +1,158 @@
+package com.mb.livedataservice.service.impl;
+
+import com.mb.livedataservice.config.StandingsProperties;
+import com.mb.livedataservice.data.model.ScoreBoard;
+import com.mb.livedataservice.data.model.redis.TeamStanding;
+import com.mb.livedataservice.data.repository.ScoreBoardRepository;
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.util.RedisConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsServiceImplTest {
+
+    private StandingsServiceImpl standingsService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ScoreBoardRepository scoreBoardRepository;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        StandingsProperties standingsProperties = new StandingsProperties();
+        standingsProperties.setRebuildBatchSize(2);
+        standingsService = new StandingsServiceImpl(stringRedisTemplate, scoreBoardRepository, standingsProperties);
+    }
+
+    @Test
+    void getStandings_ShouldReturnRankedPage() {
+        // Arrange
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.reverseRange(RedisConstants.STANDINGS_RANKING_KEY, 10, 11)).thenReturn(new LinkedHashSet<>(List.of("Spain", "Italy")));
+        when(hashOperations.multiGet(eq(RedisConstants.STANDINGS_STATS_KEY), anyCollection()))
+                .thenReturn(List.of("2", "2", "0", "0", "5", "1", "6", "2", "0", "1", "1", "2", "3", "1"));
+
+        // Act
+        List<TeamStanding> standings = standingsService.getStandings(5, 2);
+
+        // Assertions
+        assertEquals(List.of(new TeamStanding(11, "Spain", 2, 2, 0, 0, 5, 1, 6),
+                new TeamStanding(12, "Italy", 2, 0, 1, 1, 2, 3, 1)), standings);
+        assertEquals(-1, standings.get(1).goalDifference());
+    }
+
+    @Test
+    void getTeamStanding_ShouldThrowException_WhenTeamHasNoStanding() {
+        // Arrange
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRank(RedisConstants.STANDINGS_RANKING_KEY, "Spain")).thenReturn(null);
+
+        // Act
+        // Assertions
+        BaseException exception = assertThrows(BaseException.class, () -> standingsService.getTeamStanding("Spain"));
+        assertEquals(LiveDataErrorCode.TEAM_STANDING_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildStandings_ShouldAggregateEndedMatchesInBatches() {
+        // Arrange
+        ScoreBoard first = getEndedScoreBoard(1L, "Spain", "Italy", 2, 0);
+        ScoreBoard second = getEndedScoreBoard(2L, "Italy", "Brazil", 1, 1);
+        ScoreBoard third = getEndedScoreBoard(3L, "Brazil", "Spain", 3, 1);
+        when(scoreBoardRepository.findAllByDeletedIsTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(first, second));
+        when(scoreBoardRepository.findAllByDeletedIsTrueAndIdGreaterThanOrderByIdAsc(2L, Limit.of(2))).thenReturn(List.of(third));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(RedisConstants.STANDINGS_REBUILD_LOCK_KEY), anyString(), eq(Duration.ofMinutes(10)))).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // Act
+        int matchCount = standingsService.rebuildStandings();
+
+        // Assertions
+        assertEquals(3, matchCount);
+
+        ArgumentCaptor<String> runIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(RedisConstants.STANDINGS_REBUILD_LOCK_KEY), runIdCaptor.capture(), eq(Duration.ofMinutes(10)));
+        String runId = runIdCaptor.getValue();
+
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> rankingCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq(RedisConstants.STANDINGS_RANKING_KEY + ":rebuild:" + runId), rankingCaptor.capture());
+        assertEquals(Set.of(ZSetOperations.TypedTuple.of("Brazil", 4_000_002.0),
+                ZSetOperations.TypedTuple.of("Spain", 3_000_000.0),
+                ZSetOperations.TypedTuple.of("Italy", 999_998.0)), rankingCaptor.getValue());
+
+        ArgumentCaptor<Map<Object, Object>> statsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(eq(RedisConstants.STANDINGS_STATS_KEY + ":rebuild:" + runId), statsCaptor.capture());
+        assertEquals("2", statsCaptor.getValue().get("played:Spain"));
+        assertEquals("4", statsCaptor.getValue().get("points:Brazil"));
+        verify(stringRedisTemplate).execute(any(SessionCallback.class));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(RedisConstants.STANDINGS_REBUILD_LOCK_KEY)), eq(runId));
+    }
+
+    @Test
+    void rebuildStandings_ShouldSkip_WhenAnotherRunHoldsTheLock() {
+        // Arrange
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(RedisConstants.STANDINGS_REBUILD_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // Act
+        int matchCount = standingsService.rebuildStandings();
+
+        // Assertions
+        assertEquals(0, matchCount);
+        verifyNoInteractions(scoreBoardRepository);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    private static ScoreBoard getEndedScoreBoard(Long id, String homeTeamName, String awayTeamName, int homeTeamScore, int awayTeamScore) {
+        ScoreBoard scoreBoard = new ScoreBoard(homeTeamName, awayTeamName, homeTeamScore, awayTeamScore);
+        scoreBoard.setId(id);
+        scoreBoard.setDeleted(true);
+        return scoreBoard;
+    }
+}
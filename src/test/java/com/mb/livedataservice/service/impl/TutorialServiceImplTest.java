@@ -1,25 +1,48 @@
 package com.mb.livedataservice.service.impl;
 
+import com.mb.livedataservice.api.response.ApiTutorialResponse;
 import com.mb.livedataservice.base.BaseUnitTest;
+import com.mb.livedataservice.config.TutorialProperties;
+import com.mb.livedataservice.data.filter.TutorialFilter;
+import com.mb.livedataservice.data.model.BatchItemResult;
+import com.mb.livedataservice.data.model.QTutorial;
 import com.mb.livedataservice.data.model.Tutorial;
 import com.mb.livedataservice.data.repository.TutorialRepository;
+import com.mb.livedataservice.data.repository.TutorialSearchRepository;
 import com.mb.livedataservice.exception.BaseException;
 import com.mb.livedataservice.exception.LiveDataErrorCode;
+import com.mb.livedataservice.enums.EntityChangeType;
+import com.mb.livedataservice.service.OutboxEventService;
+import com.querydsl.core.BooleanBuilder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyLong;
-import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,31 +52,31 @@ class TutorialServiceImplTest extends BaseUnitTest {
     @Mock
     private TutorialRepository tutorialRepository;
 
-    @InjectMocks
-    private TutorialServiceImpl tutorialService;
+    @Mock
+    private TutorialSearchRepository tutorialSearchRepository;
 
-    @Test
-    void shouldFindByTitleContaining_WhenTitleIsNotBlank() {
-        List<Tutorial> tutorialList = getTutorials();
+    @Mock
+    private OutboxEventService outboxEventService;
 
-        when(tutorialRepository.findByTitleContaining(anyString())).thenReturn(tutorialList);
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
-        List<Tutorial> result = tutorialService.findByTitleContaining("title");
+    @Spy
+    private TutorialProperties tutorialProperties = getTutorialProperties();
 
-        Assertions.assertEquals(tutorialList, result);
-        Assertions.assertEquals(tutorialList.size(), result.size());
-    }
+    @InjectMocks
+    private TutorialServiceImpl tutorialService;
 
     @Test
-    void shouldFindByTitleContaining_WhenTitleIsBlank() {
+    void shouldSearch_WhenTextIsGiven() {
         List<Tutorial> tutorialList = getTutorials();
+        PageRequest pageRequest = PageRequest.of(1, 5);
 
-        when(tutorialRepository.findAll()).thenReturn(tutorialList);
+        when(tutorialSearchRepository.search("spring boot", pageRequest)).thenReturn(tutorialList);
 
-        List<Tutorial> result = tutorialService.findByTitleContaining(null);
+        List<Tutorial> result = tutorialService.search("spring boot", pageRequest);
 
         Assertions.assertEquals(tutorialList, result);
-        Assertions.assertEquals(tutorialList.size(), result.size());
     }
 
     @Test
@@ -127,33 +150,138 @@ class TutorialServiceImplTest extends BaseUnitTest {
 
 
     @Test
-    void shouldDeleteAll() {
-        tutorialService.deleteAll();
+    void shouldDeleteAll_InChunks() {
+        // Arrange
+        mockTransactionTemplate();
+        when(tutorialRepository.findIdsAfter(any(), eq(0L), eq(2))).thenReturn(List.of(1L, 2L));
+        when(tutorialRepository.findIdsAfter(any(), eq(2L), eq(2))).thenReturn(List.of(3L));
+        when(tutorialRepository.softDeleteAllByIdIn(List.of(1L, 2L))).thenReturn(2L);
+        when(tutorialRepository.softDeleteAllByIdIn(List.of(3L))).thenReturn(1L);
+
+        // Act
+        long deletedCount = tutorialService.deleteAll();
 
-        verify(tutorialRepository).deleteAll();
+        // Assertions
+        Assertions.assertEquals(3, deletedCount);
+        verify(outboxEventService).append(Tutorial.class.getSimpleName(), "*", EntityChangeType.BULK_DELETED, Map.of("ids", List.of(1L, 2L)));
+        verify(outboxEventService).append(Tutorial.class.getSimpleName(), "*", EntityChangeType.ALL_DELETED, Map.of());
+        verify(tutorialRepository, never()).deleteAll();
     }
 
     @Test
-    void shouldFindByPublished_WhenPublishedIsTrue() {
-        List<Tutorial> tutorials = getTutorials();
+    void shouldDeleteByFilter_WhenNothingMatches() {
+        // Arrange
+        TutorialFilter tutorialFilter = new TutorialFilter("title", null, null);
+        when(tutorialRepository.findIdsAfter(tutorialFilter.toPredicate(), 0L, 2)).thenReturn(List.of());
 
-        when(tutorialRepository.findByPublished(true)).thenReturn(tutorials);
+        // Act
+        long deletedCount = tutorialService.deleteAll(tutorialFilter);
 
-        List<Tutorial> result = tutorialService.findByPublished(true);
+        // Assertions
+        Assertions.assertEquals(0, deletedCount);
+        verify(tutorialRepository, never()).softDeleteAllByIdIn(any());
+    }
 
-        Assertions.assertEquals(tutorials, result);
-        Assertions.assertEquals(tutorials.size(), result.size());
+    @Test
+    void shouldThrowException_WhenDeleteFilterIsEmpty() {
+        // Arrange
+        TutorialFilter tutorialFilter = new TutorialFilter(" ", null, null);
+
+        // Act
+        // Assertions
+        BaseException exception = assertThrows(BaseException.class, () -> tutorialService.deleteAll(tutorialFilter));
+        Assertions.assertEquals(LiveDataErrorCode.FILTER_REQUIRED, exception.getErrorCode());
+        verify(tutorialRepository, never()).findIdsAfter(any(), anyLong(), anyInt());
+        verify(tutorialRepository, never()).softDeleteAllByIdIn(any());
     }
 
     @Test
-    void shouldFindByPublished_WhenPublishedIsFalse() {
-        List<Tutorial> tutorials = getTutorials();
+    void shouldDeleteAllById_InChunksOfDistinctIds() {
+        // Arrange
+        mockTransactionTemplate();
+        when(tutorialRepository.softDeleteAllByIdIn(List.of(1L, 2L))).thenReturn(2L);
+        when(tutorialRepository.softDeleteAllByIdIn(List.of(3L))).thenReturn(0L);
+
+        // Act
+        long deletedCount = tutorialService.deleteAllById(List.of(1L, 2L, 2L, 3L));
 
-        when(tutorialRepository.findByPublished(false)).thenReturn(tutorials);
+        // Assertions
+        Assertions.assertEquals(2, deletedCount);
+    }
 
-        List<Tutorial> result = tutorialService.findByPublished(false);
+    @Test
+    void shouldUpdateAll_AndReportFailuresPerItem() {
+        // Arrange
+        Tutorial existingTutorial = new Tutorial("Title", "Description", false);
+        existingTutorial.setId(1L);
+        Tutorial update = new Tutorial("Updated", "Updated", true);
+        update.setId(1L);
+        Tutorial missing = new Tutorial("Updated", "Updated", true);
+        missing.setId(2L);
+        Tutorial invalid = new Tutorial(null, "Updated", true);
+        invalid.setId(3L);
+        when(tutorialRepository.findAllById(any())).thenReturn(List.of(existingTutorial));
+        when(tutorialRepository.saveAll(List.of(existingTutorial))).thenReturn(List.of(existingTutorial));
+
+        // Act
+        List<BatchItemResult<Tutorial>> results = tutorialService.updateAll(List.of(update, missing, invalid, update));
+
+        // Assertions
+        Assertions.assertEquals(List.of(BatchItemResult.success(0, existingTutorial),
+                BatchItemResult.failure(1, LiveDataErrorCode.NOT_FOUND),
+                BatchItemResult.failure(2, LiveDataErrorCode.VALIDATION_ERROR),
+                BatchItemResult.failure(3, LiveDataErrorCode.VALIDATION_ERROR)), results);
+        Assertions.assertEquals("Updated", existingTutorial.getTitle());
+        Assertions.assertTrue(existingTutorial.isPublished());
+        verify(outboxEventService).appendAll(Tutorial.class.getSimpleName(), EntityChangeType.UPDATED, Map.of(1L, existingTutorial));
+    }
+
+    @Test
+    void shouldThrowException_WhenBatchIsTooLarge() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        // Act
+        // Assertions
+        BaseException exception = assertThrows(BaseException.class, () -> tutorialService.findAllById(ids));
+        Assertions.assertEquals(LiveDataErrorCode.BATCH_SIZE_EXCEEDED, exception.getErrorCode());
+    }
+
+    @Test
+    void shouldFindOnePageOfResponses() {
+        List<ApiTutorialResponse> apiTutorialResponses = getApiTutorialResponses();
+        PageRequest pageable = PageRequest.of(1, 2);
+
+        when(tutorialRepository.findAllResponses(new BooleanBuilder(), pageable)).thenReturn(new PageImpl<>(apiTutorialResponses, pageable, 10));
+
+        List<ApiTutorialResponse> result = tutorialService.findResponses(pageable);
+
+        Assertions.assertEquals(apiTutorialResponses, result);
+    }
+
+    @Test
+    void shouldFindResponsesByPublished_WhenPublishedIsTrue() {
+        List<ApiTutorialResponse> apiTutorialResponses = getApiTutorialResponses();
+
+        when(tutorialRepository.findAllResponses(QTutorial.tutorial.published.eq(true))).thenReturn(apiTutorialResponses);
+
+        List<ApiTutorialResponse> result = tutorialService.findResponsesByPublished(true);
+
+        Assertions.assertEquals(apiTutorialResponses, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockTransactionTemplate() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
 
-        Assertions.assertEquals(tutorials, result);
-        Assertions.assertEquals(tutorials.size(), result.size());
+    private static TutorialProperties getTutorialProperties() {
+        TutorialProperties tutorialProperties = new TutorialProperties();
+        tutorialProperties.setBulkDeleteChunkSize(2);
+        return tutorialProperties;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.mb.livedataservice.util;
+
+import com.mb.livedataservice.exception.BaseException;
+import com.mb.livedataservice.exception.LiveDataErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchUtilsTest {
+
+    @Test
+    void validateBatchSize_ShouldAcceptMaxBatchSize() {
+        // Act
+        // Assertions
+        assertDoesNotThrow(() -> BatchUtils.validateBatchSize(LiveDataConstants.MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void validateBatchSize_ShouldThrowException_WhenSizeExceedsMaxBatchSize() {
+        // Act
+        BaseException exception = assertThrows(BaseException.class, () -> BatchUtils.validateBatchSize(LiveDataConstants.MAX_BATCH_SIZE + 1));
+
+        // Assertions
+        assertEquals(LiveDataErrorCode.BATCH_SIZE_EXCEEDED, exception.getErrorCode());
+    }
+
+    @Test
+    void byId_ShouldKeepOrderAndFirstEntity_WhenIdIsRepeated() {
+        // Arrange
+        List<String> entities = List.of("2:first", "1:only", "2:second");
+
+        // Act
+        Map<Long, String> result = BatchUtils.byId(entities, entity -> Long.valueOf(entity.substring(0, 1)));
+
+        // Assertions
+        assertThat(result).containsExactly(Map.entry(2L, "2:first"), Map.entry(1L, "1:only"));
+    }
+}